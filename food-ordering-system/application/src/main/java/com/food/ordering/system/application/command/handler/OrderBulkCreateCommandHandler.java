@@ -0,0 +1,178 @@
+package com.food.ordering.system.application.command.handler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.application.command.CreateOrderCommand;
+import com.food.ordering.system.application.dto.bulk.BulkCreateOrderResult;
+import com.food.ordering.system.application.helper.OrderCreateHelper;
+import com.food.ordering.system.application.mapper.OrderDataMapper;
+import com.food.ordering.system.application.ports.output.CustomerRepository;
+import com.food.ordering.system.application.ports.output.RestaurantRepository;
+import com.food.ordering.system.domain.entities.Order;
+import com.food.ordering.system.domain.entities.Restaurant;
+import com.food.ordering.system.domain.events.OrderCreatedEvent;
+import com.food.ordering.system.domain.events.OrderDomainService;
+import com.food.ordering.system.domain.exceptions.DomainException;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates one chunk of a bulk upload. Customers and restaurants are looked up
+ * once per distinct id for the whole chunk and every order is validated before
+ * any write; the valid ones are then persisted in a single transaction. A
+ * rejected order only fails its own result.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderBulkCreateCommandHandler {
+	
+	private final OrderDomainService orderDomainService;
+	
+	private final CustomerRepository customerRepository;
+	
+	private final RestaurantRepository restaurantRepository;
+	
+	private final OrderCreateHelper orderCreateHelper;
+	
+	private final OrderDataMapper orderDataMapper;
+	
+	private final Validator validator;
+	
+	public List<BulkCreateOrderResult> createOrders(List<CreateOrderCommand> createOrderCommands, int firstIndex) {
+		
+		BulkCreateOrderResult[] results = new BulkCreateOrderResult[createOrderCommands.size()];
+		
+		List<Integer> validPositions = new ArrayList<>(createOrderCommands.size());
+		for (int i = 0; i < createOrderCommands.size(); i++) {
+			String violations = validate(createOrderCommands.get(i));
+			if (violations == null) {
+				validPositions.add(i);
+			} else {
+				results[i] = BulkCreateOrderResult.failed(firstIndex + i, violations);
+			}
+		}
+		
+		Set<UUID> customerIds = findExistingCustomers(createOrderCommands, validPositions);
+		Map<RestaurantId, Restaurant> restaurants = findRestaurants(createOrderCommands, validPositions);
+		
+		List<Integer> initiatedPositions = new ArrayList<>(validPositions.size());
+		List<OrderCreatedEvent> orderCreatedEvents = new ArrayList<>(validPositions.size());
+		
+		for (int position : validPositions) {
+			CreateOrderCommand createOrderCommand = createOrderCommands.get(position);
+			
+			if (!customerIds.contains(createOrderCommand.customerId())) {
+				results[position] = BulkCreateOrderResult.failed(firstIndex + position, 
+						"Could not find customer with customer id: " + createOrderCommand.customerId());
+				continue;
+			}
+			
+			Restaurant restaurant = restaurants.get(new RestaurantId(createOrderCommand.restaurantId()));
+			if (restaurant == null) {
+				results[position] = BulkCreateOrderResult.failed(firstIndex + position, 
+						"Could not find restaurant with id: " + createOrderCommand.restaurantId());
+				continue;
+			}
+			
+			try {
+				Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+				orderCreatedEvents.add(orderDomainService.validateAndInitiateOrder(order, restaurant));
+				initiatedPositions.add(position);
+			} catch (DomainException | IllegalStateException e) {
+				results[position] = BulkCreateOrderResult.failed(firstIndex + position, e.getMessage());
+			}
+		}
+		
+		persist(orderCreatedEvents, initiatedPositions, firstIndex, results);
+		
+		return List.of(results);
+	}
+	
+	private void persist(List<OrderCreatedEvent> orderCreatedEvents, List<Integer> initiatedPositions, 
+			int firstIndex, BulkCreateOrderResult[] results) {
+		if (orderCreatedEvents.isEmpty()) {
+			return;
+		}
+		
+		try {
+			orderCreateHelper.persistOrders(orderCreatedEvents);
+		} catch (RuntimeException e) {
+			log.error("Could not persist bulk chunk starting at index: {}", firstIndex, e);
+			for (int position : initiatedPositions) {
+				results[position] = BulkCreateOrderResult.failed(firstIndex + position, "Could not save order.");
+			}
+			return;
+		}
+		
+		for (int i = 0; i < initiatedPositions.size(); i++) {
+			int position = initiatedPositions.get(i);
+			Order order = orderCreatedEvents.get(i).getOrder();
+			results[position] = new BulkCreateOrderResult(firstIndex + position, true, 
+					order.getTrackingId().getValue(), order.getStatus(), OrderCreateHelper.CREATED_MESSAGE);
+		}
+	}
+	
+	private String validate(CreateOrderCommand createOrderCommand) {
+		if (createOrderCommand == null) {
+			return "Order is empty";
+		}
+		
+		Set<ConstraintViolation<CreateOrderCommand>> violations = validator.validate(createOrderCommand);
+		
+		if (violations.isEmpty()) {
+			return null;
+		}
+		
+		return violations.stream()
+				.map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+				.collect(Collectors.joining(", "));
+	}
+	
+	private Set<UUID> findExistingCustomers(List<CreateOrderCommand> createOrderCommands, List<Integer> positions) {
+		Set<UUID> requested = new HashSet<>();
+		for (int position : positions) {
+			requested.add(createOrderCommands.get(position).customerId());
+		}
+		
+		if (requested.isEmpty()) {
+			return Collections.emptySet();
+		}
+		
+		return customerRepository.findCustomers(requested)
+				.stream()
+				.map(customer -> customer.getId().getValue())
+				.collect(Collectors.toSet());
+	}
+	
+	private Map<RestaurantId, Restaurant> findRestaurants(List<CreateOrderCommand> createOrderCommands, 
+			List<Integer> positions) {
+		Set<RestaurantId> requested = new HashSet<>();
+		for (int position : positions) {
+			requested.add(new RestaurantId(createOrderCommands.get(position).restaurantId()));
+		}
+		
+		if (requested.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		
+		return restaurantRepository.findRestaurantsInformation(requested)
+				.stream()
+				.collect(Collectors.toMap(Restaurant::getId, Function.identity()));
+	}
+
+}
@@ -0,0 +1,111 @@
+package com.food.ordering.system.application.command.handler;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.application.command.CreateOrderCommand;
+import com.food.ordering.system.application.dto.CreateOrderResponse;
+import com.food.ordering.system.application.exceptions.DuplicateIdempotencyKeyException;
+import com.food.ordering.system.application.exceptions.IdempotencyKeyReusedException;
+import com.food.ordering.system.application.helper.OrderCreateHelper;
+import com.food.ordering.system.application.idempotency.RequestFingerprint;
+import com.food.ordering.system.application.idempotency.model.IdempotentRequest;
+import com.food.ordering.system.application.mapper.OrderDataMapper;
+import com.food.ordering.system.application.ports.output.IdempotentRequestRepository;
+import com.food.ordering.system.domain.events.OrderCreatedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class OrderCreateCommandHandler {
+	
+	private final OrderCreateHelper orderCreateHelper;
+	private final OrderDataMapper orderDataMapper;
+	private final IdempotentRequestRepository idempotentRequestRepository;
+	
+	private final Timer persistSuccessTimer;
+	private final Timer persistFailureTimer;
+	private final Counter replayedCounter;
+	
+	public OrderCreateCommandHandler(OrderCreateHelper orderCreateHelper, OrderDataMapper orderDataMapper,
+			IdempotentRequestRepository idempotentRequestRepository, MeterRegistry meterRegistry) {
+		this.orderCreateHelper = orderCreateHelper;
+		this.orderDataMapper = orderDataMapper;
+		this.idempotentRequestRepository = idempotentRequestRepository;
+		this.persistSuccessTimer = persistTimer(meterRegistry, "success");
+		this.persistFailureTimer = persistTimer(meterRegistry, "failure");
+		this.replayedCounter = Counter.builder("order.create.replayed")
+				.description("Create requests answered from the idempotency store")
+				.register(meterRegistry);
+	}
+	
+	public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
+		return createOrder(createOrderCommand, null);
+	}
+	
+	/**
+	 * A request carrying an idempotency key that was already used gets the response
+	 * of the first request back, without any lookup, write or message.
+	 */
+	public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand, String idempotencyKey) {
+		if (idempotencyKey != null) {
+			Optional<CreateOrderResponse> replayed = replay(idempotencyKey, createOrderCommand);
+			if (replayed.isPresent()) {
+				return replayed.get();
+			}
+		}
+		
+		// Timed from outside persistOrder so the commit of its transaction is included.
+		long start = System.nanoTime();
+		OrderCreatedEvent orderCreatedEvent;
+		try {
+			orderCreatedEvent = orderCreateHelper.persistOrder(createOrderCommand, idempotencyKey);
+		} catch (DuplicateIdempotencyKeyException e) {
+			// A concurrent request with the same key committed first.
+			persistFailureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			return replay(idempotencyKey, createOrderCommand).orElseThrow(() -> e);
+		} catch (RuntimeException e) {
+			persistFailureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			throw e;
+		}
+		persistSuccessTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		
+		log.info("Order is created with tracking id: {}", orderCreatedEvent.getOrder().getTrackingId().getValue());
+		
+		return orderDataMapper.orderToCreateOrderResponse(orderCreatedEvent.getOrder(), OrderCreateHelper.CREATED_MESSAGE);
+	}
+	
+	private Optional<CreateOrderResponse> replay(String idempotencyKey, CreateOrderCommand createOrderCommand) {
+		Optional<IdempotentRequest> idempotentRequest = idempotentRequestRepository.findByIdempotencyKey(idempotencyKey);
+		
+		if (idempotentRequest.isEmpty()) {
+			return Optional.empty();
+		}
+		
+		if (!RequestFingerprint.matches(idempotentRequest.get().requestFingerprint(), createOrderCommand)) {
+			throw new IdempotencyKeyReusedException("Idempotency key " + idempotencyKey 
+					+ " was already used for a different order request");
+		}
+		
+		replayedCounter.increment();
+		log.info("Replaying order with tracking id: {} for idempotency key: {}", 
+				idempotentRequest.get().response().orderTrackingId(), idempotencyKey);
+		
+		return Optional.of(idempotentRequest.get().response());
+	}
+	
+	private static Timer persistTimer(MeterRegistry meterRegistry, String outcome) {
+		return Timer.builder("order.create.persist")
+				.description("Order, outbox and projection write including the commit")
+				.tag("outcome", outcome)
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+	}
+
+}
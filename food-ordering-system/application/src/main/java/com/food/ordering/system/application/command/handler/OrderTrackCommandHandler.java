@@ -6,7 +6,8 @@ import com.food.ordering.system.application.dto.track.TrackOrderQuery;
 import com.food.ordering.system.application.dto.track.TrackOrderResponse;
 import com.food.ordering.system.application.mapper.OrderDataMapper;
 import com.food.ordering.system.application.ports.output.OrderRepository;
-import com.food.ordering.system.domain.exceptions.OrderException;
+import com.food.ordering.system.application.ports.output.OrderTrackingRepository;
+import com.food.ordering.system.domain.exceptions.OrderNotFoundException;
 import com.food.ordering.system.domain.valueobject.TrackingId;
 
 import lombok.RequiredArgsConstructor;
@@ -17,16 +18,27 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class OrderTrackCommandHandler {
 	
+	private final OrderTrackingRepository orderTrackingRepository;
 	private final OrderRepository orderRepository;
 	private final OrderDataMapper orderDataMapper;
 	
+	/**
+	 * Served from the tracking projection; the aggregate is only hydrated for orders
+	 * created before the projection existed.
+	 */
 	public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
-		log.info("Tracking order with tracking id: {}", trackOrderQuery.orderTrackingId());
+		log.debug("Tracking order with tracking id: {}", trackOrderQuery.orderTrackingId());
+		
+		var orderTrackingView = orderTrackingRepository.findByTrackingId(trackOrderQuery.orderTrackingId());
+		
+		if (orderTrackingView.isPresent()) {
+			return orderDataMapper.orderTrackingViewToTrackOrderResponse(orderTrackingView.get());
+		}
 		
 		var trackingId = new TrackingId(trackOrderQuery.orderTrackingId());
 		
 		var order = orderRepository.findByTrackingId(trackingId)
-				.orElseThrow(() -> new OrderException(
+				.orElseThrow(() -> new OrderNotFoundException(
 						"Order with tracking id " + trackOrderQuery.orderTrackingId() + " not found"));
 		
 		return orderDataMapper.orderToTrackOrderResponse(order);
@@ -0,0 +1,19 @@
+package com.food.ordering.system.application.dto.bulk;
+
+import java.util.List;
+
+public record BulkCreateOrderResponse(
+		
+		int received,
+		
+		int created,
+		
+		int failed,
+		
+		List<BulkCreateOrderResult> results,
+		
+		String error
+		
+		) {
+
+}
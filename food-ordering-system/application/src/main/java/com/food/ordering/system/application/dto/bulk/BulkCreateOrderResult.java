@@ -0,0 +1,25 @@
+package com.food.ordering.system.application.dto.bulk;
+
+import java.util.UUID;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+public record BulkCreateOrderResult(
+		
+		int index,
+		
+		boolean created,
+		
+		UUID orderTrackingId,
+		
+		OrderStatus orderStatus,
+		
+		String message
+		
+		) {
+	
+	public static BulkCreateOrderResult failed(int index, String message) {
+		return new BulkCreateOrderResult(index, false, null, null, message);
+	}
+
+}
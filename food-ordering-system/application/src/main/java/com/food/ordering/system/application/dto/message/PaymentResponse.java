@@ -1,26 +1,27 @@
 package com.food.ordering.system.application.dto.message;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
+import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.PaymentStatus;
 
 import jakarta.validation.constraints.NotNull;
 
 public record PaymentResponse ( 
 		
-		@NotNull String id,
+		@NotNull UUID id,
 		
-		@NotNull String sagaId,
+		@NotNull UUID sagaId,
 		
-		@NotNull String orderId,
+		@NotNull UUID orderId,
 		
-		@NotNull String paymentId,
+		@NotNull UUID paymentId,
 		
-		@NotNull String customerId,
+		@NotNull UUID customerId,
 		
-		@NotNull BigDecimal price,
+		@NotNull Money price,
 		
 		@NotNull Instant createAt,
 		
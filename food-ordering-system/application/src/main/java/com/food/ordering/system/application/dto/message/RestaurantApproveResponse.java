@@ -1,18 +1,19 @@
 package com.food.ordering.system.application.dto.message;
 
 import java.util.List;
+import java.util.UUID;
 
 import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 
 public record RestaurantApproveResponse(
 		
-		String id,
+		UUID id,
 		
-		String sagaId,
+		UUID sagaId,
 		
-		String orderId,
+		UUID orderId,
 		
-		String restaurantId,
+		UUID restaurantId,
 		
 		OrderApprovalStatus orderApprovalStatus,
 		
@@ -0,0 +1,11 @@
+package com.food.ordering.system.application.exceptions;
+
+public class DuplicateIdempotencyKeyException extends RuntimeException{
+
+	private static final long serialVersionUID = 1L;
+	
+	public DuplicateIdempotencyKeyException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+}
@@ -0,0 +1,11 @@
+package com.food.ordering.system.application.exceptions;
+
+public class IdempotencyKeyReusedException extends RuntimeException{
+
+	private static final long serialVersionUID = 1L;
+	
+	public IdempotencyKeyReusedException(String message) {
+		super(message);
+	}
+	
+}
@@ -1,5 +1,6 @@
 package com.food.ordering.system.application.helper;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -7,10 +8,16 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.food.ordering.system.application.command.CreateOrderCommand;
+import com.food.ordering.system.application.idempotency.RequestFingerprint;
+import com.food.ordering.system.application.idempotency.model.IdempotentRequest;
 import com.food.ordering.system.application.mapper.OrderDataMapper;
+import com.food.ordering.system.application.outbox.PaymentOutboxHelper;
+import com.food.ordering.system.application.projection.OrderTrackingProjectionHandler;
 import com.food.ordering.system.application.ports.output.CustomerRepository;
+import com.food.ordering.system.application.ports.output.IdempotentRequestRepository;
 import com.food.ordering.system.application.ports.output.OrderRepository;
 import com.food.ordering.system.application.ports.output.RestaurantRepository;
+import com.food.ordering.system.application.saga.OrderSagaOrchestrator;
 import com.food.ordering.system.domain.entities.Customer;
 import com.food.ordering.system.domain.entities.Order;
 import com.food.ordering.system.domain.entities.Restaurant;
@@ -26,6 +33,8 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class OrderCreateHelper {
 	
+	public static final String CREATED_MESSAGE = "Order created successfully";
+	
 	private final OrderDomainService orderDomainService;
 	
 	private final OrderRepository orderRepository;
@@ -36,8 +45,26 @@ public class OrderCreateHelper {
 
 	private final RestaurantRepository restauranteRepository;
 	
+	private final PaymentOutboxHelper paymentOutboxHelper;
+	
+	private final OrderTrackingProjectionHandler orderTrackingProjectionHandler;
+	
+	private final IdempotentRequestRepository idempotentRequestRepository;
+	
+	private final OrderSagaOrchestrator orderSagaOrchestrator;
+	
 	@Transactional
 	public OrderCreatedEvent persistOrder(CreateOrderCommand createOrderCommand) {
+		return persistOrder(createOrderCommand, null);
+	}
+	
+	/**
+	 * With an idempotency key, the key and the response are stored before the order
+	 * rows in the same transaction, so a concurrent request with the same key fails
+	 * on the unique key before writing anything and no order exists without its key.
+	 */
+	@Transactional
+	public OrderCreatedEvent persistOrder(CreateOrderCommand createOrderCommand, String idempotencyKey) {
 		
 		checkCustomer(createOrderCommand.customerId()); 
 		
@@ -46,7 +73,13 @@ public class OrderCreateHelper {
 		Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
 		
 		OrderCreatedEvent orderCreatedEvent = orderDomainService.validateAndInitiateOrder(order, restaurant);
+		if (idempotencyKey != null) {
+			idempotentRequestRepository.save(new IdempotentRequest(idempotencyKey, RequestFingerprint.of(createOrderCommand), 
+					orderDataMapper.orderToCreateOrderResponse(order, CREATED_MESSAGE), orderCreatedEvent.getCreatedAtUtc()));
+		}
 		saveOrder(order);
+		orderSagaOrchestrator.started(List.of(paymentOutboxHelper.savePaymentOutboxMessage(orderCreatedEvent)));
+		orderTrackingProjectionHandler.orderCreated(orderCreatedEvent);
 		
 		log.info("Order is created with id: {}", orderCreatedEvent.getOrder().getId().getValue());
 		
@@ -54,6 +87,22 @@ public class OrderCreateHelper {
 	}
 	
 	
+	/**
+	 * Persists orders that were already validated and initiated, with their payment
+	 * outbox messages and tracking rows, as one batched transaction.
+	 */
+	@Transactional
+	public void persistOrders(List<OrderCreatedEvent> orderCreatedEvents) {
+		
+		List<Order> orders = orderCreatedEvents.stream().map(OrderCreatedEvent::getOrder).toList();
+		
+		orderRepository.insertAll(orders);
+		orderSagaOrchestrator.started(paymentOutboxHelper.savePaymentOutboxMessages(orderCreatedEvents));
+		orderTrackingProjectionHandler.ordersCreated(orderCreatedEvents);
+		
+		log.info("{} orders are created", orders.size());
+	}
+	
 	private void checkCustomer(UUID customerId) {
 		
 	Optional<Customer> customer = customerRepository.findCustomer(customerId);
@@ -81,7 +130,7 @@ public class OrderCreateHelper {
 	
 	
 	private Order saveOrder(Order order) {
-		Order orderResult = orderRepository.save(order);
+		Order orderResult = orderRepository.insert(order);
 		
 		if (orderResult == null) {
 			throw new OrderException("Could not save order.");
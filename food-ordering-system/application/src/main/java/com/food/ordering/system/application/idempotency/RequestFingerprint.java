@@ -0,0 +1,118 @@
+package com.food.ordering.system.application.idempotency;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+
+import com.food.ordering.system.application.command.CreateOrderCommand;
+import com.food.ordering.system.application.dto.OrderAddress;
+import com.food.ordering.system.application.dto.OrderItem;
+
+/**
+ * SHA-256 of a canonical form of a create request, stored with its idempotency
+ * key to tell a retry from a different request reusing the key. Amounts are
+ * hashed without trailing zeros, so 10.0 and 10.00 are the same request, and
+ * every field is length-prefixed or fixed-size, so no two requests share an
+ * encoding.
+ */
+public final class RequestFingerprint {
+	
+	public static final int SIZE = 32;
+	
+	private static final byte NULL = 0;
+	
+	private static final byte PRESENT = 1;
+	
+	private RequestFingerprint() {
+	}
+	
+	public static byte[] of(CreateOrderCommand createOrderCommand) {
+		MessageDigest digest = sha256();
+		
+		putUuid(digest, createOrderCommand.customerId());
+		putUuid(digest, createOrderCommand.restaurantId());
+		putAmount(digest, createOrderCommand.price());
+		
+		if (createOrderCommand.items() == null) {
+			digest.update(NULL);
+		} else {
+			digest.update(PRESENT);
+			putInt(digest, createOrderCommand.items().size());
+			for (OrderItem item : createOrderCommand.items()) {
+				if (item == null) {
+					digest.update(NULL);
+					continue;
+				}
+				digest.update(PRESENT);
+				putUuid(digest, item.productId());
+				putInt(digest, item.quantity());
+				putAmount(digest, item.price());
+				putAmount(digest, item.subtotal());
+			}
+		}
+		
+		OrderAddress address = createOrderCommand.address();
+		if (address == null) {
+			digest.update(NULL);
+		} else {
+			digest.update(PRESENT);
+			putString(digest, address.street());
+			putString(digest, address.postalCode());
+			putString(digest, address.city());
+		}
+		
+		return digest.digest();
+	}
+	
+	public static boolean matches(byte[] fingerprint, CreateOrderCommand createOrderCommand) {
+		return MessageDigest.isEqual(fingerprint, of(createOrderCommand));
+	}
+	
+	private static void putUuid(MessageDigest digest, UUID value) {
+		if (value == null) {
+			digest.update(NULL);
+			return;
+		}
+		digest.update(PRESENT);
+		digest.update(ByteBuffer.allocate(16)
+				.putLong(value.getMostSignificantBits())
+				.putLong(value.getLeastSignificantBits())
+				.array());
+	}
+	
+	private static void putAmount(MessageDigest digest, BigDecimal value) {
+		putString(digest, value == null ? null : value.stripTrailingZeros().toPlainString());
+	}
+	
+	private static void putInt(MessageDigest digest, Integer value) {
+		if (value == null) {
+			digest.update(NULL);
+			return;
+		}
+		digest.update(PRESENT);
+		digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(value).array());
+	}
+	
+	private static void putString(MessageDigest digest, String value) {
+		if (value == null) {
+			digest.update(NULL);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		putInt(digest, bytes.length);
+		digest.update(bytes);
+	}
+	
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// Every Java platform is required to provide SHA-256.
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -0,0 +1,19 @@
+package com.food.ordering.system.application.idempotency.model;
+
+import java.time.ZonedDateTime;
+
+import com.food.ordering.system.application.dto.CreateOrderResponse;
+
+public record IdempotentRequest(
+		
+		String idempotencyKey,
+		
+		byte[] requestFingerprint,
+		
+		CreateOrderResponse response,
+		
+		ZonedDateTime createdAt
+		
+		) {
+
+}
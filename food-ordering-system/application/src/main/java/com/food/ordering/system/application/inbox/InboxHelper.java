@@ -0,0 +1,78 @@
+package com.food.ordering.system.application.inbox;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.food.ordering.system.application.inbox.model.ProcessedMessage;
+import com.food.ordering.system.application.ports.output.ProcessedMessageRepository;
+import com.food.ordering.system.domain.common.DomainClock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drops response messages that were already applied. Kafka delivers at least
+ * once, so a rebalance can hand the same payment or approval response to the
+ * service again; applying it twice would fail the order transition. The ids are
+ * recorded in the transaction that applies the messages.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InboxHelper {
+	
+	private final ProcessedMessageRepository processedMessageRepository;
+	
+	private final DomainClock domainClock;
+	
+	@Transactional(propagation = Propagation.MANDATORY)
+	public boolean accept(UUID messageId, UUID sagaId) {
+		return !acceptAll(List.of(messageId), Function.identity(), id -> sagaId).isEmpty();
+	}
+	
+	/**
+	 * Returns the messages not seen before, in their original order and without
+	 * repeats inside the batch, and marks them processed.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public <T> List<T> acceptAll(List<T> messages, Function<T, UUID> messageId, Function<T, UUID> sagaId) {
+		
+		Map<UUID, T> byId = new LinkedHashMap<>();
+		for (T message : messages) {
+			byId.putIfAbsent(messageId.apply(message), message);
+		}
+		
+		Set<UUID> processed = processedMessageRepository.findProcessed(byId.keySet());
+		
+		ZonedDateTime now = domainClock.now().atZone(DomainClock.ZONE);
+		List<T> accepted = new ArrayList<>(byId.size());
+		List<ProcessedMessage> processedMessages = new ArrayList<>(byId.size());
+		
+		for (Map.Entry<UUID, T> entry : byId.entrySet()) {
+			if (processed.contains(entry.getKey())) {
+				continue;
+			}
+			accepted.add(entry.getValue());
+			processedMessages.add(new ProcessedMessage(entry.getKey(), sagaId.apply(entry.getValue()), now));
+		}
+		
+		if (accepted.size() < messages.size()) {
+			log.info("Dropped {} duplicate messages", messages.size() - accepted.size());
+		}
+		
+		processedMessageRepository.saveAll(processedMessages);
+		
+		return accepted;
+	}
+
+}
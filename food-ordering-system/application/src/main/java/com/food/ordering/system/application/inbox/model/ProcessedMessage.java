@@ -0,0 +1,16 @@
+package com.food.ordering.system.application.inbox.model;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+public record ProcessedMessage(
+		
+		UUID messageId,
+		
+		UUID sagaId,
+		
+		ZonedDateTime processedAt
+		
+		) {
+
+}
@@ -0,0 +1,11 @@
+package com.food.ordering.system.application.listener;
+
+import java.util.List;
+
+import com.food.ordering.system.application.dto.message.RestaurantApproveResponse;
+
+public interface RestaurantApprovalResponseMessageListener {
+	
+	void approvalResponsesReceived(List<RestaurantApproveResponse> responses);
+
+}
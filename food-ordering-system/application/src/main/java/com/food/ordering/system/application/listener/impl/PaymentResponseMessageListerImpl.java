@@ -0,0 +1,118 @@
+package com.food.ordering.system.application.listener.impl;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import com.food.ordering.system.application.dto.message.PaymentResponse;
+import com.food.ordering.system.application.inbox.InboxHelper;
+import com.food.ordering.system.application.listener.PaymentResponseMessageLister;
+import com.food.ordering.system.application.projection.OrderTrackingProjectionHandler;
+import com.food.ordering.system.application.ports.output.OrderRepository;
+import com.food.ordering.system.application.saga.OrderSagaOrchestrator;
+import com.food.ordering.system.domain.entities.Order;
+import com.food.ordering.system.domain.events.OrderDomainService;
+import com.food.ordering.system.domain.events.OrderEvent;
+import com.food.ordering.system.domain.events.OrderPaidEvent;
+import com.food.ordering.system.domain.exceptions.OrderException;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@Validated
+@RequiredArgsConstructor
+public class PaymentResponseMessageListerImpl implements PaymentResponseMessageLister {
+	
+	private final OrderDomainService orderDomainService;
+	
+	private final OrderRepository orderRepository;
+	
+	private final OrderTrackingProjectionHandler orderTrackingProjectionHandler;
+	
+	private final InboxHelper inboxHelper;
+	
+	private final OrderSagaOrchestrator orderSagaOrchestrator;
+
+	@Override
+	@Transactional
+	public void paymentCompleted(PaymentResponse response) {
+		if (!inboxHelper.accept(response.id(), response.sagaId())) {
+			log.info("Payment response: {} for order id: {} was already processed", response.id(), response.orderId());
+			return;
+		}
+		
+		if (!orderSagaOrchestrator.acceptsPayment(response.sagaId())) {
+			log.warn("Payment response: {} for order id: {} arrived after saga: {} gave up on the payment, "
+					+ "the payment cancellation already requested refunds it", 
+					response.id(), response.orderId(), response.sagaId());
+			return;
+		}
+		
+		Order order = findOrder(response.orderId());
+		
+		OrderPaidEvent orderPaidEvent = orderDomainService.payOrder(order);
+		orderRepository.save(order);
+		orderTrackingProjectionHandler.orderUpdated(orderPaidEvent);
+		orderSagaOrchestrator.paymentCompleted(orderPaidEvent, response.sagaId());
+		
+		log.info("Order with id: {} is paid", response.orderId());
+	}
+
+	/**
+	 * A paid order can still get a cancelled payment, when the payment service
+	 * refunds a payment it confirmed after a cancel request: it goes through
+	 * CANCELLING to CANCELLED like any other paid order being cancelled.
+	 *
+	 * A timed out compensation sends the cancel request again, so the same
+	 * cancellation can be answered more than once. An answer for an order
+	 * already cancelled, or for a saga that has finished, is recorded and
+	 * leaves the order alone.
+	 */
+	@Override
+	@Transactional
+	public void paymentCancelled(PaymentResponse response) {
+		if (!inboxHelper.accept(response.id(), response.sagaId())) {
+			log.info("Payment response: {} for order id: {} was already processed", response.id(), response.orderId());
+			return;
+		}
+		
+		Order order = findOrder(response.orderId());
+		
+		if (order.getStatus() == OrderStatus.CANCELLED || !orderSagaOrchestrator.isActive(response.sagaId())) {
+			log.info("Payment response: {} for order id: {} in status {} has nothing left to cancel", 
+					response.id(), response.orderId(), order.getStatus());
+			orderSagaOrchestrator.paymentCancelled(response.sagaId());
+			return;
+		}
+		
+		List<OrderEvent> orderEvents;
+		if (order.getStatus() == OrderStatus.PAID) {
+			orderEvents = List.of(
+					orderDomainService.cancelOrderPayment(order, response.failureMessages()),
+					orderDomainService.cancelOrder(order, List.of()));
+		} else {
+			orderEvents = List.of(orderDomainService.cancelOrder(order, response.failureMessages()));
+		}
+		orderRepository.save(order);
+		orderTrackingProjectionHandler.ordersUpdated(orderEvents);
+		orderSagaOrchestrator.paymentCancelled(response.sagaId());
+		
+		log.info("Order with id: {} is cancelled", response.orderId());
+	}
+	
+	private Order findOrder(UUID orderId) {
+		return orderRepository.findById(new OrderId(orderId))
+				.orElseThrow(() -> {
+					log.warn("Could not find order with id: {}", orderId);
+					return new OrderException("Could not find order with id: " + orderId);
+				});
+	}
+
+}
@@ -0,0 +1,113 @@
+package com.food.ordering.system.application.listener.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import com.food.ordering.system.application.dto.message.RestaurantApproveResponse;
+import com.food.ordering.system.application.inbox.InboxHelper;
+import com.food.ordering.system.application.listener.RestaurantApprovalResponseMessageListener;
+import com.food.ordering.system.application.projection.OrderTrackingProjectionHandler;
+import com.food.ordering.system.application.ports.output.OrderRepository;
+import com.food.ordering.system.application.saga.OrderSagaOrchestrator;
+import com.food.ordering.system.domain.entities.Order;
+import com.food.ordering.system.domain.events.OrderCancelledEvent;
+import com.food.ordering.system.domain.events.OrderDomainService;
+import com.food.ordering.system.domain.events.OrderEvent;
+import com.food.ordering.system.domain.exceptions.OrderException;
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.valueobject.OrderId;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@Validated
+@RequiredArgsConstructor
+public class RestaurantApprovalResponseMessageListenerImpl implements RestaurantApprovalResponseMessageListener {
+	
+	private final OrderDomainService orderDomainService;
+	
+	private final OrderRepository orderRepository;
+	
+	private final OrderTrackingProjectionHandler orderTrackingProjectionHandler;
+	
+	private final InboxHelper inboxHelper;
+	
+	private final OrderSagaOrchestrator orderSagaOrchestrator;
+
+	/**
+	 * Skips responses already processed, loads every order referenced by the rest
+	 * of the batch with one query, applies the transitions in message order and
+	 * writes orders back with one batched save. Rejected orders are handed to the
+	 * saga orchestrator, which requests their payment cancellation.
+	 */
+	@Override
+	@Transactional
+	public void approvalResponsesReceived(List<RestaurantApproveResponse> receivedResponses) {
+		
+		List<RestaurantApproveResponse> responses = inboxHelper.acceptAll(receivedResponses, 
+				RestaurantApproveResponse::id, RestaurantApproveResponse::sagaId);
+		
+		if (responses.isEmpty()) {
+			return;
+		}
+		
+		Set<OrderId> orderIds = responses.stream()
+				.map(response -> new OrderId(response.orderId()))
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+		
+		Map<OrderId, Order> orders = orderRepository.findAllByIds(orderIds)
+				.stream()
+				.collect(Collectors.toMap(Order::getOrderId, Function.identity()));
+		
+		Set<Order> changedOrders = new LinkedHashSet<>();
+		List<UUID> approvedSagaIds = new ArrayList<>();
+		Map<UUID, OrderCancelledEvent> cancelledBySagaId = new LinkedHashMap<>();
+		List<OrderEvent> orderEvents = new ArrayList<>();
+		
+		for (RestaurantApproveResponse response : responses) {
+			Order order = orders.get(new OrderId(response.orderId()));
+			
+			if (order == null) {
+				log.warn("Could not find order with id: {} for approval response: {}", response.orderId(), response.id());
+				continue;
+			}
+			
+			try {
+				if (response.orderApprovalStatus() == OrderApprovalStatus.APPROVED) {
+					orderEvents.add(orderDomainService.approvedOrder(order));
+					approvedSagaIds.add(response.sagaId());
+				} else {
+					OrderCancelledEvent orderCancelledEvent = 
+							orderDomainService.cancelOrderPayment(order, response.failureMessages());
+					cancelledBySagaId.put(response.sagaId(), orderCancelledEvent);
+					orderEvents.add(orderCancelledEvent);
+				}
+				changedOrders.add(order);
+			} catch (OrderException e) {
+				log.warn("Skipping approval response: {} for order id: {}: {}", response.id(), response.orderId(), e.getMessage());
+			}
+		}
+		
+		orderRepository.saveAll(changedOrders);
+		orderTrackingProjectionHandler.ordersUpdated(orderEvents);
+		orderSagaOrchestrator.approved(approvedSagaIds);
+		orderSagaOrchestrator.compensate(cancelledBySagaId);
+		
+		log.info("{} approval responses applied to {} orders, {} payment cancellations requested", 
+				responses.size(), changedOrders.size(), cancelledBySagaId.size());
+	}
+
+}
@@ -9,10 +9,20 @@ import org.springframework.stereotype.Component;
 import com.food.ordering.system.application.command.CreateOrderCommand;
 import com.food.ordering.system.application.dto.CreateOrderResponse;
 import com.food.ordering.system.application.dto.OrderAddress;
+import com.food.ordering.system.application.outbox.model.ApprovalProduct;
+import com.food.ordering.system.application.outbox.model.OrderApprovalOutboxMessage;
+import com.food.ordering.system.application.outbox.model.OrderPaymentOutboxMessage;
+import com.food.ordering.system.application.outbox.model.OutboxStatus;
+import com.food.ordering.system.application.outbox.model.PaymentOrderStatus;
+import com.food.ordering.system.application.outbox.model.RestaurantOrderStatus;
+import com.food.ordering.system.application.projection.model.OrderTrackingView;
 import com.food.ordering.system.domain.entities.Order;
 import com.food.ordering.system.domain.entities.OrderItem;
 import com.food.ordering.system.domain.entities.Product;
 import com.food.ordering.system.domain.entities.Restaurant;
+import com.food.ordering.system.domain.events.OrderCancelledEvent;
+import com.food.ordering.system.domain.events.OrderCreatedEvent;
+import com.food.ordering.system.domain.events.OrderPaidEvent;
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.ProductId;
@@ -78,12 +88,12 @@ public class OrderDataMapper {
 				address.street());
 	}
 	
-	public CreateOrderResponse orderToCreateOrderResponse(Order order) {
+	public CreateOrderResponse orderToCreateOrderResponse(Order order, String message) {
 		
 		return new CreateOrderResponse(
 				order.getTrackingId().getValue(), 
 				order.getStatus(), 
-				"");
+				message);
 	}
 	
 	public com.food.ordering.system.application.dto.track.TrackOrderResponse orderToTrackOrderResponse(Order order) {
@@ -93,4 +103,69 @@ public class OrderDataMapper {
 				order.getStatus(), 
 				order.getFailureMessages());
 	}
+	
+	public com.food.ordering.system.application.dto.track.TrackOrderResponse orderTrackingViewToTrackOrderResponse(
+			OrderTrackingView orderTrackingView) {
+		
+		return new com.food.ordering.system.application.dto.track.TrackOrderResponse(
+				orderTrackingView.trackingId(), 
+				orderTrackingView.orderStatus(), 
+				orderTrackingView.failureMessages());
+	}
+	
+	public OrderPaymentOutboxMessage orderCreatedEventToOrderPaymentOutboxMessage(OrderCreatedEvent orderCreatedEvent) {
+		
+		Order order = orderCreatedEvent.getOrder();
+		
+		return new OrderPaymentOutboxMessage(
+				UUID.randomUUID(), 
+				UUID.randomUUID(), 
+				order.getOrderId().getValue(), 
+				order.getCustomerId().getValue(), 
+				order.getPrice(), 
+				orderCreatedEvent.getCreatedAtUtc(), 
+				null, 
+				PaymentOrderStatus.PENDING, 
+				order.getStatus(), 
+				OutboxStatus.STARTED);
+	}
+	
+	public OrderPaymentOutboxMessage orderCancelledEventToOrderPaymentOutboxMessage(OrderCancelledEvent orderCancelledEvent, 
+			UUID sagaId) {
+		
+		Order order = orderCancelledEvent.getOrder();
+		
+		return new OrderPaymentOutboxMessage(
+				UUID.randomUUID(), 
+				sagaId, 
+				order.getOrderId().getValue(), 
+				order.getCustomerId().getValue(), 
+				order.getPrice(), 
+				orderCancelledEvent.getCreatedAtUtc(), 
+				null, 
+				PaymentOrderStatus.CANCELLED, 
+				order.getStatus(), 
+				OutboxStatus.STARTED);
+	}
+	
+	public OrderApprovalOutboxMessage orderPaidEventToOrderApprovalOutboxMessage(OrderPaidEvent orderPaidEvent, 
+			UUID sagaId) {
+		
+		Order order = orderPaidEvent.getOrder();
+		
+		return new OrderApprovalOutboxMessage(
+				UUID.randomUUID(), 
+				sagaId, 
+				order.getOrderId().getValue(), 
+				order.getRestaurantId().getValue(), 
+				order.getPrice(), 
+				order.getItems().stream()
+						.map(orderItem -> new ApprovalProduct(orderItem.getProduct().getId().getValue(), orderItem.getQuantity()))
+						.toList(), 
+				orderPaidEvent.getCreatedAtUtc(), 
+				null, 
+				RestaurantOrderStatus.PAID, 
+				order.getStatus(), 
+				OutboxStatus.STARTED);
+	}
 }
@@ -0,0 +1,99 @@
+package com.food.ordering.system.application.metrics;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.food.ordering.system.domain.entities.Order;
+import com.food.ordering.system.domain.entities.Restaurant;
+import com.food.ordering.system.domain.events.OrderApprovedEvent;
+import com.food.ordering.system.domain.events.OrderCancellationCompletedEvent;
+import com.food.ordering.system.domain.events.OrderCancelledEvent;
+import com.food.ordering.system.domain.events.OrderCreatedEvent;
+import com.food.ordering.system.domain.events.OrderDomainService;
+import com.food.ordering.system.domain.events.OrderPaidEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every order status transition. The domain module stays free of
+ * Micrometer; this decorator is wired around it in the bean configuration.
+ * Tags are limited to the transition name and whether it was accepted.
+ */
+public class InstrumentedOrderDomainService implements OrderDomainService {
+	
+	private final OrderDomainService orderDomainService;
+	
+	private final TransitionTimers initiate;
+	private final TransitionTimers pay;
+	private final TransitionTimers approve;
+	private final TransitionTimers cancelPayment;
+	private final TransitionTimers cancel;
+	
+	public InstrumentedOrderDomainService(OrderDomainService orderDomainService, MeterRegistry meterRegistry) {
+		this.orderDomainService = orderDomainService;
+		this.initiate = new TransitionTimers(meterRegistry, "initiate");
+		this.pay = new TransitionTimers(meterRegistry, "pay");
+		this.approve = new TransitionTimers(meterRegistry, "approve");
+		this.cancelPayment = new TransitionTimers(meterRegistry, "cancel_payment");
+		this.cancel = new TransitionTimers(meterRegistry, "cancel");
+	}
+
+	@Override
+	public OrderCreatedEvent validateAndInitiateOrder(Order order, Restaurant restaurant) {
+		return initiate.record(() -> orderDomainService.validateAndInitiateOrder(order, restaurant));
+	}
+
+	@Override
+	public OrderPaidEvent payOrder(Order order) {
+		return pay.record(() -> orderDomainService.payOrder(order));
+	}
+
+	@Override
+	public OrderApprovedEvent approvedOrder(Order order) {
+		return approve.record(() -> orderDomainService.approvedOrder(order));
+	}
+
+	@Override
+	public OrderCancellationCompletedEvent cancelOrder(Order order, List<String> failureMessages) {
+		return cancel.record(() -> orderDomainService.cancelOrder(order, failureMessages));
+	}
+
+	@Override
+	public OrderCancelledEvent cancelOrderPayment(Order order, List<String> failureMessages) {
+		return cancelPayment.record(() -> orderDomainService.cancelOrderPayment(order, failureMessages));
+	}
+	
+	private static final class TransitionTimers {
+		
+		private final Timer accepted;
+		private final Timer rejected;
+		
+		private TransitionTimers(MeterRegistry meterRegistry, String transition) {
+			this.accepted = timer(meterRegistry, transition, "accepted");
+			this.rejected = timer(meterRegistry, transition, "rejected");
+		}
+		
+		private <T> T record(Supplier<T> transition) {
+			long start = System.nanoTime();
+			try {
+				T event = transition.get();
+				accepted.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+				return event;
+			} catch (RuntimeException e) {
+				rejected.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+				throw e;
+			}
+		}
+		
+		private static Timer timer(MeterRegistry meterRegistry, String transition, String outcome) {
+			return Timer.builder("order.domain.transition")
+					.tag("transition", transition)
+					.tag("outcome", outcome)
+					.register(meterRegistry);
+		}
+		
+	}
+
+}
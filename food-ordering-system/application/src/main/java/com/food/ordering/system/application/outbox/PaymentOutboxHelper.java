@@ -0,0 +1,61 @@
+package com.food.ordering.system.application.outbox;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.food.ordering.system.application.mapper.OrderDataMapper;
+import com.food.ordering.system.application.outbox.model.OrderPaymentOutboxMessage;
+import com.food.ordering.system.application.ports.output.PaymentOutboxRepository;
+import com.food.ordering.system.domain.events.OrderCreatedEvent;
+import com.food.ordering.system.domain.exceptions.OrderException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentOutboxHelper {
+	
+	private final PaymentOutboxRepository paymentOutboxRepository;
+	
+	private final OrderDataMapper orderDataMapper;
+	
+	/**
+	 * Must run inside the transaction that saves the order, so the order row and
+	 * its payment request are committed (or rolled back) together.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public OrderPaymentOutboxMessage savePaymentOutboxMessage(OrderCreatedEvent orderCreatedEvent) {
+		
+		OrderPaymentOutboxMessage outboxMessage = 
+				orderDataMapper.orderCreatedEventToOrderPaymentOutboxMessage(orderCreatedEvent);
+		
+		OrderPaymentOutboxMessage saved = paymentOutboxRepository.save(outboxMessage);
+		
+		if (saved == null) {
+			throw new OrderException("Could not save payment outbox message for order id: " 
+					+ outboxMessage.orderId());
+		}
+		
+		log.info("Payment outbox message saved with id: {} for order id: {}", saved.id(), saved.orderId());
+		
+		return saved;
+	}
+	
+	@Transactional(propagation = Propagation.MANDATORY)
+	public List<OrderPaymentOutboxMessage> savePaymentOutboxMessages(List<OrderCreatedEvent> orderCreatedEvents) {
+		
+		List<OrderPaymentOutboxMessage> saved = paymentOutboxRepository.saveAll(orderCreatedEvents.stream()
+				.map(orderDataMapper::orderCreatedEventToOrderPaymentOutboxMessage)
+				.toList());
+		
+		log.info("{} payment outbox messages saved", saved.size());
+		
+		return saved;
+	}
+
+}
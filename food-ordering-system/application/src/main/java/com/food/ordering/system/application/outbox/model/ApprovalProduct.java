@@ -0,0 +1,15 @@
+package com.food.ordering.system.application.outbox.model;
+
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotNull;
+
+public record ApprovalProduct(
+		
+		@NotNull UUID id,
+		
+		int quantity
+		
+		) {
+
+}
@@ -0,0 +1,38 @@
+package com.food.ordering.system.application.outbox.model;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+import jakarta.validation.constraints.NotNull;
+
+public record OrderApprovalOutboxMessage(
+		
+		@NotNull UUID id,
+		
+		@NotNull UUID sagaId,
+		
+		@NotNull UUID orderId,
+		
+		@NotNull UUID restaurantId,
+		
+		@NotNull Money price,
+		
+		@NotNull List<ApprovalProduct> products,
+		
+		@NotNull ZonedDateTime createdAt,
+		
+		ZonedDateTime processedAt,
+		
+		@NotNull RestaurantOrderStatus restaurantOrderStatus,
+		
+		@NotNull OrderStatus orderStatus,
+		
+		@NotNull OutboxStatus outboxStatus
+		
+		) implements OutboxMessage {
+
+}
@@ -0,0 +1,35 @@
+package com.food.ordering.system.application.outbox.model;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+import jakarta.validation.constraints.NotNull;
+
+public record OrderPaymentOutboxMessage(
+		
+		@NotNull UUID id,
+		
+		@NotNull UUID sagaId,
+		
+		@NotNull UUID orderId,
+		
+		@NotNull UUID customerId,
+		
+		@NotNull Money price,
+		
+		@NotNull ZonedDateTime createdAt,
+		
+		ZonedDateTime processedAt,
+		
+		@NotNull PaymentOrderStatus paymentOrderStatus,
+		
+		@NotNull OrderStatus orderStatus,
+		
+		@NotNull OutboxStatus outboxStatus
+		
+		) implements OutboxMessage {
+
+}
@@ -0,0 +1,17 @@
+package com.food.ordering.system.application.outbox.model;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * What the outbox relay needs from a row, whatever request it carries.
+ */
+public interface OutboxMessage {
+	
+	UUID id();
+	
+	UUID sagaId();
+	
+	ZonedDateTime createdAt();
+
+}
@@ -0,0 +1,5 @@
+package com.food.ordering.system.application.outbox.model;
+
+public enum RestaurantOrderStatus {
+	PAID
+}
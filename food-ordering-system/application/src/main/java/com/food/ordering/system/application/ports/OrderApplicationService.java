@@ -1,8 +1,10 @@
 package com.food.ordering.system.application.ports;
 
+import java.util.List;
 
 import com.food.ordering.system.application.command.CreateOrderCommand;
 import com.food.ordering.system.application.dto.CreateOrderResponse;
+import com.food.ordering.system.application.dto.bulk.BulkCreateOrderResult;
 import com.food.ordering.system.application.dto.track.TrackOrderQuery;
 import com.food.ordering.system.application.dto.track.TrackOrderResponse;
 
@@ -12,6 +14,11 @@ public interface OrderApplicationService {
 	
 	CreateOrderResponse execute(@Valid CreateOrderCommand command);
 	
+	CreateOrderResponse execute(@Valid CreateOrderCommand command, String idempotencyKey);
+	
 	TrackOrderResponse trackOrder(@Valid  TrackOrderQuery query);
+	
+	// Items are validated one by one so an invalid order only fails its own result.
+	List<BulkCreateOrderResult> executeBulk(List<CreateOrderCommand> commands, int firstIndex);
 
 }
@@ -0,0 +1,9 @@
+package com.food.ordering.system.application.ports.output;
+
+import com.food.ordering.system.application.outbox.model.OrderApprovalOutboxMessage;
+
+public interface ApprovalOutboxRepository extends OutboxRepository<OrderApprovalOutboxMessage> {
+	
+	OrderApprovalOutboxMessage save(OrderApprovalOutboxMessage orderApprovalOutboxMessage);
+
+}
@@ -1,5 +1,7 @@
 package com.food.ordering.system.application.ports.output;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -8,5 +10,7 @@ import com.food.ordering.system.domain.entities.Customer;
 public interface CustomerRepository {
 	
 	Optional<Customer> findCustomer(UUID customerId);
+	
+	List<Customer> findCustomers(Collection<UUID> customerIds);
 
 }
@@ -0,0 +1,17 @@
+package com.food.ordering.system.application.ports.output;
+
+import java.util.Optional;
+
+import com.food.ordering.system.application.idempotency.model.IdempotentRequest;
+
+public interface IdempotentRequestRepository {
+	
+	Optional<IdempotentRequest> findByIdempotencyKey(String idempotencyKey);
+	
+	/**
+	 * Throws {@code DuplicateIdempotencyKeyException} when another request already
+	 * stored the key.
+	 */
+	void save(IdempotentRequest idempotentRequest);
+
+}
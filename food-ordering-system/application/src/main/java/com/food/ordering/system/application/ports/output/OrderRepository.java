@@ -1,14 +1,30 @@
 package com.food.ordering.system.application.ports.output;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import com.food.ordering.system.domain.entities.Order;
+import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.domain.valueobject.TrackingId;
 
 public interface OrderRepository {
 	
+	/**
+	 * Stores orders that were just created, without looking them up first.
+	 */
+	Order insert(Order order);
+	
+	List<Order> insertAll(Collection<Order> orders);
+	
 	Order save(Order order);
 	
+	List<Order> saveAll(Collection<Order> orders);
+	
+	Optional<Order> findById(OrderId orderId);
+	
+	List<Order> findAllByIds(Collection<OrderId> orderIds);
+	
 	Optional<Order> findByTrackingId(TrackingId trackingId);
 
 }
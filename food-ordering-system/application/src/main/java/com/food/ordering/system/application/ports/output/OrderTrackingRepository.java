@@ -0,0 +1,19 @@
+package com.food.ordering.system.application.ports.output;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.food.ordering.system.application.projection.model.OrderTrackingView;
+
+public interface OrderTrackingRepository {
+	
+	void create(OrderTrackingView orderTrackingView);
+	
+	void createAll(Collection<OrderTrackingView> orderTrackingViews);
+	
+	void updateAll(Collection<OrderTrackingView> orderTrackingViews);
+	
+	Optional<OrderTrackingView> findByTrackingId(UUID trackingId);
+
+}
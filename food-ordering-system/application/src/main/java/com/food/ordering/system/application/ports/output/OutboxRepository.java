@@ -0,0 +1,28 @@
+package com.food.ordering.system.application.ports.output;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.food.ordering.system.application.outbox.model.OutboxMessage;
+import com.food.ordering.system.application.outbox.model.OutboxStatus;
+
+/**
+ * The relay side of an outbox table: claiming rows to send and recording the
+ * outcome.
+ */
+public interface OutboxRepository<M extends OutboxMessage> {
+	
+	/**
+	 * Claims up to limit unclaimed (or expired-claim) rows in the given status
+	 * until claimedUntil, skipping rows another instance is claiming, so
+	 * concurrent relays never pick up the same row.
+	 */
+	List<M> claimByOutboxStatus(OutboxStatus outboxStatus, int limit, ZonedDateTime now, ZonedDateTime claimedUntil);
+	
+	int releaseClaims(Collection<UUID> ids);
+	
+	int updateOutboxStatus(Collection<UUID> ids, OutboxStatus outboxStatus, ZonedDateTime processedAt);
+
+}
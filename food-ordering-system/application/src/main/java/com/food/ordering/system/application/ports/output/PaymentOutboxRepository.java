@@ -0,0 +1,14 @@
+package com.food.ordering.system.application.ports.output;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.food.ordering.system.application.outbox.model.OrderPaymentOutboxMessage;
+
+public interface PaymentOutboxRepository extends OutboxRepository<OrderPaymentOutboxMessage> {
+	
+	OrderPaymentOutboxMessage save(OrderPaymentOutboxMessage orderPaymentOutboxMessage);
+	
+	List<OrderPaymentOutboxMessage> saveAll(Collection<OrderPaymentOutboxMessage> orderPaymentOutboxMessages);
+
+}
@@ -0,0 +1,19 @@
+package com.food.ordering.system.application.ports.output;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+import com.food.ordering.system.application.inbox.model.ProcessedMessage;
+
+public interface ProcessedMessageRepository {
+	
+	Set<UUID> findProcessed(Collection<UUID> messageIds);
+	
+	/**
+	 * Fails the surrounding transaction when one of the ids was already stored, so a
+	 * message is never applied twice even if {@link #findProcessed} missed it.
+	 */
+	void saveAll(Collection<ProcessedMessage> processedMessages);
+
+}
@@ -1,10 +1,15 @@
 package com.food.ordering.system.application.ports.output;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import com.food.ordering.system.domain.entities.Restaurant;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
 
 public interface RestaurantRepository {
 
 	Optional<Restaurant> findRestaurantInformation(Restaurant restaurant);
+	
+	List<Restaurant> findRestaurantsInformation(Collection<RestaurantId> restaurantIds);
 }
@@ -0,0 +1,20 @@
+package com.food.ordering.system.application.ports.output;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.food.ordering.system.application.saga.model.OrderSagaState;
+
+public interface SagaStateRepository {
+	
+	void createAll(Collection<OrderSagaState> sagaStates);
+	
+	void updateAll(Collection<OrderSagaState> sagaStates);
+	
+	List<OrderSagaState> findBySagaIds(Collection<UUID> sagaIds);
+	
+	List<UUID> findExpiredSagaIds(ZonedDateTime now, int limit);
+
+}
@@ -0,0 +1,19 @@
+package com.food.ordering.system.application.ports.output;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import com.food.ordering.system.application.saga.model.SagaStep;
+
+public interface SagaTimeoutScheduler {
+	
+	Duration timeout(SagaStep step);
+	
+	int maxCompensationRetries();
+	
+	void schedule(UUID sagaId, ZonedDateTime deadline);
+	
+	void cancel(UUID sagaId);
+
+}
@@ -0,0 +1,97 @@
+package com.food.ordering.system.application.projection;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.food.ordering.system.application.projection.model.OrderTrackingView;
+import com.food.ordering.system.application.ports.output.OrderTrackingRepository;
+import com.food.ordering.system.application.publisher.DomainEventPublisher;
+import com.food.ordering.system.application.publisher.OrderStatusChangedEvent;
+import com.food.ordering.system.domain.events.OrderCreatedEvent;
+import com.food.ordering.system.domain.events.OrderEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the tracking read model in step with the order aggregate. Runs inside the
+ * transaction that saves the order, so a tracking row never shows a state the
+ * order table did not commit. Each event is then handed to the order event
+ * publisher as an OrderStatusChangedEvent, which pushes the transition to
+ * clients streaming that order. Both are built from the status the event
+ * captured, so two transitions of one order in one transaction stay two.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderTrackingProjectionHandler {
+	
+	private final OrderTrackingRepository orderTrackingRepository;
+	
+	private final DomainEventPublisher<OrderStatusChangedEvent> orderEventPublisher;
+	
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void orderCreated(OrderCreatedEvent orderCreatedEvent) {
+		orderTrackingRepository.create(orderEventToOrderTrackingView(orderCreatedEvent));
+		orderEventPublisher.publisher(orderEventToOrderStatusChangedEvent(orderCreatedEvent));
+		
+		log.debug("Tracking projection created for order id: {}", orderCreatedEvent.getOrder().getId().getValue());
+	}
+	
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void ordersCreated(Collection<OrderCreatedEvent> orderCreatedEvents) {
+		if (orderCreatedEvents.isEmpty()) {
+			return;
+		}
+		
+		orderTrackingRepository.createAll(orderCreatedEvents.stream()
+				.map(this::orderEventToOrderTrackingView)
+				.toList());
+		orderCreatedEvents.forEach(orderCreatedEvent -> 
+				orderEventPublisher.publisher(orderEventToOrderStatusChangedEvent(orderCreatedEvent)));
+		
+		log.debug("Tracking projection created for {} orders", orderCreatedEvents.size());
+	}
+	
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void orderUpdated(OrderEvent orderEvent) {
+		ordersUpdated(List.of(orderEvent));
+	}
+	
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void ordersUpdated(Collection<? extends OrderEvent> orderEvents) {
+		if (orderEvents.isEmpty()) {
+			return;
+		}
+		
+		orderTrackingRepository.updateAll(orderEvents.stream()
+				.map(this::orderEventToOrderTrackingView)
+				.toList());
+		orderEvents.forEach(orderEvent -> 
+				orderEventPublisher.publisher(orderEventToOrderStatusChangedEvent(orderEvent)));
+		
+		log.debug("Tracking projection updated for {} orders", orderEvents.size());
+	}
+	
+	private OrderTrackingView orderEventToOrderTrackingView(OrderEvent orderEvent) {
+		return new OrderTrackingView(
+				orderEvent.getOrder().getTrackingId().getValue(),
+				orderEvent.getOrder().getOrderId().getValue(),
+				orderEvent.getOrderStatus(),
+				orderEvent.getFailureMessages(),
+				orderEvent.getCreatedAtUtc());
+	}
+	
+	private OrderStatusChangedEvent orderEventToOrderStatusChangedEvent(OrderEvent orderEvent) {
+		return new OrderStatusChangedEvent(
+				orderEvent.getOrder().getTrackingId().getValue(),
+				orderEvent.getOrderStatus(),
+				orderEvent.getFailureMessages(),
+				orderEvent.getCreatedAt());
+	}
+
+}
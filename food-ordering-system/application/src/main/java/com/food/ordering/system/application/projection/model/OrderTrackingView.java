@@ -0,0 +1,23 @@
+package com.food.ordering.system.application.projection.model;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+public record OrderTrackingView(
+		
+		UUID trackingId,
+		
+		UUID orderId,
+		
+		OrderStatus orderStatus,
+		
+		List<String> failureMessages,
+		
+		ZonedDateTime updatedAt
+		
+		) {
+
+}
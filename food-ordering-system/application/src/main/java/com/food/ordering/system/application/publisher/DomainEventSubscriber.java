@@ -0,0 +1,20 @@
+package com.food.ordering.system.application.publisher;
+
+import java.util.List;
+
+import com.food.ordering.system.domain.events.DomainEvent;
+
+/**
+ * Receives the domain events published after their transaction committed, in
+ * publication order and in batches, on a thread of its own. A slow subscriber
+ * only delays itself; a subscriber that throws loses that batch. The list is
+ * reused for the next batch, so it must not be kept after the call.
+ */
+public interface DomainEventSubscriber <T extends DomainEvent>{
+
+	void onEvents(List<T> domainEvents);
+	
+	default String name() {
+		return getClass().getSimpleName();
+	}
+}
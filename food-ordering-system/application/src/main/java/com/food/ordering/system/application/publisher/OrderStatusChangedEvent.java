@@ -0,0 +1,28 @@
+package com.food.ordering.system.application.publisher;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import com.food.ordering.system.domain.entities.Order;
+import com.food.ordering.system.domain.events.DomainEvent;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+/**
+ * What the order event bus carries: an immutable copy of one transition, taken
+ * from its domain event, instead of the aggregate the subscribers would read
+ * later, on their own threads, in whatever state it has reached by then.
+ */
+public record OrderStatusChangedEvent(
+		
+		UUID trackingId,
+		
+		OrderStatus orderStatus,
+		
+		List<String> failureMessages,
+		
+		Instant createdAt
+		
+		) implements DomainEvent<Order> {
+
+}
@@ -0,0 +1,312 @@
+package com.food.ordering.system.application.saga;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.food.ordering.system.application.mapper.OrderDataMapper;
+import com.food.ordering.system.application.outbox.model.OrderPaymentOutboxMessage;
+import com.food.ordering.system.application.ports.output.ApprovalOutboxRepository;
+import com.food.ordering.system.application.ports.output.OrderRepository;
+import com.food.ordering.system.application.ports.output.PaymentOutboxRepository;
+import com.food.ordering.system.application.ports.output.SagaStateRepository;
+import com.food.ordering.system.application.ports.output.SagaTimeoutScheduler;
+import com.food.ordering.system.application.projection.OrderTrackingProjectionHandler;
+import com.food.ordering.system.application.saga.model.OrderSagaState;
+import com.food.ordering.system.application.saga.model.SagaStatus;
+import com.food.ordering.system.application.saga.model.SagaStep;
+import com.food.ordering.system.domain.common.DomainClock;
+import com.food.ordering.system.domain.entities.Order;
+import com.food.ordering.system.domain.events.OrderCancelledEvent;
+import com.food.ordering.system.domain.events.OrderDomainService;
+import com.food.ordering.system.domain.events.OrderPaidEvent;
+import com.food.ordering.system.domain.exceptions.OrderException;
+import com.food.ordering.system.domain.valueobject.OrderId;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drives the payment → approval saga of each order. The state of every saga is
+ * a small row keyed by its saga id, written in the transaction that applies the
+ * step, and each active step has a deadline. Timeouts are kept in memory by the
+ * timeout scheduler and recovered from the deadlines after a restart, so
+ * in-flight sagas cost no thread and no polling of their own.
+ *
+ * A completed payment writes the restaurant approval request to the approval
+ * outbox together with the move to the approval step, so the approval deadline
+ * only ever runs for an order whose request is committed.
+ *
+ * Compensation always goes through the payment outbox: a rejected or timed out
+ * saga asks the payment service to cancel, and the order is cancelled when that
+ * answer comes back.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSagaOrchestrator {
+	
+	private static final String APPROVAL_TIMEOUT_MESSAGE = "Restaurant approval timed out";
+	
+	private final SagaStateRepository sagaStateRepository;
+	
+	private final SagaTimeoutScheduler sagaTimeoutScheduler;
+	
+	private final PaymentOutboxRepository paymentOutboxRepository;
+	
+	private final ApprovalOutboxRepository approvalOutboxRepository;
+	
+	private final OrderRepository orderRepository;
+	
+	private final OrderDomainService orderDomainService;
+	
+	private final OrderDataMapper orderDataMapper;
+	
+	private final OrderTrackingProjectionHandler orderTrackingProjectionHandler;
+	
+	private final DomainClock domainClock;
+	
+	/**
+	 * Starts one saga per payment request, in the transaction that saves them.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void started(Collection<OrderPaymentOutboxMessage> paymentRequests) {
+		if (paymentRequests.isEmpty()) {
+			return;
+		}
+		
+		ZonedDateTime now = now();
+		ZonedDateTime deadline = now.plus(sagaTimeoutScheduler.timeout(SagaStep.PAYMENT));
+		
+		List<OrderSagaState> sagaStates = paymentRequests.stream()
+				.map(paymentRequest -> new OrderSagaState(paymentRequest.sagaId(), paymentRequest.orderId(),
+						SagaStep.PAYMENT, SagaStatus.STARTED, deadline, now, 0))
+				.toList();
+		
+		sagaStateRepository.createAll(sagaStates);
+		scheduleTimeouts(sagaStates);
+	}
+	
+	/**
+	 * Whether the saga is still running; an order without a saga row counts as
+	 * running, so its responses are still applied.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public boolean isActive(UUID sagaId) {
+		return sagaStateRepository.findBySagaIds(List.of(sagaId)).stream()
+				.allMatch(sagaState -> sagaState.status().isActive());
+	}
+	
+	/**
+	 * Whether a completed payment may still pay the order: its saga is waiting in
+	 * the payment step, or the order has no saga row. A saga that timed out has
+	 * already asked for the payment to be cancelled, and that cancellation
+	 * refunds a payment confirmed late.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public boolean acceptsPayment(UUID sagaId) {
+		return sagaStateRepository.findBySagaIds(List.of(sagaId)).stream()
+				.allMatch(sagaState -> sagaState.status().isActive() && sagaState.step() == SagaStep.PAYMENT);
+	}
+	
+	/**
+	 * Writes the restaurant approval request of the paid order and moves its saga
+	 * to the approval step, in the transaction that saves the paid order.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void paymentCompleted(OrderPaidEvent orderPaidEvent, UUID sagaId) {
+		approvalOutboxRepository.save(orderDataMapper.orderPaidEventToOrderApprovalOutboxMessage(orderPaidEvent, sagaId));
+		
+		ZonedDateTime now = now();
+		ZonedDateTime deadline = now.plus(sagaTimeoutScheduler.timeout(SagaStep.APPROVAL));
+		
+		advance(List.of(sagaId), SagaStep.PAYMENT,
+				sagaState -> sagaState.moveTo(SagaStep.APPROVAL, SagaStatus.PROCESSING, deadline, now));
+	}
+	
+	/**
+	 * A cancelled payment either ends a compensation or means the payment itself
+	 * was refused; the saga is finished both ways.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void paymentCancelled(UUID sagaId) {
+		ZonedDateTime now = now();
+		
+		advance(List.of(sagaId), null, sagaState -> sagaState.finish(
+				sagaState.step() == SagaStep.COMPENSATION ? SagaStatus.COMPENSATED : SagaStatus.FAILED, now));
+	}
+	
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void approved(Collection<UUID> sagaIds) {
+		ZonedDateTime now = now();
+		
+		advance(sagaIds, SagaStep.APPROVAL, sagaState -> sagaState.finish(SagaStatus.SUCCEEDED, now));
+	}
+	
+	/**
+	 * Writes a payment cancel request for each cancelled order and moves its saga
+	 * to the compensation step, or counts one more retry when it is already
+	 * there. Orders without a saga row (created before sagas were tracked) still
+	 * get their payment cancelled.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void compensate(Map<UUID, OrderCancelledEvent> cancelledBySagaId) {
+		if (cancelledBySagaId.isEmpty()) {
+			return;
+		}
+		
+		paymentOutboxRepository.saveAll(cancelledBySagaId.entrySet().stream()
+				.map(entry -> orderDataMapper.orderCancelledEventToOrderPaymentOutboxMessage(entry.getValue(), entry.getKey()))
+				.toList());
+		
+		ZonedDateTime now = now();
+		ZonedDateTime deadline = now.plus(sagaTimeoutScheduler.timeout(SagaStep.COMPENSATION));
+		
+		advance(cancelledBySagaId.keySet(), null,
+				sagaState -> sagaState.step() == SagaStep.COMPENSATION
+						? sagaState.retry(deadline, now)
+						: sagaState.moveTo(SagaStep.COMPENSATION, SagaStatus.COMPENSATING, deadline, now));
+		
+		log.info("{} payment cancellations requested", cancelledBySagaId.size());
+	}
+	
+	/**
+	 * Called with saga ids whose timer fired. A timer can outlive its step (it is
+	 * cancelled after commit, or was set on another node), so only sagas still
+	 * active and past their deadline are acted on:
+	 * <ul>
+	 * <li>payment: the payment is cancelled in case it went through late;</li>
+	 * <li>approval: the order starts cancelling and the payment is cancelled;</li>
+	 * <li>compensation: the payment cancel request is sent again, up to
+	 * saga.compensation-max-retries times; after that the saga fails and the
+	 * refund is left to an operator.</li>
+	 * </ul>
+	 */
+	@Transactional
+	public void sagasTimedOut(Collection<UUID> sagaIds) {
+		ZonedDateTime now = now();
+		
+		List<OrderSagaState> expired = sagaStateRepository.findBySagaIds(sagaIds).stream()
+				.filter(sagaState -> sagaState.status().isActive()
+						&& sagaState.deadline() != null
+						&& !sagaState.deadline().isAfter(now))
+				.toList();
+		
+		if (expired.isEmpty()) {
+			return;
+		}
+		
+		Set<OrderId> orderIds = expired.stream()
+				.map(sagaState -> new OrderId(sagaState.orderId()))
+				.collect(Collectors.toSet());
+		
+		Map<OrderId, Order> orders = orderRepository.findAllByIds(orderIds)
+				.stream()
+				.collect(Collectors.toMap(Order::getOrderId, Function.identity()));
+		
+		Map<UUID, OrderCancelledEvent> cancelledBySagaId = new LinkedHashMap<>();
+		List<OrderCancelledEvent> approvalTimeouts = new ArrayList<>();
+		List<OrderSagaState> failed = new ArrayList<>();
+		
+		for (OrderSagaState sagaState : expired) {
+			Order order = orders.get(new OrderId(sagaState.orderId()));
+			
+			if (order == null) {
+				log.warn("Could not find order with id: {} for timed out saga: {}", sagaState.orderId(), sagaState.sagaId());
+				failed.add(sagaState.finish(SagaStatus.FAILED, now));
+				continue;
+			}
+			
+			if (sagaState.step() == SagaStep.COMPENSATION
+					&& sagaState.retries() >= sagaTimeoutScheduler.maxCompensationRetries()) {
+				log.error("Saga: {} gave up cancelling the payment of order id: {} after {} retries",
+						sagaState.sagaId(), sagaState.orderId(), sagaState.retries());
+				failed.add(sagaState.finish(SagaStatus.FAILED, now));
+				continue;
+			}
+			
+			try {
+				if (sagaState.step() == SagaStep.APPROVAL) {
+					OrderCancelledEvent orderCancelledEvent =
+							orderDomainService.cancelOrderPayment(order, List.of(APPROVAL_TIMEOUT_MESSAGE));
+					approvalTimeouts.add(orderCancelledEvent);
+					cancelledBySagaId.put(sagaState.sagaId(), orderCancelledEvent);
+				} else {
+					cancelledBySagaId.put(sagaState.sagaId(), new OrderCancelledEvent(order, now.toInstant()));
+				}
+			} catch (OrderException e) {
+				log.warn("Saga: {} timed out in step {} with order id: {} in status {}",
+						sagaState.sagaId(), sagaState.step(), sagaState.orderId(), order.getStatus());
+				failed.add(sagaState.finish(SagaStatus.FAILED, now));
+			}
+		}
+		
+		orderRepository.saveAll(approvalTimeouts.stream().map(OrderCancelledEvent::getOrder).toList());
+		orderTrackingProjectionHandler.ordersUpdated(approvalTimeouts);
+		compensate(cancelledBySagaId);
+		update(failed);
+		
+		log.info("{} sagas timed out, {} compensated, {} failed", expired.size(), cancelledBySagaId.size(), failed.size());
+	}
+	
+	/**
+	 * Applies a transition to the active sagas among the given ids, optionally
+	 * only to those in the expected step. Responses for unknown or finished sagas
+	 * leave the state alone.
+	 */
+	private void advance(Collection<UUID> sagaIds, SagaStep expectedStep,
+			Function<OrderSagaState, OrderSagaState> transition) {
+		if (sagaIds.isEmpty()) {
+			return;
+		}
+		
+		List<OrderSagaState> next = new ArrayList<>(sagaIds.size());
+		
+		for (OrderSagaState sagaState : sagaStateRepository.findBySagaIds(sagaIds)) {
+			if (!sagaState.status().isActive() || (expectedStep != null && sagaState.step() != expectedStep)) {
+				log.info("Saga: {} is {} in step {}, transition skipped",
+						sagaState.sagaId(), sagaState.status(), sagaState.step());
+				continue;
+			}
+			next.add(transition.apply(sagaState));
+		}
+		
+		update(next);
+	}
+	
+	// Saga deadlines and the compensation events of timed out sagas share the domain event clock.
+	private ZonedDateTime now() {
+		return domainClock.now().atZone(DomainClock.ZONE);
+	}
+	
+	private void update(List<OrderSagaState> sagaStates) {
+		if (sagaStates.isEmpty()) {
+			return;
+		}
+		
+		sagaStateRepository.updateAll(sagaStates);
+		scheduleTimeouts(sagaStates);
+	}
+	
+	private void scheduleTimeouts(List<OrderSagaState> sagaStates) {
+		for (OrderSagaState sagaState : sagaStates) {
+			if (sagaState.deadline() == null) {
+				sagaTimeoutScheduler.cancel(sagaState.sagaId());
+			} else {
+				sagaTimeoutScheduler.schedule(sagaState.sagaId(), sagaState.deadline());
+			}
+		}
+	}
+
+}
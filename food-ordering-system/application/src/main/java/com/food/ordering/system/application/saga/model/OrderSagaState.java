@@ -0,0 +1,43 @@
+package com.food.ordering.system.application.saga.model;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Where one order saga stands. The deadline is when the current step times out;
+ * it is null once the saga has finished. Retries counts the times the current
+ * step was sent again after timing out.
+ */
+public record OrderSagaState(
+		
+		@NotNull UUID sagaId,
+		
+		@NotNull UUID orderId,
+		
+		@NotNull SagaStep step,
+		
+		@NotNull SagaStatus status,
+		
+		ZonedDateTime deadline,
+		
+		@NotNull ZonedDateTime updatedAt,
+		
+		int retries
+		
+		) {
+	
+	public OrderSagaState moveTo(SagaStep step, SagaStatus status, ZonedDateTime deadline, ZonedDateTime updatedAt) {
+		return new OrderSagaState(sagaId, orderId, step, status, deadline, updatedAt, 0);
+	}
+	
+	public OrderSagaState retry(ZonedDateTime deadline, ZonedDateTime updatedAt) {
+		return new OrderSagaState(sagaId, orderId, step, status, deadline, updatedAt, retries + 1);
+	}
+	
+	public OrderSagaState finish(SagaStatus status, ZonedDateTime updatedAt) {
+		return new OrderSagaState(sagaId, orderId, step, status, null, updatedAt, retries);
+	}
+
+}
@@ -0,0 +1,9 @@
+package com.food.ordering.system.application.saga.model;
+
+public enum SagaStatus {
+	STARTED, PROCESSING, COMPENSATING, SUCCEEDED, COMPENSATED, FAILED;
+	
+	public boolean isActive() {
+		return this == STARTED || this == PROCESSING || this == COMPENSATING;
+	}
+}
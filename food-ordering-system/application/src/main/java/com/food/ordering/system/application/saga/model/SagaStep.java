@@ -0,0 +1,5 @@
+package com.food.ordering.system.application.saga.model;
+
+public enum SagaStep {
+	PAYMENT, APPROVAL, COMPENSATION
+}
@@ -0,0 +1,52 @@
+package com.food.ordering.system.application.usecase;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+import com.food.ordering.system.application.command.CreateOrderCommand;
+import com.food.ordering.system.application.command.handler.OrderBulkCreateCommandHandler;
+import com.food.ordering.system.application.command.handler.OrderCreateCommandHandler;
+import com.food.ordering.system.application.command.handler.OrderTrackCommandHandler;
+import com.food.ordering.system.application.dto.CreateOrderResponse;
+import com.food.ordering.system.application.dto.bulk.BulkCreateOrderResult;
+import com.food.ordering.system.application.dto.track.TrackOrderQuery;
+import com.food.ordering.system.application.dto.track.TrackOrderResponse;
+import com.food.ordering.system.application.ports.OrderApplicationService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@Validated
+@RequiredArgsConstructor
+public class OrderApplicationServiceImpl implements OrderApplicationService {
+	
+	private final OrderCreateCommandHandler orderCreateCommandHandler;
+	
+	private final OrderTrackCommandHandler orderTrackCommandHandler;
+	
+	private final OrderBulkCreateCommandHandler orderBulkCreateCommandHandler;
+
+	@Override
+	public CreateOrderResponse execute(@Valid CreateOrderCommand command) {
+		return orderCreateCommandHandler.createOrder(command);
+	}
+
+	@Override
+	public CreateOrderResponse execute(@Valid CreateOrderCommand command, String idempotencyKey) {
+		return orderCreateCommandHandler.createOrder(command, idempotencyKey);
+	}
+
+	@Override
+	public TrackOrderResponse trackOrder(@Valid TrackOrderQuery query) {
+		return orderTrackCommandHandler.trackOrder(query);
+	}
+
+	@Override
+	public List<BulkCreateOrderResult> executeBulk(List<CreateOrderCommand> commands, int firstIndex) {
+		return orderBulkCreateCommandHandler.createOrders(commands, firstIndex);
+	}
+
+}
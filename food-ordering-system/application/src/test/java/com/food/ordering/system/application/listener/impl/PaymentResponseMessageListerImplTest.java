@@ -0,0 +1,127 @@
+package com.food.ordering.system.application.listener.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.food.ordering.system.application.dto.message.PaymentResponse;
+import com.food.ordering.system.application.inbox.InboxHelper;
+import com.food.ordering.system.application.ports.output.OrderRepository;
+import com.food.ordering.system.application.projection.OrderTrackingProjectionHandler;
+import com.food.ordering.system.application.saga.OrderSagaOrchestrator;
+import com.food.ordering.system.domain.entities.Order;
+import com.food.ordering.system.domain.events.impl.OrderDomainServiceImpl;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.domain.valueobject.TrackingId;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentResponseMessageListerImplTest {
+	
+	private final UUID sagaId = UUID.randomUUID();
+	
+	@Mock
+	private OrderRepository orderRepository;
+	
+	@Mock
+	private OrderTrackingProjectionHandler orderTrackingProjectionHandler;
+	
+	@Mock
+	private InboxHelper inboxHelper;
+	
+	@Mock
+	private OrderSagaOrchestrator orderSagaOrchestrator;
+	
+	private PaymentResponseMessageListerImpl paymentResponseMessageLister;
+	
+	@BeforeEach
+	void setUp() {
+		paymentResponseMessageLister = new PaymentResponseMessageListerImpl(new OrderDomainServiceImpl(), 
+				orderRepository, orderTrackingProjectionHandler, inboxHelper, orderSagaOrchestrator);
+	}
+	
+	@Test
+	void repeatedCancellationOfCancelledOrderOnlyFinishesSaga() {
+		Order order = order(OrderStatus.CANCELLED);
+		PaymentResponse response = cancelledResponse(order);
+		when(inboxHelper.accept(response.id(), sagaId)).thenReturn(true);
+		when(orderRepository.findById(order.getOrderId())).thenReturn(Optional.of(order));
+		
+		paymentResponseMessageLister.paymentCancelled(response);
+		
+		assertEquals(OrderStatus.CANCELLED, order.getStatus());
+		verify(orderRepository, never()).save(any());
+		verify(orderTrackingProjectionHandler, never()).ordersUpdated(anyCollection());
+		verify(orderSagaOrchestrator).paymentCancelled(sagaId);
+	}
+	
+	@Test
+	void cancellationForFinishedSagaLeavesOrderAlone() {
+		Order order = order(OrderStatus.CANCELLING);
+		PaymentResponse response = cancelledResponse(order);
+		when(inboxHelper.accept(response.id(), sagaId)).thenReturn(true);
+		when(orderRepository.findById(order.getOrderId())).thenReturn(Optional.of(order));
+		when(orderSagaOrchestrator.isActive(sagaId)).thenReturn(false);
+		
+		paymentResponseMessageLister.paymentCancelled(response);
+		
+		assertEquals(OrderStatus.CANCELLING, order.getStatus());
+		verify(orderRepository, never()).save(any());
+		verify(orderSagaOrchestrator).paymentCancelled(sagaId);
+	}
+	
+	@Test
+	void cancellationOfCancellingOrderCancelsIt() {
+		Order order = order(OrderStatus.CANCELLING);
+		PaymentResponse response = cancelledResponse(order);
+		when(inboxHelper.accept(response.id(), sagaId)).thenReturn(true);
+		when(orderRepository.findById(order.getOrderId())).thenReturn(Optional.of(order));
+		when(orderSagaOrchestrator.isActive(sagaId)).thenReturn(true);
+		
+		paymentResponseMessageLister.paymentCancelled(response);
+		
+		assertEquals(OrderStatus.CANCELLED, order.getStatus());
+		verify(orderRepository).save(order);
+		verify(orderSagaOrchestrator).paymentCancelled(sagaId);
+	}
+	
+	private PaymentResponse cancelledResponse(Order order) {
+		return new PaymentResponse(UUID.randomUUID(), sagaId, order.getOrderId().getValue(), UUID.randomUUID(), 
+				order.getCustomerId().getValue(), order.getPrice(), Instant.now(), PaymentStatus.CANCELLED, 
+				List.of("Payment refunded"));
+	}
+	
+	private static Order order(OrderStatus status) {
+		return Order.builder()
+				.orderId(new OrderId(UUID.randomUUID()))
+				.customerId(new CustomerId(UUID.randomUUID()))
+				.restaurantId(new RestaurantId(UUID.randomUUID()))
+				.trackingId(new TrackingId(UUID.randomUUID()))
+				.price(new Money(new BigDecimal("25.50")))
+				.items(new ArrayList<>())
+				.status(status)
+				.failureMessages(new ArrayList<>())
+				.build();
+	}
+
+}
@@ -0,0 +1,208 @@
+package com.food.ordering.system.application.saga;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.food.ordering.system.application.mapper.OrderDataMapper;
+import com.food.ordering.system.application.outbox.model.OrderPaymentOutboxMessage;
+import com.food.ordering.system.application.outbox.model.PaymentOrderStatus;
+import com.food.ordering.system.application.ports.output.ApprovalOutboxRepository;
+import com.food.ordering.system.application.ports.output.OrderRepository;
+import com.food.ordering.system.application.ports.output.PaymentOutboxRepository;
+import com.food.ordering.system.application.ports.output.SagaStateRepository;
+import com.food.ordering.system.application.ports.output.SagaTimeoutScheduler;
+import com.food.ordering.system.application.projection.OrderTrackingProjectionHandler;
+import com.food.ordering.system.application.saga.model.OrderSagaState;
+import com.food.ordering.system.application.saga.model.SagaStatus;
+import com.food.ordering.system.application.saga.model.SagaStep;
+import com.food.ordering.system.domain.common.DomainClock;
+import com.food.ordering.system.domain.entities.Order;
+import com.food.ordering.system.domain.events.impl.OrderDomainServiceImpl;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.domain.valueobject.TrackingId;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSagaOrchestratorTest {
+	
+	private static final Instant START = Instant.parse("2026-01-01T10:00:00Z");
+	
+	private static final Duration STEP = Duration.ofSeconds(1);
+	
+	private static final Duration COMPENSATION_TIMEOUT = Duration.ofMinutes(5);
+	
+	private static final int MAX_COMPENSATION_RETRIES = 5;
+	
+	private final UUID sagaId = UUID.randomUUID();
+	
+	@Mock
+	private SagaStateRepository sagaStateRepository;
+	
+	@Mock
+	private SagaTimeoutScheduler sagaTimeoutScheduler;
+	
+	@Mock
+	private PaymentOutboxRepository paymentOutboxRepository;
+	
+	@Mock
+	private ApprovalOutboxRepository approvalOutboxRepository;
+	
+	@Mock
+	private OrderRepository orderRepository;
+	
+	@Mock
+	private OrderTrackingProjectionHandler orderTrackingProjectionHandler;
+	
+	@Captor
+	private ArgumentCaptor<Collection<OrderPaymentOutboxMessage>> paymentRequests;
+	
+	@Captor
+	private ArgumentCaptor<Collection<OrderSagaState>> sagaStates;
+	
+	private OrderSagaOrchestrator orderSagaOrchestrator;
+	
+	@BeforeEach
+	void setUp() {
+		DomainClock domainClock = DomainClock.stepping(START, STEP);
+		orderSagaOrchestrator = new OrderSagaOrchestrator(sagaStateRepository, sagaTimeoutScheduler, 
+				paymentOutboxRepository, approvalOutboxRepository, orderRepository, 
+				new OrderDomainServiceImpl(domainClock), new OrderDataMapper(), orderTrackingProjectionHandler, 
+				domainClock);
+	}
+	
+	@Test
+	void paymentTimeoutRequestsCancellationAtClockTime() {
+		Order order = order(OrderStatus.PENDING);
+		givenExpiredSaga(SagaStep.PAYMENT, order);
+		
+		orderSagaOrchestrator.sagasTimedOut(List.of(sagaId));
+		
+		// One tick to find the expired sagas, one to move them to compensation.
+		OrderPaymentOutboxMessage cancelRequest = sentCancelRequest();
+		assertEquals(at(START), cancelRequest.createdAt());
+		assertEquals(OrderStatus.PENDING, cancelRequest.orderStatus());
+		assertCompensatingSince(START.plus(STEP));
+	}
+	
+	@Test
+	void approvalTimeoutCancelsOrderAtClockTime() {
+		Order order = order(OrderStatus.PAID);
+		givenExpiredSaga(SagaStep.APPROVAL, order);
+		
+		orderSagaOrchestrator.sagasTimedOut(List.of(sagaId));
+		
+		// The cancelling event takes the tick between the lookup and the compensation.
+		OrderPaymentOutboxMessage cancelRequest = sentCancelRequest();
+		assertEquals(at(START.plus(STEP)), cancelRequest.createdAt());
+		assertEquals(OrderStatus.CANCELLING, cancelRequest.orderStatus());
+		assertEquals(OrderStatus.CANCELLING, order.getStatus());
+		assertCompensatingSince(START.plus(STEP.multipliedBy(2)));
+	}
+	
+	@Test
+	void compensationTimeoutSendsCancelRequestAgain() {
+		Order order = order(OrderStatus.CANCELLING);
+		givenExpiredSaga(SagaStep.COMPENSATION, SagaStatus.COMPENSATING, 1, order);
+		when(sagaTimeoutScheduler.maxCompensationRetries()).thenReturn(MAX_COMPENSATION_RETRIES);
+		when(sagaTimeoutScheduler.timeout(SagaStep.COMPENSATION)).thenReturn(COMPENSATION_TIMEOUT);
+		
+		orderSagaOrchestrator.sagasTimedOut(List.of(sagaId));
+		
+		assertEquals(at(START), sentCancelRequest().createdAt());
+		OrderSagaState compensating = assertCompensatingSince(START.plus(STEP));
+		assertEquals(2, compensating.retries());
+	}
+	
+	@Test
+	void compensationGivesUpAfterMaxRetries() {
+		Order order = order(OrderStatus.CANCELLING);
+		givenExpiredSaga(SagaStep.COMPENSATION, SagaStatus.COMPENSATING, MAX_COMPENSATION_RETRIES, order);
+		when(sagaTimeoutScheduler.maxCompensationRetries()).thenReturn(MAX_COMPENSATION_RETRIES);
+		
+		orderSagaOrchestrator.sagasTimedOut(List.of(sagaId));
+		
+		verify(paymentOutboxRepository, never()).saveAll(anyCollection());
+		verify(sagaStateRepository).updateAll(sagaStates.capture());
+		OrderSagaState failed = sagaStates.getValue().iterator().next();
+		assertEquals(SagaStatus.FAILED, failed.status());
+		assertNull(failed.deadline());
+		verify(sagaTimeoutScheduler).cancel(sagaId);
+	}
+	
+	private void givenExpiredSaga(SagaStep step, Order order) {
+		givenExpiredSaga(step, SagaStatus.PROCESSING, 0, order);
+		when(sagaTimeoutScheduler.timeout(SagaStep.COMPENSATION)).thenReturn(COMPENSATION_TIMEOUT);
+	}
+	
+	private void givenExpiredSaga(SagaStep step, SagaStatus status, int retries, Order order) {
+		OrderSagaState sagaState = new OrderSagaState(sagaId, order.getOrderId().getValue(), step, 
+				status, at(START.minusSeconds(60)), at(START.minusSeconds(600)), retries);
+		
+		when(sagaStateRepository.findBySagaIds(anyCollection())).thenReturn(List.of(sagaState));
+		when(orderRepository.findAllByIds(anyCollection())).thenReturn(List.of(order));
+	}
+	
+	private OrderPaymentOutboxMessage sentCancelRequest() {
+		verify(paymentOutboxRepository).saveAll(paymentRequests.capture());
+		assertEquals(1, paymentRequests.getValue().size());
+		
+		OrderPaymentOutboxMessage cancelRequest = paymentRequests.getValue().iterator().next();
+		assertEquals(sagaId, cancelRequest.sagaId());
+		assertEquals(PaymentOrderStatus.CANCELLED, cancelRequest.paymentOrderStatus());
+		return cancelRequest;
+	}
+	
+	private OrderSagaState assertCompensatingSince(Instant updatedAt) {
+		verify(sagaStateRepository).updateAll(sagaStates.capture());
+		
+		OrderSagaState compensating = sagaStates.getValue().iterator().next();
+		assertEquals(SagaStep.COMPENSATION, compensating.step());
+		assertEquals(SagaStatus.COMPENSATING, compensating.status());
+		assertEquals(at(updatedAt), compensating.updatedAt());
+		assertEquals(at(updatedAt.plus(COMPENSATION_TIMEOUT)), compensating.deadline());
+		verify(sagaTimeoutScheduler).schedule(sagaId, compensating.deadline());
+		return compensating;
+	}
+	
+	private static ZonedDateTime at(Instant instant) {
+		return instant.atZone(DomainClock.ZONE);
+	}
+	
+	private static Order order(OrderStatus status) {
+		return Order.builder()
+				.orderId(new OrderId(UUID.randomUUID()))
+				.customerId(new CustomerId(UUID.randomUUID()))
+				.restaurantId(new RestaurantId(UUID.randomUUID()))
+				.trackingId(new TrackingId(UUID.randomUUID()))
+				.price(new Money(new BigDecimal("25.50")))
+				.items(new ArrayList<>())
+				.status(status)
+				.failureMessages(new ArrayList<>())
+				.build();
+	}
+
+}
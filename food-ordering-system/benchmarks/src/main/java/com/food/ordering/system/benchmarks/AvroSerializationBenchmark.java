@@ -0,0 +1,202 @@
+package com.food.ordering.system.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.food.ordering.system.application.dto.message.PaymentResponse;
+import com.food.ordering.system.application.outbox.model.OrderPaymentOutboxMessage;
+import com.food.ordering.system.application.outbox.model.OutboxStatus;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.infrastructure.messaging.mapper.MoneyDecimalCodec;
+import com.food.ordering.system.infrastructure.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.infrastructure.messaging.mapper.UuidCodec;
+import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.model.Product;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.Uuid;
+
+/**
+ * Binary Avro encoding of the saga messages, without the schema registry framing,
+ * reusing the encoder/decoder as the Confluent serializers do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvroSerializationBenchmark {
+	
+	private static final int PRODUCTS = 10;
+	
+	private final SpecificDatumWriter<PaymentRequestAvroModel> paymentRequestWriter = 
+			new SpecificDatumWriter<>(PaymentRequestAvroModel.class);
+	
+	private final SpecificDatumWriter<RestaurantApprovalRequestAvroModel> approvalRequestWriter = 
+			new SpecificDatumWriter<>(RestaurantApprovalRequestAvroModel.class);
+	
+	private final SpecificDatumReader<PaymentResponseAvroModel> paymentResponseReader = 
+			new SpecificDatumReader<>(PaymentResponseAvroModel.class);
+	
+	private final SpecificDatumReader<RestaurantApprovalResponseAvroModel> approvalResponseReader = 
+			new SpecificDatumReader<>(RestaurantApprovalResponseAvroModel.class);
+	
+	private final OrderMessagingDataMapper orderMessagingDataMapper = new OrderMessagingDataMapper();
+	
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+	
+	private BinaryEncoder encoder;
+	
+	private BinaryDecoder decoder;
+	
+	private PaymentRequestAvroModel paymentRequest;
+	
+	private OrderPaymentOutboxMessage paymentOutboxMessage;
+	
+	private RestaurantApprovalRequestAvroModel approvalRequest;
+	
+	private byte[] paymentResponseBytes;
+	
+	private byte[] approvalResponseBytes;
+	
+	@Setup
+	public void setUp() throws IOException {
+		Instant now = Instant.ofEpochMilli(System.currentTimeMillis());
+		ByteBuffer price = MoneyDecimalCodec.toAvro(new Money(new BigDecimal("125.50")));
+		
+		paymentRequest = PaymentRequestAvroModel.newBuilder()
+				.setId(uuid())
+				.setSagaId(uuid())
+				.setCustomerId(uuid())
+				.setOrderId(uuid())
+				.setPrice(price)
+				.setCreatedAt(now)
+				.setPaymentOrderStatus(PaymentOrderStatus.PENDING)
+				.build();
+		
+		paymentOutboxMessage = new OrderPaymentOutboxMessage(UUID.randomUUID(), UUID.randomUUID(), 
+				UUID.randomUUID(), UUID.randomUUID(), new Money(new BigDecimal("125.50")), now.atZone(ZoneOffset.UTC), null, 
+				com.food.ordering.system.application.outbox.model.PaymentOrderStatus.PENDING, 
+				OrderStatus.PENDING, OutboxStatus.STARTED);
+		
+		List<Product> products = new ArrayList<>(PRODUCTS);
+		for (int i = 0; i < PRODUCTS; i++) {
+			products.add(Product.newBuilder().setId(uuid()).setQuantity(i + 1).build());
+		}
+		
+		approvalRequest = RestaurantApprovalRequestAvroModel.newBuilder()
+				.setId(uuid())
+				.setSagaId(uuid())
+				.setRestaurantId(uuid())
+				.setOrderId(uuid())
+				.setRestaurantOrderStatus(RestaurantOrderStatus.PAID)
+				.setProducts(products)
+				.setPrice(price)
+				.setCreatedAt(now)
+				.build();
+		
+		paymentResponseBytes = write(new SpecificDatumWriter<>(PaymentResponseAvroModel.class), 
+				PaymentResponseAvroModel.newBuilder()
+				.setId(uuid())
+				.setSagaId(uuid())
+				.setPaymentId(uuid())
+				.setCustomerId(uuid())
+				.setOrderId(uuid())
+				.setPrice(price)
+				.setCreatedAt(now)
+				.setPaymentStatus(PaymentStatus.COMPLETED)
+				.setFailureMessages(new ArrayList<>())
+				.build());
+		
+		approvalResponseBytes = write(new SpecificDatumWriter<>(RestaurantApprovalResponseAvroModel.class), 
+				RestaurantApprovalResponseAvroModel.newBuilder()
+				.setId(uuid())
+				.setSagaId(uuid())
+				.setRestaurantId(uuid())
+				.setOrderId(uuid())
+				.setCreatedAt(now)
+				.setOrderApprovalStatus(OrderApprovalStatus.APPROVED)
+				.setFailureMessages(new ArrayList<>())
+				.build());
+	}
+	
+	@Benchmark
+	public byte[] serializePaymentRequest() throws IOException {
+		return write(paymentRequestWriter, paymentRequest);
+	}
+	
+	@Benchmark
+	public byte[] mapAndSerializePaymentRequest() throws IOException {
+		return write(paymentRequestWriter, 
+				orderMessagingDataMapper.orderPaymentOutboxMessageToPaymentRequestAvroModel(paymentOutboxMessage));
+	}
+	
+	@Benchmark
+	public byte[] serializeRestaurantApprovalRequest() throws IOException {
+		return write(approvalRequestWriter, approvalRequest);
+	}
+	
+	@Benchmark
+	public PaymentResponseAvroModel deserializePaymentResponse() throws IOException {
+		decoder = DecoderFactory.get().binaryDecoder(paymentResponseBytes, decoder);
+		return paymentResponseReader.read(null, decoder);
+	}
+	
+	@Benchmark
+	public PaymentResponse deserializeAndMapPaymentResponse() throws IOException {
+		decoder = DecoderFactory.get().binaryDecoder(paymentResponseBytes, decoder);
+		return orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(paymentResponseReader.read(null, decoder));
+	}
+	
+	@Benchmark
+	public RestaurantApprovalResponseAvroModel deserializeRestaurantApprovalResponse() throws IOException {
+		decoder = DecoderFactory.get().binaryDecoder(approvalResponseBytes, decoder);
+		return approvalResponseReader.read(null, decoder);
+	}
+	
+	private <T extends SpecificRecordBase> byte[] write(SpecificDatumWriter<T> writer, T record) throws IOException {
+		out.reset();
+		encoder = EncoderFactory.get().binaryEncoder(out, encoder);
+		writer.write(record, encoder);
+		encoder.flush();
+		return out.toByteArray();
+	}
+	
+	private static Uuid uuid() {
+		return UuidCodec.toAvro(UUID.randomUUID());
+	}
+
+}
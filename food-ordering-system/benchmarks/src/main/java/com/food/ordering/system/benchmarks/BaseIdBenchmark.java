@@ -0,0 +1,88 @@
+package com.food.ordering.system.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.food.ordering.system.domain.common.UuidIdMap;
+import com.food.ordering.system.domain.valueobject.OrderId;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BaseIdBenchmark {
+	
+	private static final int MAP_SIZE = 10_000;
+	
+	private static final long SEED = 42L;
+	
+	private OrderId orderId;
+	
+	private OrderId sameOrderId;
+	
+	private OrderId[] keys;
+	
+	private Map<OrderId, Integer> orders;
+	
+	private UuidIdMap<OrderId, Integer> ordersById;
+	
+	private int next;
+	
+	@Setup
+	public void setUp() {
+		Random random = new Random(SEED);
+		UUID value = OrderFixtures.uuid(random);
+		orderId = new OrderId(value);
+		sameOrderId = new OrderId(new UUID(value.getMostSignificantBits(), value.getLeastSignificantBits()));
+		
+		keys = new OrderId[MAP_SIZE];
+		orders = new HashMap<>();
+		ordersById = new UuidIdMap<>(MAP_SIZE);
+		for (int i = 0; i < MAP_SIZE; i++) {
+			// Fresh instances on lookup, like ids rebuilt from a message or a request.
+			UUID key = OrderFixtures.uuid(random);
+			orders.put(new OrderId(key), i);
+			ordersById.put(new OrderId(key), i);
+			keys[i] = new OrderId(new UUID(key.getMostSignificantBits(), key.getLeastSignificantBits()));
+		}
+	}
+	
+	@Benchmark
+	public int hashCodeOf() {
+		return orderId.hashCode();
+	}
+	
+	@Benchmark
+	public boolean equalsOf() {
+		return orderId.equals(sameOrderId);
+	}
+	
+	@Benchmark
+	public Integer hashMapGet() {
+		next = (next + 1) % MAP_SIZE;
+		return orders.get(keys[next]);
+	}
+	
+	@Benchmark
+	public Integer uuidIdMapGet() {
+		next = (next + 1) % MAP_SIZE;
+		return ordersById.get(keys[next]);
+	}
+
+}
@@ -0,0 +1,81 @@
+package com.food.ordering.system.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.food.ordering.system.domain.valueobject.Money;
+
+/**
+ * Summing and checking order item subtotals with {@link Money} against the former
+ * BigDecimal implementation, which rescaled the operand on every add/subtract.
+ * Run with {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+	
+	@Param({"50"})
+	private int items;
+	
+	private Money[] subtotals;
+	
+	private BigDecimal[] bigDecimalSubtotals;
+	
+	private Money expectedTotal;
+	
+	private BigDecimal expectedBigDecimalTotal;
+	
+	@Setup
+	public void setUp() {
+		Random random = new Random(42L);
+		subtotals = new Money[items];
+		bigDecimalSubtotals = new BigDecimal[items];
+		long total = 0;
+		for (int i = 0; i < items; i++) {
+			long cents = 100 + random.nextInt(10_000);
+			subtotals[i] = Money.ofCents(cents);
+			bigDecimalSubtotals[i] = BigDecimal.valueOf(cents, 2);
+			total += cents;
+		}
+		expectedTotal = Money.ofCents(total);
+		expectedBigDecimalTotal = BigDecimal.valueOf(total, 2);
+	}
+	
+	@Benchmark
+	public boolean sumAndCompareMoney() {
+		Money total = Money.ZERO;
+		for (Money subtotal : subtotals) {
+			total = total.add(subtotal);
+		}
+		return total.equals(expectedTotal) && !expectedTotal.subtract(total).isGreaterThanZero();
+	}
+	
+	@Benchmark
+	public boolean sumAndCompareBigDecimal() {
+		BigDecimal total = BigDecimal.ZERO;
+		for (BigDecimal subtotal : bigDecimalSubtotals) {
+			total = total.add(subtotal.setScale(2, RoundingMode.HALF_EVEN));
+		}
+		BigDecimal difference = expectedBigDecimalTotal.subtract(total.setScale(2, RoundingMode.HALF_EVEN));
+		return total.equals(expectedBigDecimalTotal) && difference.compareTo(BigDecimal.ZERO) <= 0;
+	}
+
+}
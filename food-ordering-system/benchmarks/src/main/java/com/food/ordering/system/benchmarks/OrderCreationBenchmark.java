@@ -0,0 +1,72 @@
+package com.food.ordering.system.benchmarks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.food.ordering.system.application.command.CreateOrderCommand;
+import com.food.ordering.system.application.mapper.OrderDataMapper;
+import com.food.ordering.system.domain.common.DomainClock;
+import com.food.ordering.system.domain.entities.Order;
+import com.food.ordering.system.domain.entities.Restaurant;
+import com.food.ordering.system.domain.events.OrderCreatedEvent;
+import com.food.ordering.system.domain.events.OrderDomainService;
+import com.food.ordering.system.domain.events.impl.OrderDomainServiceImpl;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderCreationBenchmark {
+	
+	@Param({"10", "50"})
+	private int items;
+	
+	@Param({"100", "1000"})
+	private int menuSize;
+	
+	private final OrderDataMapper orderDataMapper = new OrderDataMapper();
+	
+	// Fixed, stepping timestamps keep the created events identical across runs.
+	private final OrderDomainService orderDomainService = new OrderDomainServiceImpl(
+			DomainClock.stepping(Instant.EPOCH, Duration.ofMillis(1)));
+	
+	private CreateOrderCommand command;
+	
+	private Restaurant restaurant;
+	
+	private Order order;
+	
+	@Setup
+	public void setUp() {
+		restaurant = OrderFixtures.restaurant(menuSize);
+		command = OrderFixtures.command(restaurant, items);
+		order = orderDataMapper.createOrderCommandToOrder(command);
+	}
+	
+	@Benchmark
+	public Order createOrderCommandToOrder() {
+		return orderDataMapper.createOrderCommandToOrder(command);
+	}
+	
+	// Re-initiating the same order only reassigns its ids, so no per-invocation setup is needed.
+	@Benchmark
+	public OrderCreatedEvent validateAndInitiateOrder() {
+		return orderDomainService.validateAndInitiateOrder(order, restaurant);
+	}
+
+}
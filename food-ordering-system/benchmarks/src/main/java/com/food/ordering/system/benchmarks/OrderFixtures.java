@@ -0,0 +1,75 @@
+package com.food.ordering.system.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import com.food.ordering.system.application.command.CreateOrderCommand;
+import com.food.ordering.system.application.dto.OrderAddress;
+import com.food.ordering.system.application.dto.OrderItem;
+import com.food.ordering.system.domain.entities.Product;
+import com.food.ordering.system.domain.entities.Restaurant;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+
+/**
+ * Deterministic test data shared by the benchmarks: ids come from a seeded
+ * random and the same seed picks which menu products an order contains, so
+ * runs are comparable.
+ */
+final class OrderFixtures {
+	
+	private static final long SEED = 42L;
+	
+	private OrderFixtures() {
+	}
+	
+	static Restaurant restaurant(int menuSize) {
+		Random random = new Random(SEED);
+		RestaurantId restaurantId = new RestaurantId(uuid(random));
+		List<Product> products = new ArrayList<>(menuSize);
+		for (int i = 0; i < menuSize; i++) {
+			products.add(new Product(new ProductId(uuid(random)), "product-" + i, 
+					new Money(BigDecimal.valueOf(100 + i, 2))));
+		}
+		return Restaurant.builder()
+				.restaurantId(restaurantId)
+				.products(products)
+				.active(true)
+				.build();
+	}
+	
+	static CreateOrderCommand command(Restaurant restaurant, int itemCount) {
+		Random random = new Random(SEED);
+		List<Product> menu = restaurant.getProducts();
+		List<OrderItem> items = new ArrayList<>(itemCount);
+		BigDecimal total = BigDecimal.ZERO;
+		
+		for (int i = 0; i < itemCount; i++) {
+			Product product = menu.get(random.nextInt(menu.size()));
+			int quantity = 1 + random.nextInt(3);
+			BigDecimal price = product.getPrice().getAmount();
+			BigDecimal subtotal = price.multiply(BigDecimal.valueOf(quantity));
+			items.add(new OrderItem(product.getId().getValue(), quantity, price, subtotal));
+			total = total.add(subtotal);
+		}
+		
+		return new CreateOrderCommand(
+				uuid(random), 
+				restaurant.getId().getValue(), 
+				total, 
+				items, 
+				new OrderAddress("street", "1000-001", "Lisbon"));
+	}
+	
+	// A version 4 UUID drawn from the given random, laid out as UUID.randomUUID() does.
+	static UUID uuid(Random random) {
+		long mostSigBits = (random.nextLong() & ~0xf000L) | 0x4000L;
+		long leastSigBits = (random.nextLong() & ~(0xc000L << 48)) | (0x8000L << 48);
+		return new UUID(mostSigBits, leastSigBits);
+	}
+
+}
@@ -0,0 +1,85 @@
+package com.food.ordering.system.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.food.ordering.system.domain.entities.OrderTransitionTable;
+import com.food.ordering.system.domain.valueobject.OrderCommand;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+/**
+ * Transition lookups over a seeded mix of (status, command) pairs, allowed and
+ * rejected, through {@link OrderTransitionTable} against the equivalent switch
+ * on status and command. Run with {@code -prof gc} to confirm neither allocates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderTransitionBenchmark {
+	
+	@Param({"1024"})
+	private int pairs;
+	
+	private OrderStatus[] statuses;
+	
+	private OrderCommand[] commands;
+	
+	@Setup
+	public void setUp() {
+		Random random = new Random(42L);
+		OrderStatus[] allStatuses = OrderStatus.values();
+		OrderCommand[] allCommands = OrderCommand.values();
+		statuses = new OrderStatus[pairs];
+		commands = new OrderCommand[pairs];
+		for (int i = 0; i < pairs; i++) {
+			statuses[i] = allStatuses[random.nextInt(allStatuses.length)];
+			commands[i] = allCommands[random.nextInt(allCommands.length)];
+		}
+	}
+	
+	@Benchmark
+	public void transitionTable(Blackhole blackhole) {
+		for (int i = 0; i < pairs; i++) {
+			blackhole.consume(OrderTransitionTable.target(statuses[i], commands[i]));
+		}
+	}
+	
+	@Benchmark
+	public void branching(Blackhole blackhole) {
+		for (int i = 0; i < pairs; i++) {
+			blackhole.consume(branchingTarget(statuses[i], commands[i]));
+		}
+	}
+	
+	private static OrderStatus branchingTarget(OrderStatus status, OrderCommand command) {
+		switch (command) {
+			case PAY:
+				return status == OrderStatus.PENDING ? OrderStatus.PAID : null;
+			case APPROVE:
+				return status == OrderStatus.PAID ? OrderStatus.APPROVED : null;
+			case INIT_CANCEL:
+				return status == OrderStatus.PAID ? OrderStatus.CANCELLING : null;
+			case CANCEL:
+				return status == OrderStatus.PENDING || status == OrderStatus.CANCELLING ? OrderStatus.CANCELLED : null;
+			default:
+				return null;
+		}
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.food.ordering.system.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.food.ordering.system.application.mapper.OrderDataMapper;
+import com.food.ordering.system.domain.entities.OrderItem;
+import com.food.ordering.system.domain.entities.Product;
+import com.food.ordering.system.domain.entities.Restaurant;
+
+/**
+ * Product validation of one order: the previous per-item scan of the menu against
+ * the ProductId index on {@link Restaurant}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductLookupBenchmark {
+	
+	@Param({"50"})
+	private int items;
+	
+	@Param({"1000"})
+	private int menuSize;
+	
+	private Restaurant restaurant;
+	
+	private List<OrderItem> orderItems;
+	
+	@Setup
+	public void setUp() {
+		restaurant = OrderFixtures.restaurant(menuSize);
+		orderItems = new OrderDataMapper()
+				.createOrderCommandToOrder(OrderFixtures.command(restaurant, items))
+				.getItems();
+	}
+	
+	@Benchmark
+	public void linearScan(Blackhole blackhole) {
+		for (OrderItem orderItem : orderItems) {
+			blackhole.consume(restaurant.getProducts()
+					.stream()
+					.anyMatch(product -> product.equals(orderItem.getProduct())));
+		}
+	}
+	
+	@Benchmark
+	public void indexedLookup(Blackhole blackhole) {
+		for (OrderItem orderItem : orderItems) {
+			Product product = restaurant.findProduct(orderItem.getProduct().getId());
+			blackhole.consume(product);
+		}
+	}
+
+}
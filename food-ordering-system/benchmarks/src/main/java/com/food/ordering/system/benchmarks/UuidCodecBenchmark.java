@@ -0,0 +1,139 @@
+package com.food.ordering.system.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.food.ordering.system.infrastructure.messaging.mapper.UuidCodec;
+
+/**
+ * The four ids of a payment request encoded as uuid strings, as the schemas had
+ * them, against the 16-byte fixed type: Avro write and read of the ids alone,
+ * including the conversion from and to UUID on each side. The serialized sizes
+ * are printed once at setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UuidCodecBenchmark {
+	
+	private static final String[] FIELDS = {"id", "sagaId", "customerId", "orderId"};
+	
+	private final Schema stringIds = SchemaBuilder.record("StringIds").fields()
+			.requiredString(FIELDS[0]).requiredString(FIELDS[1])
+			.requiredString(FIELDS[2]).requiredString(FIELDS[3])
+			.endRecord();
+	
+	private final Schema uuidType = SchemaBuilder.fixed("Uuid").size(UuidCodec.SIZE);
+	
+	private final Schema fixedIds = SchemaBuilder.record("FixedIds").fields()
+			.name(FIELDS[0]).type(uuidType).noDefault()
+			.name(FIELDS[1]).type(uuidType).noDefault()
+			.name(FIELDS[2]).type(uuidType).noDefault()
+			.name(FIELDS[3]).type(uuidType).noDefault()
+			.endRecord();
+	
+	private final GenericDatumWriter<GenericRecord> stringWriter = new GenericDatumWriter<>(stringIds);
+	
+	private final GenericDatumWriter<GenericRecord> fixedWriter = new GenericDatumWriter<>(fixedIds);
+	
+	private final GenericDatumReader<GenericRecord> stringReader = new GenericDatumReader<>(stringIds);
+	
+	private final GenericDatumReader<GenericRecord> fixedReader = new GenericDatumReader<>(fixedIds);
+	
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+	
+	private BinaryEncoder encoder;
+	
+	private BinaryDecoder decoder;
+	
+	private UUID[] ids;
+	
+	private byte[] stringBytes;
+	
+	private byte[] fixedBytes;
+	
+	@Setup
+	public void setUp() throws IOException {
+		ids = new UUID[FIELDS.length];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = UUID.randomUUID();
+		}
+		
+		stringBytes = writeStringIds();
+		fixedBytes = writeFixedIds();
+		
+		System.out.printf("%nSerialized ids: string %d bytes, fixed %d bytes%n", stringBytes.length, fixedBytes.length);
+	}
+	
+	@Benchmark
+	public byte[] writeStringIds() throws IOException {
+		GenericRecord record = new GenericData.Record(stringIds);
+		for (int i = 0; i < FIELDS.length; i++) {
+			record.put(i, ids[i].toString());
+		}
+		return write(stringWriter, record);
+	}
+	
+	@Benchmark
+	public byte[] writeFixedIds() throws IOException {
+		GenericRecord record = new GenericData.Record(fixedIds);
+		for (int i = 0; i < FIELDS.length; i++) {
+			record.put(i, new GenericData.Fixed(uuidType, UuidCodec.toBytes(ids[i])));
+		}
+		return write(fixedWriter, record);
+	}
+	
+	@Benchmark
+	public void readStringIds(Blackhole blackhole) throws IOException {
+		decoder = DecoderFactory.get().binaryDecoder(stringBytes, decoder);
+		GenericRecord record = stringReader.read(null, decoder);
+		for (int i = 0; i < FIELDS.length; i++) {
+			blackhole.consume(UUID.fromString(record.get(i).toString()));
+		}
+	}
+	
+	@Benchmark
+	public void readFixedIds(Blackhole blackhole) throws IOException {
+		decoder = DecoderFactory.get().binaryDecoder(fixedBytes, decoder);
+		GenericRecord record = fixedReader.read(null, decoder);
+		for (int i = 0; i < FIELDS.length; i++) {
+			blackhole.consume(UuidCodec.fromBytes(((GenericData.Fixed) record.get(i)).bytes()));
+		}
+	}
+	
+	private byte[] write(GenericDatumWriter<GenericRecord> writer, GenericRecord record) throws IOException {
+		out.reset();
+		encoder = EncoderFactory.get().binaryEncoder(out, encoder);
+		writer.write(record, encoder);
+		encoder.flush();
+		return out.toByteArray();
+	}
+
+}
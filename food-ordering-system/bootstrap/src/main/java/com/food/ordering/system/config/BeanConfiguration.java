@@ -0,0 +1,27 @@
+package com.food.ordering.system.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.food.ordering.system.application.metrics.InstrumentedOrderDomainService;
+import com.food.ordering.system.domain.common.DomainClock;
+import com.food.ordering.system.domain.events.OrderDomainService;
+import com.food.ordering.system.domain.events.impl.OrderDomainServiceImpl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// The domain module has no framework dependencies, so its services are wired here.
+@Configuration
+public class BeanConfiguration {
+	
+	@Bean
+	public DomainClock domainClock() {
+		return DomainClock.systemUtc();
+	}
+	
+	@Bean
+	public OrderDomainService orderDomainService(DomainClock domainClock, MeterRegistry meterRegistry) {
+		return new InstrumentedOrderDomainService(new OrderDomainServiceImpl(domainClock), meterRegistry);
+	}
+
+}
@@ -0,0 +1,34 @@
+package com.food.ordering.system.domain.common;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+/**
+ * Source of the time stamped on domain events. Events carry an Instant in UTC;
+ * it is only turned into a zoned date-time at the persistence boundary, with
+ * the fixed ZONE offset, so no zone rules are looked up per event.
+ */
+public interface DomainClock {
+	
+	ZoneOffset ZONE = ZoneOffset.UTC;
+	
+	Instant now();
+	
+	default long millis() {
+		return now().toEpochMilli();
+	}
+	
+	static DomainClock systemUtc() {
+		return SystemDomainClock.INSTANCE;
+	}
+	
+	/**
+	 * Deterministic clock for tests and benchmarks: the first call returns start,
+	 * every later call step more, so a replay stamps the same times.
+	 */
+	static DomainClock stepping(Instant start, Duration step) {
+		return new SteppingDomainClock(start, step);
+	}
+
+}
@@ -0,0 +1,28 @@
+package com.food.ordering.system.domain.common;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class SteppingDomainClock implements DomainClock {
+	
+	private final Instant start;
+	
+	private final long stepNanos;
+	
+	private final AtomicLong ticks = new AtomicLong();
+	
+	SteppingDomainClock(Instant start, Duration step) {
+		if (step.isNegative()) {
+			throw new IllegalArgumentException("Clock step must not be negative.");
+		}
+		this.start = start;
+		this.stepNanos = step.toNanos();
+	}
+	
+	@Override
+	public Instant now() {
+		return start.plusNanos(ticks.getAndIncrement() * stepNanos);
+	}
+
+}
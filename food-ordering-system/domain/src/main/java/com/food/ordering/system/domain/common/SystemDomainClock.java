@@ -0,0 +1,25 @@
+package com.food.ordering.system.domain.common;
+
+import java.time.Clock;
+import java.time.Instant;
+
+final class SystemDomainClock implements DomainClock {
+	
+	static final SystemDomainClock INSTANCE = new SystemDomainClock();
+	
+	private final Clock clock = Clock.systemUTC();
+	
+	private SystemDomainClock() {
+	}
+	
+	@Override
+	public Instant now() {
+		return clock.instant();
+	}
+	
+	@Override
+	public long millis() {
+		return clock.millis();
+	}
+
+}
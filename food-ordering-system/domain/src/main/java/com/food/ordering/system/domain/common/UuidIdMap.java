@@ -0,0 +1,148 @@
+package com.food.ordering.system.domain.common;
+
+import java.util.UUID;
+
+import com.food.ordering.system.domain.valueobject.BaseId;
+
+/**
+ * Open-addressing map from UUID-valued ids to values. The two halves of each
+ * UUID are stored inline in long arrays and probed linearly, so a lookup reads
+ * a few adjacent slots and never calls hashCode or equals on the key, nor does
+ * it allocate. Ids of different subclasses with the same UUID are the same key.
+ *
+ * Built for indexes that are filled once and then only read: there is no
+ * removal, and it is not thread-safe while being written. Once filled and
+ * safely published (a final field) it can be read concurrently. Null values
+ * are not allowed.
+ */
+public final class UuidIdMap<K extends BaseId<UUID>, V> {
+	
+	private static final int MIN_CAPACITY = 4;
+	
+	private long[] mostSigBits;
+	
+	private long[] leastSigBits;
+	
+	private Object[] values;
+	
+	private int mask;
+	
+	private int size;
+	
+	public UuidIdMap(int expectedSize) {
+		allocate(capacityFor(expectedSize));
+	}
+	
+	@SuppressWarnings("unchecked")
+	public V get(K id) {
+		UUID key = id.getValue();
+		long msb = key.getMostSignificantBits();
+		long lsb = key.getLeastSignificantBits();
+		
+		for (int i = slot(msb, lsb); ; i = (i + 1) & mask) {
+			Object value = values[i];
+			if (value == null) {
+				return null;
+			}
+			if (mostSigBits[i] == msb && leastSigBits[i] == lsb) {
+				return (V) value;
+			}
+		}
+	}
+	
+	public boolean containsKey(K id) {
+		return get(id) != null;
+	}
+	
+	/**
+	 * @return the previous value for the id, or {@code null} if there was none
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(K id, V value) {
+		if (value == null) {
+			throw new IllegalArgumentException("Null values are not allowed.");
+		}
+		
+		UUID key = id.getValue();
+		long msb = key.getMostSignificantBits();
+		long lsb = key.getLeastSignificantBits();
+		
+		int i = slot(msb, lsb);
+		while (values[i] != null) {
+			if (mostSigBits[i] == msb && leastSigBits[i] == lsb) {
+				V previous = (V) values[i];
+				values[i] = value;
+				return previous;
+			}
+			i = (i + 1) & mask;
+		}
+		
+		mostSigBits[i] = msb;
+		leastSigBits[i] = lsb;
+		values[i] = value;
+		
+		// Load factor 0.5 keeps probe sequences to one or two slots.
+		if (++size > values.length >>> 1) {
+			resize(values.length << 1);
+		}
+		return null;
+	}
+	
+	public int size() {
+		return size;
+	}
+	
+	public boolean isEmpty() {
+		return size == 0;
+	}
+	
+	private int slot(long msb, long lsb) {
+		// Finalizer of MurmurHash3; UUIDs from other sources than randomUUID() may have poor low bits.
+		long h = msb ^ lsb;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return (int) h & mask;
+	}
+	
+	private void resize(int capacity) {
+		long[] oldMostSigBits = mostSigBits;
+		long[] oldLeastSigBits = leastSigBits;
+		Object[] oldValues = values;
+		
+		allocate(capacity);
+		
+		for (int j = 0; j < oldValues.length; j++) {
+			if (oldValues[j] == null) {
+				continue;
+			}
+			int i = slot(oldMostSigBits[j], oldLeastSigBits[j]);
+			while (values[i] != null) {
+				i = (i + 1) & mask;
+			}
+			mostSigBits[i] = oldMostSigBits[j];
+			leastSigBits[i] = oldLeastSigBits[j];
+			values[i] = oldValues[j];
+		}
+	}
+	
+	private void allocate(int capacity) {
+		mostSigBits = new long[capacity];
+		leastSigBits = new long[capacity];
+		values = new Object[capacity];
+		mask = capacity - 1;
+	}
+	
+	private static int capacityFor(int expectedSize) {
+		int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2) - 1) << 1;
+		return Math.max(MIN_CAPACITY, capacity);
+	}
+	
+	@Override
+	public String toString() {
+		return "UuidIdMap[size=" + size + ", capacity=" + values.length + "]";
+	}
+
+}
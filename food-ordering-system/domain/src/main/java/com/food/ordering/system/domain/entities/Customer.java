@@ -4,5 +4,12 @@ import com.food.ordering.system.domain.common.AggregateRoot;
 import com.food.ordering.system.domain.valueobject.CustomerId;
 
 public class Customer extends AggregateRoot<CustomerId> {
+	
+	public Customer() {
+	}
+	
+	public Customer(CustomerId customerId) {
+		super.setId(customerId);
+	}
 
 }
@@ -1,5 +1,6 @@
 package com.food.ordering.system.domain.entities;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -7,7 +8,9 @@ import com.food.ordering.system.domain.common.AggregateRoot;
 import com.food.ordering.system.domain.exceptions.OrderException;
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderCommand;
 import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderItemId;
 import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.domain.valueobject.StreetAddress;
@@ -48,6 +51,20 @@ public class Order extends AggregateRoot<OrderId>{
 		return order;
 	}
 	
+	public void initializeOrder() {
+		this.orderId = new OrderId(UUID.randomUUID());
+		super.setId(orderId);
+		this.trackingId = new TrackingId(UUID.randomUUID());
+		this.status = OrderStatus.PENDING;
+		initializeOrderItems();
+	}
+	
+	private void initializeOrderItems() {
+		for (OrderItem orderItem : items) {
+			orderItem.initializeOrderItem(orderId, new OrderItemId(UUID.randomUUID()));
+		}
+	}
+	
 	
 	static void validateTotalPrice(Money price) {
 		if (price != null || !price.isGreaterThanZero() ) {
@@ -56,54 +73,43 @@ public class Order extends AggregateRoot<OrderId>{
 	}
 	
 	public void pay() {
-		if (!status.equals(OrderStatus.PENDING)) {
-			throw new OrderException("Order is not correct state for pay operation.");
-		}
-		
-		this.status = OrderStatus.PAID;
-		
+		apply(OrderCommand.PAY, null);
 	}
 	
-	
 	public void approve() {
-		if (!status.equals(OrderStatus.PAID)) {
-			throw new OrderException("Can not approve because order is not paid.");
-		}
-		
-		status = OrderStatus.APPROVED;
+		apply(OrderCommand.APPROVE, null);
 	}
 	
 	public void cancel(List<String> failureMessages) {
-		if (!status.equals(OrderStatus.PENDING) || !status.equals(OrderStatus.CANCELLING)) {
-			updateFailueMessages(failureMessages);
-			throw new OrderException("Can not cancel because order is not pending or in cancelling status.");
-		}
-
-		status = OrderStatus.CANCELLED;
-		
+		apply(OrderCommand.CANCEL, failureMessages);
 	}
 	
 	public void initCancelation(List<String> failureMessages) {
-		if (status.equals(OrderStatus.PAID)) {
-			this.status = OrderStatus.CANCELLING;
-			return;
+		apply(OrderCommand.INIT_CANCEL, failureMessages);
+	}
+	
+	private void apply(OrderCommand command, List<String> messages) {
+		OrderStatus target = OrderTransitionTable.target(status, command);
+		if (target == null) {
+			throw new OrderException(command.getRejectionMessage());
 		}
 		
-		updateFailueMessages(failureMessages);
+		status = target;
 		
-		throw new OrderException("Can not initiate the cancelation because order is not status is not paid.");
+		if (messages != null) {
+			updateFailureMessages(messages);
+		}
 	}
 	
-	private void updateFailueMessages(List<String> messages) {
-		if (this.failureMessages != null && messages != null) {
-			this.failureMessages.addAll(
-					messages.stream()
-					.filter(message -> !message.isEmpty()).toList());
+	private void updateFailureMessages(List<String> messages) {
+		if (this.failureMessages == null) {
+			this.failureMessages = new ArrayList<>(messages.size());
 		}
 		
-		
-		if (this.failureMessages == null) {
-			this.failureMessages = failureMessages;
+		for (String message : messages) {
+			if (!message.isEmpty()) {
+				this.failureMessages.add(message);
+			}
 		}
 	}
 
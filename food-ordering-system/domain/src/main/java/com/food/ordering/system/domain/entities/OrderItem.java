@@ -47,6 +47,11 @@ public class OrderItem extends AggregateRoot<OrderItemId>{
 		return orderItem;
 		
 	}
+	
+	void initializeOrderItem(OrderId orderId, OrderItemId orderItemId) {
+		this.orderId = orderId;
+		this.id = orderItemId;
+	}
 		
 
 
@@ -0,0 +1,62 @@
+package com.food.ordering.system.domain.entities;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.food.ordering.system.domain.valueobject.OrderCommand;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+/**
+ * The order lifecycle as data. Every (status, command) pair maps to the status
+ * the order moves to, or to null when the command is not allowed in that status.
+ * The table is declared as an EnumMap and flattened into one array indexed by
+ * ordinals, so a transition is a single array read with no allocation.
+ *
+ * Each command emits one event type whatever status it leaves:
+ * PAY → OrderPaidEvent, APPROVE → OrderApprovedEvent,
+ * INIT_CANCEL → OrderCancelledEvent, CANCEL → OrderCancellationCompletedEvent.
+ */
+public final class OrderTransitionTable {
+	
+	private static final int COMMANDS = OrderCommand.values().length;
+	
+	private static final OrderStatus[] TARGETS = flatten(transitions());
+	
+	private OrderTransitionTable() {
+	}
+	
+	/**
+	 * Returns the status the command moves an order in the given status to, or
+	 * null when the command is not allowed.
+	 */
+	public static OrderStatus target(OrderStatus status, OrderCommand command) {
+		return TARGETS[status.ordinal() * COMMANDS + command.ordinal()];
+	}
+	
+	public static boolean allows(OrderStatus status, OrderCommand command) {
+		return target(status, command) != null;
+	}
+	
+	private static Map<OrderStatus, Map<OrderCommand, OrderStatus>> transitions() {
+		Map<OrderStatus, Map<OrderCommand, OrderStatus>> transitions = new EnumMap<>(OrderStatus.class);
+		for (OrderStatus status : OrderStatus.values()) {
+			transitions.put(status, new EnumMap<>(OrderCommand.class));
+		}
+		
+		transitions.get(OrderStatus.PENDING).put(OrderCommand.PAY, OrderStatus.PAID);
+		transitions.get(OrderStatus.PENDING).put(OrderCommand.CANCEL, OrderStatus.CANCELLED);
+		transitions.get(OrderStatus.PAID).put(OrderCommand.APPROVE, OrderStatus.APPROVED);
+		transitions.get(OrderStatus.PAID).put(OrderCommand.INIT_CANCEL, OrderStatus.CANCELLING);
+		transitions.get(OrderStatus.CANCELLING).put(OrderCommand.CANCEL, OrderStatus.CANCELLED);
+		
+		return transitions;
+	}
+	
+	private static OrderStatus[] flatten(Map<OrderStatus, Map<OrderCommand, OrderStatus>> transitions) {
+		OrderStatus[] targets = new OrderStatus[OrderStatus.values().length * COMMANDS];
+		transitions.forEach((status, commands) -> commands.forEach((command, target) -> 
+				targets[status.ordinal() * COMMANDS + command.ordinal()] = target));
+		return targets;
+	}
+
+}
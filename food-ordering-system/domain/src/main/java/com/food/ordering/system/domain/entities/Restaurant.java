@@ -3,8 +3,11 @@ package com.food.ordering.system.domain.entities;
 import java.util.List;
 
 import com.food.ordering.system.domain.common.AggregateRoot;
+import com.food.ordering.system.domain.common.UuidIdMap;
+import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
 @Getter
@@ -12,11 +15,17 @@ public class Restaurant extends AggregateRoot<RestaurantId>{
 	
 	 private final List<Product> products;
 	    private boolean active;
+	    
+	    // Built once per instance and read-only afterwards, so a cached restaurant
+	    // can be shared by concurrent order validations.
+	    @Getter(AccessLevel.NONE)
+	    private final UuidIdMap<ProductId, Product> productIndex;
 
 	    private Restaurant(Builder builder) {
 	        super.setId(builder.restaurantId);
 	        products = builder.products;
 	        active = builder.active;
+	        productIndex = indexProducts(builder.products);
 	    }
 
 	    public static Builder builder() {
@@ -30,6 +39,24 @@ public class Restaurant extends AggregateRoot<RestaurantId>{
 	    public boolean isActive() {
 	        return active;
 	    }
+	    
+	    /**
+	     * @return the menu product with the given id, or {@code null} if the
+	     * restaurant does not sell it
+	     */
+	    public Product findProduct(ProductId productId) {
+	        return productIndex.get(productId);
+	    }
+	    
+	    private static UuidIdMap<ProductId, Product> indexProducts(List<Product> products) {
+	        UuidIdMap<ProductId, Product> index = new UuidIdMap<>(products == null ? 0 : products.size());
+	        if (products != null) {
+	            for (Product product : products) {
+	                index.put(product.getId(), product);
+	            }
+	        }
+	        return index;
+	    }
 
 	    public static final class Builder {
 	        private RestaurantId restaurantId;
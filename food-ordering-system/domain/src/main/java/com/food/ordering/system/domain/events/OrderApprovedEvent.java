@@ -0,0 +1,15 @@
+package com.food.ordering.system.domain.events;
+
+import java.time.Instant;
+
+import com.food.ordering.system.domain.entities.Order;
+
+
+public class OrderApprovedEvent extends OrderEvent {
+
+	public OrderApprovedEvent(Order order, Instant createdAt) {
+		super(order, createdAt);
+	}
+
+
+}
@@ -0,0 +1,15 @@
+package com.food.ordering.system.domain.events;
+
+import java.time.Instant;
+
+import com.food.ordering.system.domain.entities.Order;
+
+
+public class OrderCancellationCompletedEvent extends OrderEvent {
+
+	public OrderCancellationCompletedEvent(Order order, Instant createdAt) {
+		super(order, createdAt);
+	}
+
+
+}
@@ -1,13 +1,13 @@
 package com.food.ordering.system.domain.events;
 
-import java.time.ZonedDateTime;
+import java.time.Instant;
 
 import com.food.ordering.system.domain.entities.Order;
 
 
 public class OrderCancelledEvent extends OrderEvent {
 
-	public OrderCancelledEvent(Order order, ZonedDateTime createdAt) {
+	public OrderCancelledEvent(Order order, Instant createdAt) {
 		super(order, createdAt);
 	}
 
@@ -11,9 +11,9 @@ public interface OrderDomainService {
 	
 	OrderPaidEvent payOrder(Order order);
 	
-	void approvedOrder(Order order);
+	OrderApprovedEvent approvedOrder(Order order);
 	
-	public void cancelOrder(Order order, List<String> failureMessages);
+	OrderCancellationCompletedEvent cancelOrder(Order order, List<String> failureMessages);
 	
 	OrderCancelledEvent cancelOrderPayment(Order order, List<String> failureMessages);
 }
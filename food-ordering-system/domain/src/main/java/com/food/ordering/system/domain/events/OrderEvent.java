@@ -1,17 +1,37 @@
 package com.food.ordering.system.domain.events;
 
+import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.List;
 
+import com.food.ordering.system.domain.common.DomainClock;
 import com.food.ordering.system.domain.entities.Order;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+/**
+ * The status and failure messages are copied when the event is raised, so the
+ * event keeps describing its own transition when the same order moves on
+ * before it is handled.
+ */
 @Getter
-@AllArgsConstructor
 public abstract class OrderEvent implements DomainEvent<Order> {
 	
 	private Order order;
-	private ZonedDateTime createdAt;
+	private Instant createdAt;
+	private OrderStatus orderStatus;
+	private List<String> failureMessages;
+	
+	public OrderEvent(Order order, Instant createdAt) {
+		this.order = order;
+		this.createdAt = createdAt;
+		this.orderStatus = order.getStatus();
+		this.failureMessages = order.getFailureMessages() == null ? List.of() : List.copyOf(order.getFailureMessages());
+	}
+	
+	public ZonedDateTime getCreatedAtUtc() {
+		return createdAt.atZone(DomainClock.ZONE);
+	}
 
 }
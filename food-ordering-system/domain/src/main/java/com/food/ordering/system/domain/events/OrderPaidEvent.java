@@ -1,12 +1,12 @@
 package com.food.ordering.system.domain.events;
 
-import java.time.ZonedDateTime;
+import java.time.Instant;
 
 import com.food.ordering.system.domain.entities.Order;
 
 public class OrderPaidEvent extends OrderEvent{
 
-	public OrderPaidEvent(Order order, ZonedDateTime createdAt) {
+	public OrderPaidEvent(Order order, Instant createdAt) {
 		super(order, createdAt);
 	}
 
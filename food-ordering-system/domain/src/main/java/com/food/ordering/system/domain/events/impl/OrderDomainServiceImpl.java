@@ -1,11 +1,13 @@
 package com.food.ordering.system.domain.events.impl;
 
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.List;
 
+import com.food.ordering.system.domain.common.DomainClock;
 import com.food.ordering.system.domain.entities.Order;
+import com.food.ordering.system.domain.entities.Product;
 import com.food.ordering.system.domain.entities.Restaurant;
+import com.food.ordering.system.domain.events.OrderApprovedEvent;
+import com.food.ordering.system.domain.events.OrderCancellationCompletedEvent;
 import com.food.ordering.system.domain.events.OrderCancelledEvent;
 import com.food.ordering.system.domain.events.OrderCreatedEvent;
 import com.food.ordering.system.domain.events.OrderDomainService;
@@ -16,14 +18,24 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class OrderDomainServiceImpl implements OrderDomainService{
 
-	private static final String UTC = "UTC";
+	private final DomainClock domainClock;
+	
+	public OrderDomainServiceImpl() {
+		this(DomainClock.systemUtc());
+	}
+	
+	public OrderDomainServiceImpl(DomainClock domainClock) {
+		this.domainClock = domainClock;
+	}
+	
 	@Override
 	public OrderCreatedEvent validateAndInitiateOrder(Order order, Restaurant restaurant) {
 		validateRestaurant(restaurant);
 		setOrderProductInformation(order , restaurant);
+		order.initializeOrder();
 	
 		log.info("Order with id {} has been initiated", order.getId());
-		return new OrderCreatedEvent(order, ZonedDateTime.now(ZoneId.of(UTC)));
+		return new OrderCreatedEvent(order, domainClock.now());
 	}
 	
 	private void validateRestaurant(Restaurant restaurant) {
@@ -35,16 +47,15 @@ public class OrderDomainServiceImpl implements OrderDomainService{
 
 	private void setOrderProductInformation(Order order, Restaurant restaurant) {
 		order.getItems().forEach(orderItem -> {
-			boolean productExists = restaurant.getProducts()
-				.stream()
-				.anyMatch(product -> product.equals(orderItem.getProduct()));
+			Product currentProduct = orderItem.getProduct();
+			Product restaurantProduct = restaurant.findProduct(currentProduct.getId());
 
-			if (!productExists) {
-				throw new IllegalStateException("Product with id " + orderItem.getProduct().getId() +
+			if (restaurantProduct == null) {
+				throw new IllegalStateException("Product with id " + currentProduct.getId() +
 						" is not in restaurant " + restaurant.getId());	
 			}
 
-			orderItem.getProduct().updateWithConfirmedNameAndPrice(orderItem.getProduct());
+			currentProduct.updateWithConfirmedNameAndPrice(restaurantProduct);
 			});
 		
 	}
@@ -53,15 +64,14 @@ public class OrderDomainServiceImpl implements OrderDomainService{
 	public OrderPaidEvent payOrder(Order order) {
 		order.pay();
 		log.info("Order with id: {} is paid.", order.getId());
-		return new OrderPaidEvent(order, ZonedDateTime.now(ZoneId.of(UTC)));
+		return new OrderPaidEvent(order, domainClock.now());
 	}
 
 	@Override
-	public void approvedOrder(Order order) {
+	public OrderApprovedEvent approvedOrder(Order order) {
 		order.approve();
-		log.info("Order with id: {}", order.getId());
-		
-		
+		log.info("Order with id: {} is approved", order.getId());
+		return new OrderApprovedEvent(order, domainClock.now());
 	}
 
 	@Override
@@ -69,15 +79,15 @@ public class OrderDomainServiceImpl implements OrderDomainService{
 		
 		order.initCancelation(failureMessages);
 		log.info("Order payment is cancelling for order id: {}", order.getId());
-		return new OrderCancelledEvent(order, ZonedDateTime.now(ZoneId.of(UTC)));
+		return new OrderCancelledEvent(order, domainClock.now());
 	}
 
 	@Override
-	public void cancelOrder(Order order, List<String> failureMessages) {
+	public OrderCancellationCompletedEvent cancelOrder(Order order, List<String> failureMessages) {
 		
 		order.cancel(failureMessages);
 		log.info("Order with id: {} cancelled", order.getId());
-		
+		return new OrderCancellationCompletedEvent(order, domainClock.now());
 	}
 	
 
@@ -0,0 +1,13 @@
+package com.food.ordering.system.domain.exceptions;
+
+public class OrderNotFoundException extends DomainException{
+
+	public OrderNotFoundException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+	public OrderNotFoundException(String message) {
+		super(message);
+	} 
+
+}
@@ -2,20 +2,26 @@ package com.food.ordering.system.domain.valueobject;
 
 import java.util.Objects;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
 @Getter
 public abstract class BaseId<T> {
 	
 	private final T value;
+	
+	// Ids are immutable and used as map keys all over, so the hash is computed once.
+	@Getter(AccessLevel.NONE)
+	private final int hash;
 
 	public BaseId(T value) {
 		this.value = value;
+		this.hash = value == null ? 0 : value.hashCode();
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(value);
+		return hash;
 	}
 
 	@Override
@@ -27,7 +33,7 @@ public abstract class BaseId<T> {
 		if (getClass() != obj.getClass())
 			return false;
 		BaseId other = (BaseId) obj;
-		return Objects.equals(value, other.value);
+		return hash == other.hash && Objects.equals(value, other.value);
 	}
 	
 	
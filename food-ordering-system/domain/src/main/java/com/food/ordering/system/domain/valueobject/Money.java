@@ -4,44 +4,71 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Objects;
 
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-
-@Getter
-@AllArgsConstructor
+/**
+ * Amount held as a {@code long} of minor units (cents, scale 2). Arithmetic is
+ * exact and overflow-checked; a {@link BigDecimal} is only created or read at
+ * the edges (REST DTOs, persistence, Avro decimals).
+ */
 public class Money {
 	
-	private final BigDecimal amount;
+	public static final Money ZERO = new Money(0L);
+	
+	private static final int SCALE = 2;
+	
+	private final long cents;
+	
+	public Money(BigDecimal amount) {
+		Objects.requireNonNull(amount, "amount");
+		this.cents = setScale(amount).movePointRight(SCALE).longValueExact();
+	}
+	
+	private Money(long cents) {
+		this.cents = cents;
+	}
+	
+	public static Money ofCents(long cents) {
+		return new Money(cents);
+	}
+	
+	public long getCents() {
+		return cents;
+	}
+	
+	public BigDecimal getAmount() {
+		return BigDecimal.valueOf(cents, SCALE);
+	}
 
 	
 	public boolean isGreaterThanZero() {
-		return this.amount != null && this.amount.compareTo(BigDecimal.ZERO) > 0;
+		return this.cents > 0;
 	}
 
 	public boolean isGreaterThan(Money money) {
-		return this.amount != null && this.amount.compareTo(money.getAmount()) > 0;
+		return this.cents > money.cents;
 	}
 	
 	public Money add(Money money) {
-		final var moneyScaled = setScale(money.getAmount());
-		return new Money(this.amount.add(moneyScaled));
+		return new Money(Math.addExact(this.cents, money.cents));
 	}
 	
 	public Money subtract(Money money) {
-		final var moneyScaled = setScale(money.getAmount());
-		return new Money(this.amount.subtract(moneyScaled));
+		return new Money(Math.subtractExact(this.cents, money.cents));
+	}
+	
+	public Money multiply(int multiplier) {
+		return new Money(Math.multiplyExact(this.cents, multiplier));
 	}
 	
 
-	public BigDecimal setScale(BigDecimal input) {
+	private static BigDecimal setScale(BigDecimal input) {
 		// with scale 2, the number of digits after decimal point is 2, e.g 10.75 or 500.80
-		return input.setScale(2, RoundingMode.HALF_EVEN);
+		return input.setScale(SCALE, RoundingMode.HALF_EVEN);
 	}
 	
 	
 	@Override
 	public int hashCode() {
-		return Objects.hash(amount);
+		return Long.hashCode(cents);
 	}
 
 	@Override
@@ -53,7 +80,12 @@ public class Money {
 		if (getClass() != obj.getClass())
 			return false;
 		Money other = (Money) obj;
-		return Objects.equals(amount, other.amount);
+		return cents == other.cents;
+	}
+	
+	@Override
+	public String toString() {
+		return getAmount().toPlainString();
 	}
 
 
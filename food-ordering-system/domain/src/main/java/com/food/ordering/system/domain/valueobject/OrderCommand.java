@@ -0,0 +1,18 @@
+package com.food.ordering.system.domain.valueobject;
+
+public enum OrderCommand {
+	PAY("Order is not correct state for pay operation."),
+	APPROVE("Can not approve because order is not paid."),
+	INIT_CANCEL("Can not initiate the cancelation because order status is not paid."),
+	CANCEL("Can not cancel because order is not pending or in cancelling status.");
+	
+	private final String rejectionMessage;
+	
+	OrderCommand(String rejectionMessage) {
+		this.rejectionMessage = rejectionMessage;
+	}
+	
+	public String getRejectionMessage() {
+		return rejectionMessage;
+	}
+}
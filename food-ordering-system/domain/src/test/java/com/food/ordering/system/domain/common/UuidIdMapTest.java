@@ -0,0 +1,105 @@
+package com.food.ordering.system.domain.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.food.ordering.system.domain.valueobject.BaseId;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.ProductId;
+
+class UuidIdMapTest {
+	
+	@Test
+	void returnsNullForMissingKeys() {
+		UuidIdMap<ProductId, String> map = new UuidIdMap<>(4);
+		map.put(new ProductId(UUID.randomUUID()), "pizza");
+		
+		ProductId missing = new ProductId(UUID.randomUUID());
+		
+		assertNull(map.get(missing));
+		assertFalse(map.containsKey(missing));
+		assertNull(new UuidIdMap<ProductId, String>(0).get(missing));
+	}
+	
+	@Test
+	void overwriteReturnsPreviousValueAndKeepsSize() {
+		UuidIdMap<ProductId, String> map = new UuidIdMap<>(4);
+		UUID id = UUID.randomUUID();
+		
+		assertNull(map.put(new ProductId(id), "pizza"));
+		assertEquals("pizza", map.put(new ProductId(id), "pasta"));
+		
+		assertEquals("pasta", map.get(new ProductId(id)));
+		assertEquals(1, map.size());
+	}
+	
+	@Test
+	void keysWithTheSameHashProbeToTheirOwnSlots() {
+		UuidIdMap<ProductId, Integer> map = new UuidIdMap<>(16);
+		// msb ^ lsb is the same for all of them, so they all hash to one slot.
+		List<ProductId> ids = new ArrayList<>();
+		for (long i = 0; i < 8; i++) {
+			ids.add(new ProductId(new UUID(i, i ^ 0x5bd1e995L)));
+		}
+		
+		for (int i = 0; i < ids.size(); i++) {
+			map.put(ids.get(i), i);
+		}
+		
+		for (int i = 0; i < ids.size(); i++) {
+			assertEquals(i, map.get(ids.get(i)));
+		}
+		assertNull(map.get(new ProductId(new UUID(8, 8 ^ 0x5bd1e995L))));
+		assertEquals(ids.size(), map.size());
+	}
+	
+	@Test
+	void growsPastTheExpectedSizeWithoutLosingEntries() {
+		UuidIdMap<ProductId, Integer> map = new UuidIdMap<>(1);
+		List<ProductId> ids = new ArrayList<>();
+		for (int i = 0; i < 1_000; i++) {
+			ProductId id = new ProductId(UUID.randomUUID());
+			ids.add(id);
+			map.put(id, i);
+		}
+		
+		for (int i = 0; i < ids.size(); i++) {
+			assertEquals(i, map.get(ids.get(i)));
+		}
+		assertEquals(ids.size(), map.size());
+		assertEquals("UuidIdMap[size=1000, capacity=2048]", map.toString());
+	}
+	
+	@Test
+	void idsOfDifferentTypesWithTheSameUuidAreOneKey() {
+		UuidIdMap<BaseId<UUID>, String> map = new UuidIdMap<>(4);
+		UUID id = UUID.randomUUID();
+		map.put(new OrderId(id), "order");
+		
+		assertTrue(map.containsKey(new ProductId(id)));
+		assertEquals("order", map.put(new ProductId(id), "product"));
+		assertEquals("product", map.get(new OrderId(id)));
+		assertEquals(1, map.size());
+	}
+	
+	@Test
+	void rejectsNullValuesAndNullIds() {
+		UuidIdMap<ProductId, String> map = new UuidIdMap<>(4);
+		ProductId id = new ProductId(UUID.randomUUID());
+		
+		assertThrows(IllegalArgumentException.class, () -> map.put(id, null));
+		assertThrows(NullPointerException.class, () -> map.put(null, "pizza"));
+		assertThrows(NullPointerException.class, () -> map.get(null));
+		assertTrue(map.isEmpty());
+	}
+
+}
@@ -0,0 +1,115 @@
+package com.food.ordering.system.domain.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.food.ordering.system.domain.exceptions.OrderException;
+import com.food.ordering.system.domain.valueobject.OrderCommand;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+class OrderTest {
+	
+	private static final List<String> FAILURE_MESSAGES = List.of("Payment declined");
+	
+	@ParameterizedTest(name = "{0} + {1} -> {2}")
+	@MethodSource("com.food.ordering.system.domain.entities.OrderTransitionTableTest#allPairs")
+	void commandFollowsTransitionTable(OrderStatus status, OrderCommand command, OrderStatus expected) {
+		Order order = orderIn(status);
+		
+		if (expected == null) {
+			OrderException e = assertThrows(OrderException.class, () -> execute(order, command));
+			assertEquals(command.getRejectionMessage(), e.getMessage());
+			assertEquals(status, order.getStatus());
+			assertTrue(order.getFailureMessages().isEmpty());
+		} else {
+			execute(order, command);
+			assertEquals(expected, order.getStatus());
+		}
+	}
+	
+	@Test
+	void cancelFromPendingKeepsFailureMessages() {
+		Order order = orderIn(OrderStatus.PENDING);
+		
+		order.cancel(FAILURE_MESSAGES);
+		
+		assertEquals(OrderStatus.CANCELLED, order.getStatus());
+		assertEquals(FAILURE_MESSAGES, order.getFailureMessages());
+	}
+	
+	@Test
+	void cancelFromCancellingAddsFailureMessages() {
+		Order order = orderIn(OrderStatus.PAID);
+		
+		order.initCancelation(List.of("Restaurant rejected"));
+		order.cancel(FAILURE_MESSAGES);
+		
+		assertEquals(OrderStatus.CANCELLED, order.getStatus());
+		assertEquals(List.of("Restaurant rejected", "Payment declined"), order.getFailureMessages());
+	}
+	
+	@Test
+	void emptyFailureMessagesAreDropped() {
+		Order order = orderIn(OrderStatus.PENDING);
+		
+		order.cancel(List.of("", "Payment declined"));
+		
+		assertEquals(FAILURE_MESSAGES, order.getFailureMessages());
+	}
+	
+	/**
+	 * Random command sequences from fixed seeds: the order always ends in the
+	 * status the table predicts, and a rejected command changes nothing.
+	 */
+	@ParameterizedTest
+	@ValueSource(longs = {1L, 7L, 42L, 1234L, 98765L})
+	void randomCommandSequencesFollowTransitionTable(long seed) {
+		Random random = new Random(seed);
+		OrderCommand[] commands = OrderCommand.values();
+		
+		for (int run = 0; run < 200; run++) {
+			Order order = orderIn(OrderStatus.PENDING);
+			OrderStatus expected = OrderStatus.PENDING;
+			
+			for (int step = 0; step < 6; step++) {
+				OrderCommand command = commands[random.nextInt(commands.length)];
+				OrderStatus target = OrderTransitionTableTest.expectedTarget(expected, command);
+				
+				if (target == null) {
+					assertThrows(OrderException.class, () -> execute(order, command));
+				} else {
+					execute(order, command);
+					expected = target;
+				}
+				assertEquals(expected, order.getStatus());
+			}
+		}
+	}
+	
+	private static Order orderIn(OrderStatus status) {
+		return Order.builder()
+				.status(status)
+				.failureMessages(new ArrayList<>())
+				.build();
+	}
+	
+	private static void execute(Order order, OrderCommand command) {
+		switch (command) {
+			case PAY -> order.pay();
+			case APPROVE -> order.approve();
+			case INIT_CANCEL -> order.initCancelation(FAILURE_MESSAGES);
+			case CANCEL -> order.cancel(FAILURE_MESSAGES);
+		}
+	}
+
+}
@@ -0,0 +1,52 @@
+package com.food.ordering.system.domain.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.food.ordering.system.domain.valueobject.OrderCommand;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+class OrderTransitionTableTest {
+	
+	// The lifecycle written out pair by pair; every pair not listed is rejected.
+	static final Map<OrderStatus, Map<OrderCommand, OrderStatus>> EXPECTED = new EnumMap<>(Map.of(
+			OrderStatus.PENDING, Map.of(
+					OrderCommand.PAY, OrderStatus.PAID,
+					OrderCommand.CANCEL, OrderStatus.CANCELLED),
+			OrderStatus.PAID, Map.of(
+					OrderCommand.APPROVE, OrderStatus.APPROVED,
+					OrderCommand.INIT_CANCEL, OrderStatus.CANCELLING),
+			OrderStatus.CANCELLING, Map.of(
+					OrderCommand.CANCEL, OrderStatus.CANCELLED)));
+	
+	static OrderStatus expectedTarget(OrderStatus status, OrderCommand command) {
+		return EXPECTED.getOrDefault(status, Map.of()).get(command);
+	}
+	
+	static Stream<Arguments> allPairs() {
+		List<Arguments> pairs = new ArrayList<>();
+		for (OrderStatus status : OrderStatus.values()) {
+			for (OrderCommand command : OrderCommand.values()) {
+				pairs.add(Arguments.of(status, command, expectedTarget(status, command)));
+			}
+		}
+		return pairs.stream();
+	}
+	
+	@ParameterizedTest(name = "{0} + {1} -> {2}")
+	@MethodSource("allPairs")
+	void targetMatchesLifecycle(OrderStatus status, OrderCommand command, OrderStatus expected) {
+		assertEquals(expected, OrderTransitionTable.target(status, command));
+		assertEquals(expected != null, OrderTransitionTable.allows(status, command));
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.food.ordering.system.domain.events.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.food.ordering.system.domain.common.DomainClock;
+import com.food.ordering.system.domain.entities.Order;
+import com.food.ordering.system.domain.events.OrderCancelledEvent;
+import com.food.ordering.system.domain.events.OrderCancellationCompletedEvent;
+import com.food.ordering.system.domain.events.OrderPaidEvent;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+class OrderDomainServiceImplTest {
+	
+	private static final Instant START = Instant.parse("2026-01-01T10:00:00Z");
+	
+	private static final Duration STEP = Duration.ofSeconds(1);
+	
+	private final OrderDomainServiceImpl orderDomainService = 
+			new OrderDomainServiceImpl(DomainClock.stepping(START, STEP));
+	
+	@Test
+	void eventsAreStampedByTheDomainClock() {
+		Order order = Order.builder()
+				.status(OrderStatus.PENDING)
+				.failureMessages(new ArrayList<>())
+				.build();
+		
+		OrderPaidEvent paid = orderDomainService.payOrder(order);
+		OrderCancelledEvent cancelling = orderDomainService.cancelOrderPayment(order, List.of("Restaurant rejected"));
+		OrderCancellationCompletedEvent cancelled = orderDomainService.cancelOrder(order, List.of());
+		
+		assertEquals(START, paid.getCreatedAt());
+		assertEquals(START.plus(STEP), cancelling.getCreatedAt());
+		assertEquals(START.plus(STEP.multipliedBy(2)), cancelled.getCreatedAt());
+		assertEquals(START.atZone(DomainClock.ZONE), paid.getCreatedAtUtc());
+	}
+	
+	@Test
+	void eventsKeepTheStatusTheyWereRaisedWith() {
+		Order order = Order.builder()
+				.status(OrderStatus.PAID)
+				.failureMessages(new ArrayList<>())
+				.build();
+		
+		OrderCancelledEvent cancelling = orderDomainService.cancelOrderPayment(order, List.of("Restaurant rejected"));
+		OrderCancellationCompletedEvent cancelled = orderDomainService.cancelOrder(order, List.of("Payment refunded"));
+		
+		assertEquals(OrderStatus.CANCELLING, cancelling.getOrderStatus());
+		assertEquals(List.of("Restaurant rejected"), cancelling.getFailureMessages());
+		assertEquals(OrderStatus.CANCELLED, cancelled.getOrderStatus());
+		assertEquals(List.of("Restaurant rejected", "Payment refunded"), cancelled.getFailureMessages());
+	}
+
+}
@@ -0,0 +1,104 @@
+package com.food.ordering.system.domain.valueobject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class MoneyTest {
+	
+	@ParameterizedTest(name = "{0} -> {1} cents")
+	@CsvSource({
+		"10, 1000",
+		"10.1, 1010",
+		"10.124, 1012",
+		"10.126, 1013",
+		// Half-even: ties go to the even cent.
+		"10.125, 1012",
+		"10.135, 1014",
+		"0.005, 0",
+		"0.015, 2",
+		"-1.005, -100",
+		"-1.015, -102",
+		"1E+2, 10000"
+	})
+	void constructorRoundsToCentsHalfEven(String amount, long expectedCents) {
+		Money money = new Money(new BigDecimal(amount));
+		
+		assertEquals(expectedCents, money.getCents());
+		assertEquals(2, money.getAmount().scale());
+	}
+	
+	@Test
+	void constructorRejectsAmountsOutsideTheLongRange() {
+		BigDecimal tooLarge = BigDecimal.valueOf(Long.MAX_VALUE).movePointLeft(2).add(new BigDecimal("0.01"));
+		
+		assertEquals(Long.MAX_VALUE, new Money(BigDecimal.valueOf(Long.MAX_VALUE, 2)).getCents());
+		assertThrows(ArithmeticException.class, () -> new Money(tooLarge));
+		assertThrows(ArithmeticException.class, () -> new Money(tooLarge.negate().subtract(new BigDecimal("0.01"))));
+		assertThrows(NullPointerException.class, () -> new Money(null));
+	}
+	
+	@Test
+	void equalAmountsAreEqualWhateverTheirScale() {
+		Money oneScale = new Money(new BigDecimal("10.5"));
+		Money twoScale = new Money(new BigDecimal("10.50"));
+		Money fourScale = new Money(new BigDecimal("10.5000"));
+		
+		assertEquals(oneScale, twoScale);
+		assertEquals(twoScale, fourScale);
+		assertEquals(Money.ofCents(1050), fourScale);
+		assertEquals(oneScale.hashCode(), fourScale.hashCode());
+		assertNotEquals(Money.ofCents(1051), oneScale);
+		assertEquals("10.50", fourScale.toString());
+	}
+	
+	@Test
+	void arithmeticIsExactInCents() {
+		Money price = new Money(new BigDecimal("0.10"));
+		
+		assertEquals(new Money(new BigDecimal("0.30")), price.add(price).add(price));
+		assertEquals(new Money(new BigDecimal("0.70")), price.multiply(7));
+		assertEquals(new Money(new BigDecimal("-0.10")), Money.ZERO.subtract(price));
+		assertTrue(price.isGreaterThanZero());
+		assertFalse(Money.ZERO.isGreaterThanZero());
+		assertTrue(price.isGreaterThan(Money.ZERO));
+	}
+	
+	@Test
+	void addOverflowIsRejected() {
+		Money max = Money.ofCents(Long.MAX_VALUE);
+		Money min = Money.ofCents(Long.MIN_VALUE);
+		
+		assertThrows(ArithmeticException.class, () -> max.add(Money.ofCents(1)));
+		assertThrows(ArithmeticException.class, () -> min.add(Money.ofCents(-1)));
+		assertEquals(Money.ofCents(-1), max.add(min));
+	}
+	
+	@Test
+	void subtractOverflowIsRejected() {
+		Money max = Money.ofCents(Long.MAX_VALUE);
+		Money min = Money.ofCents(Long.MIN_VALUE);
+		
+		assertThrows(ArithmeticException.class, () -> min.subtract(Money.ofCents(1)));
+		assertThrows(ArithmeticException.class, () -> max.subtract(Money.ofCents(-1)));
+		assertThrows(ArithmeticException.class, () -> Money.ZERO.subtract(min));
+	}
+	
+	@Test
+	void multiplyOverflowIsRejected() {
+		Money half = Money.ofCents(Long.MAX_VALUE / 2 + 1);
+		
+		assertThrows(ArithmeticException.class, () -> half.multiply(2));
+		assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MIN_VALUE).multiply(-1));
+		assertEquals(Money.ofCents(Long.MAX_VALUE - 1), Money.ofCents(Long.MAX_VALUE / 2).multiply(2));
+	}
+
+}
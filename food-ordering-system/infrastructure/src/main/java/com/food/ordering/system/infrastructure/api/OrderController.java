@@ -1,19 +1,153 @@
 package com.food.ordering.system.infrastructure.api;
 
+import java.io.InputStream;
+import java.net.URI;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.food.ordering.system.application.command.CreateOrderCommand;
+import com.food.ordering.system.application.dto.CreateOrderResponse;
+import com.food.ordering.system.application.dto.bulk.BulkCreateOrderResponse;
+import com.food.ordering.system.application.dto.track.TrackOrderQuery;
+import com.food.ordering.system.application.dto.track.TrackOrderResponse;
 import com.food.ordering.system.application.ports.OrderApplicationService;
+import com.food.ordering.system.infrastructure.api.bulk.BulkOrderIngestion;
+import com.food.ordering.system.infrastructure.api.stream.OrderStatusStreamPublisher;
+import com.food.ordering.system.infrastructure.config.OrderRequestExecutorConfig;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @RestController
-@RequiredArgsConstructor
 @RequestMapping(value = "/orders", produces = "application/vnd.api.v1+json")
 public class OrderController {
+	
+	private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+	
+	private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
 
 	private final OrderApplicationService orderApplicationService;
+	
+	private final ThreadPoolTaskExecutor orderRequestExecutor;
+	
+	private final OrderStatusStreamPublisher orderStatusStreamPublisher;
+	
+	private final BulkOrderIngestion bulkOrderIngestion;
+	
+	public OrderController(OrderApplicationService orderApplicationService,
+			@Qualifier(OrderRequestExecutorConfig.ORDER_REQUEST_EXECUTOR) ThreadPoolTaskExecutor orderRequestExecutor,
+			OrderStatusStreamPublisher orderStatusStreamPublisher,
+			BulkOrderIngestion bulkOrderIngestion) {
+		this.orderApplicationService = orderApplicationService;
+		this.orderRequestExecutor = orderRequestExecutor;
+		this.orderStatusStreamPublisher = orderStatusStreamPublisher;
+		this.bulkOrderIngestion = bulkOrderIngestion;
+	}
+	
+	@PostMapping
+	public ResponseEntity<CreateOrderResponse> createOrder(@RequestBody CreateOrderCommand createOrderCommand,
+			@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+		log.info("Creating order for customer: {} at restaurant: {}", 
+				createOrderCommand.customerId(), createOrderCommand.restaurantId());
+		
+		CreateOrderResponse createOrderResponse = orderApplicationService.execute(createOrderCommand, 
+				checkIdempotencyKey(idempotencyKey));
+		
+		return ResponseEntity.created(trackingUri(createOrderResponse)).body(createOrderResponse);
+	}
+	
+	/**
+	 * Releases the servlet thread while the order and its outbox row are written and
+	 * answers 202 with the tracking id once that transaction commits; payment and
+	 * approval continue asynchronously through the saga.
+	 */
+	@PostMapping("/async")
+	public CompletableFuture<ResponseEntity<CreateOrderResponse>> createOrderAsync(
+			@RequestBody CreateOrderCommand createOrderCommand,
+			@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+		String checkedIdempotencyKey = checkIdempotencyKey(idempotencyKey);
+		
+		log.info("Accepting order for customer: {} at restaurant: {}", 
+				createOrderCommand.customerId(), createOrderCommand.restaurantId());
+		
+		return CompletableFuture
+				.supplyAsync(() -> orderApplicationService.execute(createOrderCommand, checkedIdempotencyKey), 
+						orderRequestExecutor)
+				.thenApply(createOrderResponse -> ResponseEntity.accepted()
+						.location(trackingUri(createOrderResponse))
+						.body(createOrderResponse));
+	}
+	
+	/**
+	 * Accepts a JSON array of orders, streamed rather than bound as a whole, and
+	 * answers with one result per array element read. If reading stopped before
+	 * the end of the array, error says why; the elements after it have no result.
+	 */
+	@PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<BulkCreateOrderResponse> createOrders(InputStream body) {
+		return ResponseEntity.ok(bulkOrderIngestion.ingest(body));
+	}
+	
+	@GetMapping("/{trackingId}")
+	public ResponseEntity<TrackOrderResponse> getOrderByTrackingId(@PathVariable UUID trackingId) {
+		TrackOrderResponse trackOrderResponse = orderApplicationService.trackOrder(new TrackOrderQuery(trackingId));
+		
+		log.info("Returning order status: {} with tracking id: {}", trackOrderResponse.orderStatus(), trackingId);
+		
+		return ResponseEntity.ok(trackOrderResponse);
+	}
+	
+	/**
+	 * Streams status transitions for the order until it is approved or cancelled.
+	 * The current status is sent first, so a client that connects late still sees
+	 * where the order is.
+	 */
+	@GetMapping(value = "/{trackingId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamOrderStatus(@PathVariable UUID trackingId) {
+		// Subscribed before the current status is read, so no transition in between is lost.
+		SseEmitter emitter = orderStatusStreamPublisher.subscribe(trackingId);
+		
+		TrackOrderResponse trackOrderResponse;
+		try {
+			trackOrderResponse = orderApplicationService.trackOrder(new TrackOrderQuery(trackingId));
+		} catch (RuntimeException e) {
+			// An unknown tracking id still fails with 404; the stream was never handed out.
+			orderStatusStreamPublisher.unsubscribe(trackingId, emitter);
+			throw e;
+		}
+		orderStatusStreamPublisher.sendCurrentStatus(emitter, trackOrderResponse);
+		
+		log.debug("Streaming order status: {} with tracking id: {}", trackOrderResponse.orderStatus(), trackingId);
+		
+		return emitter;
+	}
+	
+	private String checkIdempotencyKey(String idempotencyKey) {
+		if (idempotencyKey == null) {
+			return null;
+		}
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+			throw new IllegalArgumentException(IDEMPOTENCY_KEY_HEADER + " must have 1 to " 
+					+ MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+		}
+		return idempotencyKey;
+	}
+	
+	private URI trackingUri(CreateOrderResponse createOrderResponse) {
+		return URI.create("/orders/" + createOrderResponse.orderTrackingId());
+	}
 
 }
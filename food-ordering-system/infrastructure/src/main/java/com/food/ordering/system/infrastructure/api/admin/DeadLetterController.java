@@ -0,0 +1,43 @@
+package com.food.ordering.system.infrastructure.api.admin;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.food.ordering.system.infrastructure.kafka.deadletter.DeadLetterQueueService;
+import com.food.ordering.system.infrastructure.kafka.deadletter.DeadLetterRecord;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/dead-letters")
+public class DeadLetterController {
+	
+	private final DeadLetterQueueService deadLetterQueueService;
+	
+	@GetMapping("/{topic}")
+	public ResponseEntity<List<DeadLetterRecord>> getDeadLetters(@PathVariable String topic,
+			@RequestParam(required = false) Integer partition,
+			@RequestParam(required = false) Long offset,
+			@RequestParam(required = false) Integer limit) {
+		return ResponseEntity.ok(deadLetterQueueService.read(topic, partition, offset, limit));
+	}
+	
+	@PostMapping("/{topic}/{partition}/{offset}/replay")
+	public ResponseEntity<DeadLetterRecord> replay(@PathVariable String topic, 
+			@PathVariable int partition, 
+			@PathVariable long offset) {
+		log.info("Replaying dead letter at partition: {} offset: {} of topic: {}", partition, offset, topic);
+		return ResponseEntity.accepted().body(deadLetterQueueService.replay(topic, partition, offset));
+	}
+
+}
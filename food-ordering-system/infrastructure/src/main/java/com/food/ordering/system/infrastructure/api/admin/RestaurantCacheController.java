@@ -0,0 +1,39 @@
+package com.food.ordering.system.infrastructure.api.admin;
+
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.infrastructure.persistence.restaurant.adapter.CachingRestaurantRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Evicts cached restaurants after their products or availability were changed,
+ * instead of waiting for the entries to expire.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/restaurant-cache")
+public class RestaurantCacheController {
+	
+	private final CachingRestaurantRepository cachingRestaurantRepository;
+	
+	@DeleteMapping("/{restaurantId}")
+	public ResponseEntity<Void> evict(@PathVariable UUID restaurantId) {
+		cachingRestaurantRepository.invalidate(new RestaurantId(restaurantId));
+		return ResponseEntity.noContent().build();
+	}
+	
+	@DeleteMapping
+	public ResponseEntity<Void> evictAll() {
+		cachingRestaurantRepository.invalidateAll();
+		return ResponseEntity.noContent().build();
+	}
+
+}
@@ -0,0 +1,161 @@
+package com.food.ordering.system.infrastructure.api.bulk;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.application.command.CreateOrderCommand;
+import com.food.ordering.system.application.dto.bulk.BulkCreateOrderResponse;
+import com.food.ordering.system.application.dto.bulk.BulkCreateOrderResult;
+import com.food.ordering.system.application.ports.OrderApplicationService;
+import com.food.ordering.system.infrastructure.config.OrderRequestExecutorConfig;
+import com.food.ordering.system.infrastructure.config.OrderServiceConfigData;
+import com.food.ordering.system.infrastructure.exceptions.BulkOrderRequestException;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Reads a JSON array of CreateOrderCommand from the request body one element at
+ * a time and hands fixed-size chunks to the bulk executor while it keeps
+ * parsing. At most bulk-max-in-flight-chunks chunks are held in memory, so the
+ * upload size does not decide the heap needed to ingest it.
+ */
+@Slf4j
+@Component
+public class BulkOrderIngestion {
+	
+	private final OrderApplicationService orderApplicationService;
+	
+	private final OrderServiceConfigData orderServiceConfigData;
+	
+	private final ThreadPoolTaskExecutor bulkOrderExecutor;
+	
+	private final JsonMapper jsonMapper;
+	
+	public BulkOrderIngestion(OrderApplicationService orderApplicationService,
+			OrderServiceConfigData orderServiceConfigData,
+			@Qualifier(OrderRequestExecutorConfig.BULK_ORDER_EXECUTOR) ThreadPoolTaskExecutor bulkOrderExecutor,
+			JsonMapper jsonMapper) {
+		this.orderApplicationService = orderApplicationService;
+		this.orderServiceConfigData = orderServiceConfigData;
+		this.bulkOrderExecutor = bulkOrderExecutor;
+		this.jsonMapper = jsonMapper;
+	}
+	
+	public BulkCreateOrderResponse ingest(InputStream inputStream) {
+		int chunkSize = orderServiceConfigData.getBulkChunkSize();
+		int maxOrders = orderServiceConfigData.getBulkMaxOrders();
+		Semaphore inFlightChunks = new Semaphore(orderServiceConfigData.getBulkMaxInFlightChunks());
+		
+		List<CompletableFuture<List<BulkCreateOrderResult>>> chunkResults = new ArrayList<>();
+		List<BulkCreateOrderResult> rejected = new ArrayList<>();
+		String error = null;
+		
+		List<CreateOrderCommand> chunk = new ArrayList<>(chunkSize);
+		int[] chunkIndexes = new int[chunkSize];
+		int index = 0;
+		
+		try (JsonParser parser = jsonMapper.createParser(inputStream)) {
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				throw new BulkOrderRequestException("Bulk order payload must be a JSON array");
+			}
+			
+			JsonToken token;
+			while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+				if (token == null) {
+					error = "Bulk order payload ended before the array was closed";
+					break;
+				}
+				if (index == maxOrders) {
+					error = "Bulk limit of " + maxOrders + " orders exceeded, remaining orders were not read";
+					break;
+				}
+				
+				if (token == JsonToken.START_OBJECT) {
+					chunkIndexes[chunk.size()] = index;
+					chunk.add(jsonMapper.readValue(parser, CreateOrderCommand.class));
+				} else if (token == JsonToken.VALUE_NULL) {
+					// Rejected by the command handler as an empty order.
+					chunkIndexes[chunk.size()] = index;
+					chunk.add(null);
+				} else {
+					parser.skipChildren();
+					rejected.add(BulkCreateOrderResult.failed(index, "Order must be a JSON object"));
+				}
+				index++;
+				
+				if (chunk.size() == chunkSize) {
+					chunkResults.add(submit(chunk, chunkIndexes, inFlightChunks));
+					chunk = new ArrayList<>(chunkSize);
+					chunkIndexes = new int[chunkSize];
+				}
+			}
+			
+			if (error == null && parser.nextToken() != null) {
+				error = "Unexpected content after the order array";
+			}
+		} catch (JacksonException e) {
+			log.warn("Stopped reading bulk orders at index: {}: {}", index, e.getOriginalMessage());
+			error = "Malformed order at index " + index + ": " + e.getOriginalMessage();
+		}
+		
+		if (!chunk.isEmpty()) {
+			chunkResults.add(submit(chunk, chunkIndexes, inFlightChunks));
+		}
+		
+		List<BulkCreateOrderResult> results = new ArrayList<>(index);
+		for (CompletableFuture<List<BulkCreateOrderResult>> chunkResult : chunkResults) {
+			results.addAll(chunkResult.join());
+		}
+		if (!rejected.isEmpty()) {
+			results.addAll(rejected);
+			results.sort(Comparator.comparingInt(BulkCreateOrderResult::index));
+		}
+		
+		int created = (int) results.stream().filter(BulkCreateOrderResult::created).count();
+		
+		log.info("Bulk upload of {} orders: {} created, {} failed{}", index, created, results.size() - created, 
+				error == null ? "" : ", stopped reading: " + error);
+		
+		return new BulkCreateOrderResponse(index, created, results.size() - created, results, error);
+	}
+	
+	/**
+	 * The chunk is created as positions 0..n-1 and its results are mapped back to
+	 * the array indexes of its orders, which are not contiguous when elements
+	 * that are not objects were rejected in between.
+	 */
+	private CompletableFuture<List<BulkCreateOrderResult>> submit(List<CreateOrderCommand> chunk, int[] indexes, 
+			Semaphore inFlightChunks) {
+		// Blocks the reading thread, not the workers, when the pipeline is full.
+		inFlightChunks.acquireUninterruptibly();
+		
+		return CompletableFuture
+				.supplyAsync(() -> orderApplicationService.executeBulk(chunk, 0), bulkOrderExecutor)
+				.thenApply(results -> results.stream()
+						.map(result -> new BulkCreateOrderResult(indexes[result.index()], result.created(), 
+								result.orderTrackingId(), result.orderStatus(), result.message()))
+						.toList())
+				.exceptionally(ex -> {
+					log.error("Bulk chunk starting at index: {} failed", indexes[0], ex);
+					List<BulkCreateOrderResult> failed = new ArrayList<>(chunk.size());
+					for (int i = 0; i < chunk.size(); i++) {
+						failed.add(BulkCreateOrderResult.failed(indexes[i], "Could not process order"));
+					}
+					return failed;
+				})
+				.whenComplete((result, ex) -> inFlightChunks.release());
+	}
+
+}
@@ -0,0 +1,11 @@
+package com.food.ordering.system.infrastructure.api.exception;
+
+public record ErrorResponse(
+		
+		String code,
+		
+		String message
+		
+		) {
+
+}
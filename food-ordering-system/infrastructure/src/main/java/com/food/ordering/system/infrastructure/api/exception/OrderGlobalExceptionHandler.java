@@ -0,0 +1,79 @@
+package com.food.ordering.system.infrastructure.api.exception;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.food.ordering.system.application.exceptions.DuplicateIdempotencyKeyException;
+import com.food.ordering.system.application.exceptions.IdempotencyKeyReusedException;
+import com.food.ordering.system.domain.exceptions.OrderException;
+import com.food.ordering.system.domain.exceptions.OrderNotFoundException;
+import com.food.ordering.system.infrastructure.exceptions.BulkOrderRequestException;
+import com.food.ordering.system.infrastructure.exceptions.DeadLetterRecordNotFoundException;
+
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestControllerAdvice
+public class OrderGlobalExceptionHandler {
+	
+	@ExceptionHandler({OrderNotFoundException.class, DeadLetterRecordNotFoundException.class})
+	@ResponseStatus(HttpStatus.NOT_FOUND)
+	public ErrorResponse handleOrderNotFoundException(RuntimeException exception) {
+		log.warn(exception.getMessage());
+		return new ErrorResponse(HttpStatus.NOT_FOUND.getReasonPhrase(), exception.getMessage());
+	}
+	
+	@ExceptionHandler({OrderException.class, IllegalStateException.class, IllegalArgumentException.class, 
+		BulkOrderRequestException.class})
+	@ResponseStatus(HttpStatus.BAD_REQUEST)
+	public ErrorResponse handleOrderException(RuntimeException exception) {
+		log.warn(exception.getMessage());
+		return new ErrorResponse(HttpStatus.BAD_REQUEST.getReasonPhrase(), exception.getMessage());
+	}
+	
+	@ExceptionHandler(IdempotencyKeyReusedException.class)
+	@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+	public ErrorResponse handleIdempotencyKeyReusedException(IdempotencyKeyReusedException exception) {
+		log.warn(exception.getMessage());
+		return new ErrorResponse(HttpStatus.UNPROCESSABLE_ENTITY.getReasonPhrase(), exception.getMessage());
+	}
+	
+	@ExceptionHandler(DuplicateIdempotencyKeyException.class)
+	@ResponseStatus(HttpStatus.CONFLICT)
+	public ErrorResponse handleDuplicateIdempotencyKeyException(DuplicateIdempotencyKeyException exception) {
+		log.warn(exception.getMessage());
+		return new ErrorResponse(HttpStatus.CONFLICT.getReasonPhrase(), exception.getMessage());
+	}
+	
+	@ExceptionHandler(ConstraintViolationException.class)
+	@ResponseStatus(HttpStatus.BAD_REQUEST)
+	public ErrorResponse handleConstraintViolationException(ConstraintViolationException exception) {
+		String violations = exception.getConstraintViolations()
+				.stream()
+				.map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+				.collect(Collectors.joining(", "));
+		log.warn(violations);
+		return new ErrorResponse(HttpStatus.BAD_REQUEST.getReasonPhrase(), violations);
+	}
+	
+	@ExceptionHandler(RejectedExecutionException.class)
+	@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+	public ErrorResponse handleRejectedExecutionException(RejectedExecutionException exception) {
+		log.warn("Order request rejected: {}", exception.getMessage());
+		return new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(), "Too many pending order requests");
+	}
+	
+	@ExceptionHandler(Exception.class)
+	@ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+	public ErrorResponse handleException(Exception exception) {
+		log.error(exception.getMessage(), exception);
+		return new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(), "Unexpected error!");
+	}
+
+}
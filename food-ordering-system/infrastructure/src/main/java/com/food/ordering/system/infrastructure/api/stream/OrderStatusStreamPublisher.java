@@ -0,0 +1,232 @@
+package com.food.ordering.system.infrastructure.api.stream;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.food.ordering.system.application.dto.track.TrackOrderResponse;
+import com.food.ordering.system.application.publisher.DomainEventSubscriber;
+import com.food.ordering.system.application.publisher.OrderStatusChangedEvent;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.infrastructure.config.OrderStatusStreamConfigData;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the open SSE connections per tracking id and pushes order status
+ * transitions to them. Subscribed to the order event bus, so it only sees
+ * events whose transaction committed.
+ * Idle connections hold no thread (servlet async), only the emitter itself, so
+ * the limit per node is the connector's max-connections.
+ *
+ * Writes happen on dispatch lanes, single-thread executors picked by tracking
+ * id, never on the committing or scheduler thread. All writes and heartbeats of
+ * one tracking id go through the same lane, so they reach the client one at a
+ * time and in the order they were sent. A lane holding dispatch-queue-capacity
+ * pending writes drops new heartbeats and intermediate statuses; an APPROVED or
+ * CANCELLED write is always queued, since it is the one that closes the stream.
+ *
+ * The current status sent when a stream opens was read before it was queued,
+ * so it is dropped if a transition already reached that emitter first.
+ */
+@Slf4j
+@Component
+public class OrderStatusStreamPublisher implements DomainEventSubscriber<OrderStatusChangedEvent>, DisposableBean {
+	
+	private static final String STATUS_EVENT_NAME = "order-status";
+	
+	private final Lane[] lanes;
+	
+	private final AtomicInteger openStreams = new AtomicInteger();
+	
+	private final OrderStatusStreamConfigData orderStatusStreamConfigData;
+	
+	private final Counter droppedCounter;
+	
+	public OrderStatusStreamPublisher(OrderStatusStreamConfigData orderStatusStreamConfigData,
+			MeterRegistry meterRegistry) {
+		this.orderStatusStreamConfigData = orderStatusStreamConfigData;
+		
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("order-status-stream-");
+		this.lanes = new Lane[orderStatusStreamConfigData.getDispatchThreads()];
+		for (int i = 0; i < lanes.length; i++) {
+			lanes[i] = new Lane(new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+					new LinkedBlockingQueue<>(), threadFactory));
+		}
+		
+		Gauge.builder("order.status.streams.open", openStreams, AtomicInteger::get)
+				.description("Open order status SSE connections")
+				.register(meterRegistry);
+		this.droppedCounter = Counter.builder("order.status.streams.dropped")
+				.description("Heartbeats and intermediate status writes dropped because their dispatch lane was full")
+				.register(meterRegistry);
+	}
+	
+	public SseEmitter subscribe(UUID trackingId) {
+		SseEmitter emitter = new SseEmitter(orderStatusStreamConfigData.getEmitterTimeoutMs());
+		
+		laneOf(trackingId).emitters.compute(trackingId, (id, streams) -> {
+			Set<SseEmitter> current = streams == null ? ConcurrentHashMap.newKeySet() : streams;
+			current.add(emitter);
+			return current;
+		});
+		openStreams.incrementAndGet();
+		
+		emitter.onCompletion(() -> remove(trackingId, emitter));
+		emitter.onTimeout(emitter::complete);
+		emitter.onError(ex -> emitter.complete());
+		
+		return emitter;
+	}
+	
+	/**
+	 * Removes a stream that is given up before it was returned to the client.
+	 */
+	public void unsubscribe(UUID trackingId, SseEmitter emitter) {
+		remove(trackingId, emitter);
+	}
+	
+	public void sendCurrentStatus(SseEmitter emitter, TrackOrderResponse trackOrderResponse) {
+		Lane lane = laneOf(trackOrderResponse.orderTrackingId());
+		lane.execute(() -> {
+			if (!lane.statusWritten.contains(emitter)) {
+				write(emitter, trackOrderResponse);
+			}
+		}, !isFinal(trackOrderResponse.orderStatus()));
+	}
+	
+	private void send(SseEmitter emitter, TrackOrderResponse trackOrderResponse) {
+		Lane lane = laneOf(trackOrderResponse.orderTrackingId());
+		lane.execute(() -> {
+			lane.statusWritten.add(emitter);
+			write(emitter, trackOrderResponse);
+		}, !isFinal(trackOrderResponse.orderStatus()));
+	}
+	
+	@Override
+	public void onEvents(List<OrderStatusChangedEvent> orderEvents) {
+		if (openStreams.get() == 0) {
+			return;
+		}
+		
+		for (OrderStatusChangedEvent orderEvent : orderEvents) {
+			UUID trackingId = orderEvent.trackingId();
+			Set<SseEmitter> streams = laneOf(trackingId).emitters.get(trackingId);
+			
+			if (streams == null) {
+				continue;
+			}
+			
+			TrackOrderResponse trackOrderResponse = new TrackOrderResponse(trackingId,
+					orderEvent.orderStatus(),
+					orderEvent.failureMessages());
+			
+			streams.forEach(emitter -> send(emitter, trackOrderResponse));
+		}
+	}
+	
+	// Only queues one heartbeat pass per lane; the writes run on the lanes, behind any pending status writes.
+	@Scheduled(fixedDelayString = "${order-status-stream.heartbeat-interval-ms}",
+			initialDelayString = "${order-status-stream.heartbeat-interval-ms}")
+	public void heartbeat() {
+		for (Lane lane : lanes) {
+			if (!lane.emitters.isEmpty()) {
+				lane.execute(() -> heartbeat(lane), true);
+			}
+		}
+	}
+	
+	@Override
+	public void destroy() {
+		for (Lane lane : lanes) {
+			lane.executor.shutdown();
+		}
+	}
+	
+	private void heartbeat(Lane lane) {
+		lane.emitters.values().forEach(streams -> streams.forEach(emitter -> {
+			try {
+				emitter.send(SseEmitter.event().comment("heartbeat"));
+			} catch (IOException | IllegalStateException e) {
+				emitter.completeWithError(e);
+			}
+		}));
+	}
+	
+	private void write(SseEmitter emitter, TrackOrderResponse trackOrderResponse) {
+		try {
+			emitter.send(SseEmitter.event()
+					.name(STATUS_EVENT_NAME)
+					.id(trackOrderResponse.orderStatus().name())
+					.data(trackOrderResponse));
+			
+			if (isFinal(trackOrderResponse.orderStatus())) {
+				emitter.complete();
+			}
+		} catch (IOException | IllegalStateException e) {
+			log.debug("Closing order status stream for tracking id: {}: {}",
+					trackOrderResponse.orderTrackingId(), e.getMessage());
+			emitter.completeWithError(e);
+		}
+	}
+	
+	private void remove(UUID trackingId, SseEmitter emitter) {
+		Lane lane = laneOf(trackingId);
+		lane.statusWritten.remove(emitter);
+		lane.emitters.computeIfPresent(trackingId, (id, streams) -> {
+			if (streams.remove(emitter)) {
+				openStreams.decrementAndGet();
+			}
+			return streams.isEmpty() ? null : streams;
+		});
+	}
+	
+	private Lane laneOf(UUID trackingId) {
+		return lanes[Math.floorMod(trackingId.hashCode(), lanes.length)];
+	}
+	
+	private boolean isFinal(OrderStatus orderStatus) {
+		return orderStatus == OrderStatus.APPROVED || orderStatus == OrderStatus.CANCELLED;
+	}
+	
+	private final class Lane {
+		
+		private final ThreadPoolExecutor executor;
+		
+		private final Map<UUID, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+		
+		// Emitters that already got a transition; added to on the lane thread only.
+		private final Set<SseEmitter> statusWritten = ConcurrentHashMap.newKeySet();
+		
+		private Lane(ThreadPoolExecutor executor) {
+			this.executor = executor;
+		}
+		
+		// The queue itself is unbounded, so a final status is never rejected; the capacity only limits droppable writes.
+		private void execute(Runnable task, boolean droppable) {
+			if (droppable && executor.getQueue().size() >= orderStatusStreamConfigData.getDispatchQueueCapacity()) {
+				droppedCounter.increment();
+				return;
+			}
+			executor.execute(task);
+		}
+	
+	}
+
+}
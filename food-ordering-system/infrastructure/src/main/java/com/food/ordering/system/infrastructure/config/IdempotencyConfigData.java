@@ -0,0 +1,14 @@
+package com.food.ordering.system.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyConfigData {
+    private Long ttlSeconds;
+    private Long cacheMaximumSize;
+    private Long purgeIntervalMs;
+}
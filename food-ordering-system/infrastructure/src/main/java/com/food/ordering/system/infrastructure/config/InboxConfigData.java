@@ -0,0 +1,16 @@
+package com.food.ordering.system.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "inbox")
+public class InboxConfigData {
+    private Long retentionHours;
+    private Long filterExpectedInsertions;
+    private Double filterFalsePositiveRate;
+    private Long filterRebuildIntervalMs;
+    private Long purgeIntervalMs;
+}
@@ -0,0 +1,36 @@
+package com.food.ordering.system.infrastructure.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class InboxFilterExecutorConfig {
+	
+	public static final String INBOX_FILTER_EXECUTOR = "inboxFilterExecutor";
+	
+	/**
+	 * Rebuilds the inbox filter off the consumer threads. One rebuild runs and one
+	 * more may wait; a request made while one is waiting is dropped, since the
+	 * waiting rebuild has not started yet and will include everything it asks for.
+	 */
+	@Bean(INBOX_FILTER_EXECUTOR)
+	public ThreadPoolTaskExecutor inboxFilterExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		
+		executor.setCorePoolSize(1);
+		
+		executor.setMaxPoolSize(1);
+		
+		executor.setQueueCapacity(1);
+		
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+		
+		executor.setThreadNamePrefix("inbox-filter-");
+		
+		return executor;
+	}
+
+}
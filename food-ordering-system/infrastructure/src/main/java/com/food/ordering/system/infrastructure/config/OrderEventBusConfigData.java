@@ -0,0 +1,16 @@
+package com.food.ordering.system.infrastructure.config;
+
+import com.food.ordering.system.infrastructure.event.ring.WaitStrategy;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-event-bus")
+public class OrderEventBusConfigData {
+    private Integer bufferSize;
+    private Integer maxBatchSize;
+    private WaitStrategy.Type waitStrategy;
+}
@@ -0,0 +1,65 @@
+package com.food.ordering.system.infrastructure.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class OrderRequestExecutorConfig {
+	
+	public static final String ORDER_REQUEST_EXECUTOR = "orderRequestExecutor";
+	
+	public static final String BULK_ORDER_EXECUTOR = "bulkOrderExecutor";
+	
+	private final OrderServiceConfigData orderServiceConfigData;
+	
+	/**
+	 * Runs the asynchronous create path off the servlet threads. A full queue is
+	 * rejected (surfaced as 503) instead of queueing checkouts without limit.
+	 */
+	@Bean(ORDER_REQUEST_EXECUTOR)
+	public ThreadPoolTaskExecutor orderRequestExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		
+		executor.setCorePoolSize(orderServiceConfigData.getRequestExecutorThreads());
+		
+		executor.setMaxPoolSize(orderServiceConfigData.getRequestExecutorThreads());
+		
+		executor.setQueueCapacity(orderServiceConfigData.getRequestExecutorQueueCapacity());
+		
+		executor.setThreadNamePrefix("order-request-");
+		
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		
+		return executor;
+	}
+	
+	/**
+	 * Persists bulk upload chunks. The queue holds every chunk a single upload may
+	 * have in flight; concurrent uploads beyond that run on the uploading thread.
+	 */
+	@Bean(BULK_ORDER_EXECUTOR)
+	public ThreadPoolTaskExecutor bulkOrderExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		
+		executor.setCorePoolSize(orderServiceConfigData.getBulkExecutorThreads());
+		
+		executor.setMaxPoolSize(orderServiceConfigData.getBulkExecutorThreads());
+		
+		executor.setQueueCapacity(orderServiceConfigData.getBulkMaxInFlightChunks());
+		
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		
+		executor.setThreadNamePrefix("bulk-order-");
+		
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		
+		return executor;
+	}
+
+}
@@ -0,0 +1,24 @@
+package com.food.ordering.system.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service")
+public class OrderServiceConfigData {
+    private String paymentRequestTopicName;
+    private String paymentResponseTopicName;
+    private String restaurantApprovalRequestTopicName;
+    private String restaurantApprovalResponseTopicName;
+    private Integer outboxRelayBatchSize;
+    private Long outboxRelayIntervalMs;
+    private Long outboxRelayClaimTimeoutMs;
+    private Integer requestExecutorThreads;
+    private Integer requestExecutorQueueCapacity;
+    private Integer bulkChunkSize;
+    private Integer bulkMaxOrders;
+    private Integer bulkExecutorThreads;
+    private Integer bulkMaxInFlightChunks;
+}
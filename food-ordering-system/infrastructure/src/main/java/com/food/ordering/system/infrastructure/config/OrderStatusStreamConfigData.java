@@ -0,0 +1,15 @@
+package com.food.ordering.system.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-status-stream")
+public class OrderStatusStreamConfigData {
+    private Long emitterTimeoutMs;
+    private Long heartbeatIntervalMs;
+    private Integer dispatchThreads;
+    private Integer dispatchQueueCapacity;
+}
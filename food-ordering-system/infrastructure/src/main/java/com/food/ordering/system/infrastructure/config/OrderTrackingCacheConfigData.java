@@ -0,0 +1,13 @@
+package com.food.ordering.system.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-tracking-cache")
+public class OrderTrackingCacheConfigData {
+    private Long maximumSize;
+    private Long expireAfterWriteSeconds;
+}
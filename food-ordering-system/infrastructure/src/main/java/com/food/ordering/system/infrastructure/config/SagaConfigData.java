@@ -0,0 +1,21 @@
+package com.food.ordering.system.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "saga")
+public class SagaConfigData {
+    private Long paymentTimeoutMs;
+    private Long approvalTimeoutMs;
+    private Long compensationTimeoutMs;
+    private Integer compensationMaxRetries;
+    private Long timerTickMs;
+    private Integer timerWheelSize;
+    private Integer timeoutThreads;
+    private Integer timeoutBatchSize;
+    private Integer timeoutQueueCapacity;
+    private Long recoveryIntervalMs;
+}
@@ -0,0 +1,41 @@
+package com.food.ordering.system.infrastructure.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class SagaTimeoutExecutorConfig {
+	
+	public static final String SAGA_TIMEOUT_EXECUTOR = "sagaTimeoutExecutor";
+	
+	private final SagaConfigData sagaConfigData;
+	
+	/**
+	 * Runs the transactions that time sagas out, off the timer wheel thread. A full
+	 * queue rejects the batch instead of blocking the wheel; the recovery sweep
+	 * picks those sagas up from their deadlines.
+	 */
+	@Bean(SAGA_TIMEOUT_EXECUTOR)
+	public ThreadPoolTaskExecutor sagaTimeoutExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		
+		executor.setCorePoolSize(sagaConfigData.getTimeoutThreads());
+		
+		executor.setMaxPoolSize(sagaConfigData.getTimeoutThreads());
+		
+		executor.setQueueCapacity(sagaConfigData.getTimeoutQueueCapacity());
+		
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		
+		executor.setThreadNamePrefix("saga-timeout-");
+		
+		return executor;
+	}
+
+}
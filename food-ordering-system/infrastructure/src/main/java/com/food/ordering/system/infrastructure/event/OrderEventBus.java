@@ -0,0 +1,95 @@
+package com.food.ordering.system.infrastructure.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.food.ordering.system.application.publisher.DomainEventPublisher;
+import com.food.ordering.system.application.publisher.DomainEventSubscriber;
+import com.food.ordering.system.application.publisher.OrderStatusChangedEvent;
+import com.food.ordering.system.infrastructure.config.OrderEventBusConfigData;
+import com.food.ordering.system.infrastructure.event.ring.RingBuffer;
+import com.food.ordering.system.infrastructure.event.ring.WaitStrategy;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process fan-out of order status changes, carried as immutable copies of
+ * each transition, never the aggregate. Events published inside a transaction
+ * are collected and put on the ring buffer in one claim once it commits, and
+ * are dropped if it rolls back; each subscriber then gets them in batches on
+ * its own thread. The committing thread only pays for the copy into the ring.
+ */
+@Slf4j
+@Component
+public class OrderEventBus implements DomainEventPublisher<OrderStatusChangedEvent>, DisposableBean {
+	
+	private final RingBuffer<OrderStatusChangedEvent> ringBuffer;
+	
+	public OrderEventBus(OrderEventBusConfigData orderEventBusConfigData,
+			List<DomainEventSubscriber<OrderStatusChangedEvent>> subscribers,
+			MeterRegistry meterRegistry) {
+		this.ringBuffer = new RingBuffer<>(orderEventBusConfigData.getBufferSize(),
+				orderEventBusConfigData.getMaxBatchSize(),
+				WaitStrategy.of(orderEventBusConfigData.getWaitStrategy()));
+		
+		for (DomainEventSubscriber<OrderStatusChangedEvent> subscriber : subscribers) {
+			ringBuffer.subscribe("order-event-bus-" + subscriber.name(), subscriber::onEvents);
+		}
+		
+		Gauge.builder("order.event.bus.backlog", ringBuffer, RingBuffer::backlog)
+				.description("Order events published and not yet handled by the slowest subscriber")
+				.register(meterRegistry);
+		
+		log.info("Order event bus started with {} subscribers and {} slots", subscribers.size(), ringBuffer.capacity());
+	}
+	
+	@Override
+	public void publisher(OrderStatusChangedEvent orderEvent) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			ringBuffer.publish(orderEvent);
+			return;
+		}
+		
+		@SuppressWarnings("unchecked")
+		List<OrderStatusChangedEvent> pending = (List<OrderStatusChangedEvent>) TransactionSynchronizationManager.getResource(this);
+		if (pending == null) {
+			pending = new ArrayList<>();
+			TransactionSynchronizationManager.bindResource(this, pending);
+			TransactionSynchronizationManager.registerSynchronization(new PublishAfterCommit(pending));
+		}
+		pending.add(orderEvent);
+	}
+	
+	@Override
+	public void destroy() {
+		ringBuffer.stop();
+	}
+	
+	private final class PublishAfterCommit implements TransactionSynchronization {
+		
+		private final List<OrderStatusChangedEvent> pending;
+		
+		private PublishAfterCommit(List<OrderStatusChangedEvent> pending) {
+			this.pending = pending;
+		}
+		
+		@Override
+		public void afterCommit() {
+			ringBuffer.publishAll(pending);
+		}
+		
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(OrderEventBus.this);
+		}
+	
+	}
+
+}
@@ -0,0 +1,236 @@
+package com.food.ordering.system.infrastructure.event.ring;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Multi-producer, multi-subscriber ring buffer in the style of the LMAX
+ * Disruptor. The slots are allocated once; producers claim sequences with a CAS
+ * on the cursor and mark each slot published with the round it belongs to, so
+ * there is no lock and no allocation per event on the publishing thread.
+ *
+ * Every subscriber has its own thread and its own sequence and sees every
+ * event, in order, handed over as batches of whatever has been published since
+ * its last round. Producers only wait when the slowest subscriber is a whole
+ * ring behind.
+ */
+@Slf4j
+public class RingBuffer<T> {
+	
+	private final AtomicReferenceArray<T> slots;
+	
+	// Round (sequence / size) each slot was last published for, -1 before the first.
+	private final AtomicIntegerArray published;
+	
+	private final int mask;
+	
+	private final int indexShift;
+	
+	private final int maxBatchSize;
+	
+	private final WaitStrategy waitStrategy;
+	
+	// Highest claimed sequence.
+	private final AtomicLong cursor = new AtomicLong(-1);
+	
+	// Lowest subscriber sequence seen by a producer, refreshed when a claim would wrap past it.
+	private final AtomicLong cachedGatingSequence = new AtomicLong(-1);
+	
+	private final List<Processor> processors = new CopyOnWriteArrayList<>();
+	
+	private volatile boolean running = true;
+	
+	public RingBuffer(int bufferSize, int maxBatchSize, WaitStrategy waitStrategy) {
+		if (bufferSize <= 0 || Integer.bitCount(bufferSize) != 1) {
+			throw new IllegalArgumentException("Buffer size must be a power of 2.");
+		}
+		if (maxBatchSize <= 0) {
+			throw new IllegalArgumentException("Max batch size must be greater than 0.");
+		}
+		
+		this.slots = new AtomicReferenceArray<>(bufferSize);
+		this.published = new AtomicIntegerArray(bufferSize);
+		for (int i = 0; i < bufferSize; i++) {
+			published.set(i, -1);
+		}
+		this.mask = bufferSize - 1;
+		this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+		this.maxBatchSize = maxBatchSize;
+		this.waitStrategy = waitStrategy;
+	}
+	
+	/**
+	 * Adds a subscriber and starts its thread. Subscribers must be added before
+	 * the first publish: a later one starts at the current cursor.
+	 */
+	public synchronized void subscribe(String name, Consumer<List<T>> handler) {
+		Processor processor = new Processor(name, handler, cursor.get());
+		processors.add(processor);
+		processor.thread.start();
+	}
+	
+	public void publish(T event) {
+		long sequence = claim(1);
+		write(sequence, event);
+		waitStrategy.signalAll();
+	}
+	
+	/**
+	 * Claims a range for all events at once, so they stay contiguous and reach
+	 * subscribers in one batch where they fit.
+	 */
+	public void publishAll(List<T> events) {
+		if (events.isEmpty()) {
+			return;
+		}
+		
+		int size = mask + 1;
+		for (int from = 0; from < events.size(); from += size) {
+			int count = Math.min(size, events.size() - from);
+			long last = claim(count);
+			long first = last - count + 1;
+			for (int i = 0; i < count; i++) {
+				write(first + i, events.get(from + i));
+			}
+		}
+		waitStrategy.signalAll();
+	}
+	
+	public int capacity() {
+		return mask + 1;
+	}
+	
+	/**
+	 * Events published and not yet handled by the slowest subscriber.
+	 */
+	public long backlog() {
+		return Math.max(0, cursor.get() - minimumSequence(cursor.get()));
+	}
+	
+	public synchronized void stop() {
+		running = false;
+		waitStrategy.signalAll();
+		for (Processor processor : processors) {
+			processor.thread.interrupt();
+		}
+	}
+	
+	private long claim(int count) {
+		int size = mask + 1;
+		while (true) {
+			if (!running) {
+				throw new IllegalStateException("Ring buffer is stopped.");
+			}
+			
+			long current = cursor.get();
+			long next = current + count;
+			long wrapPoint = next - size;
+			
+			if (wrapPoint > cachedGatingSequence.get()) {
+				long gatingSequence = minimumSequence(current);
+				if (wrapPoint > gatingSequence) {
+					// The slowest subscriber is a whole ring behind.
+					LockSupport.parkNanos(1);
+					continue;
+				}
+				cachedGatingSequence.set(gatingSequence);
+			} else if (cursor.compareAndSet(current, next)) {
+				return next;
+			}
+		}
+	}
+	
+	private void write(long sequence, T event) {
+		int index = (int) (sequence & mask);
+		slots.lazySet(index, event);
+		published.set(index, (int) (sequence >>> indexShift));
+	}
+	
+	private boolean isPublished(long sequence) {
+		return published.get((int) (sequence & mask)) == (int) (sequence >>> indexShift);
+	}
+	
+	private long highestPublished(long from, long available) {
+		for (long sequence = from; sequence <= available; sequence++) {
+			if (!isPublished(sequence)) {
+				return sequence - 1;
+			}
+		}
+		return available;
+	}
+	
+	private long minimumSequence(long minimum) {
+		for (Processor processor : processors) {
+			minimum = Math.min(minimum, processor.sequence.get());
+		}
+		return minimum;
+	}
+	
+	private final class Processor implements Runnable {
+		
+		private final String name;
+		
+		private final Consumer<List<T>> handler;
+		
+		// Last sequence handled.
+		private final AtomicLong sequence;
+		
+		private final Thread thread;
+		
+		private Processor(String name, Consumer<List<T>> handler, long sequence) {
+			this.name = name;
+			this.handler = handler;
+			this.sequence = new AtomicLong(sequence);
+			this.thread = new Thread(this, name);
+			this.thread.setDaemon(true);
+		}
+		
+		@Override
+		public void run() {
+			long next = sequence.get() + 1;
+			List<T> batch = new ArrayList<>(maxBatchSize);
+			
+			while (running) {
+				long available;
+				try {
+					available = waitStrategy.waitFor(next, cursor, () -> running);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				
+				long highest = highestPublished(next, Math.min(available, next + maxBatchSize - 1));
+				if (highest < next) {
+					// Claimed by a producer that has not written its slot yet.
+					Thread.onSpinWait();
+					continue;
+				}
+				
+				for (long s = next; s <= highest; s++) {
+					batch.add(slots.get((int) (s & mask)));
+				}
+				
+				try {
+					handler.accept(Collections.unmodifiableList(batch));
+				} catch (RuntimeException e) {
+					log.error("Subscriber {} failed on events {} to {}", name, next, highest, e);
+				}
+				
+				batch.clear();
+				sequence.set(highest);
+				next = highest + 1;
+			}
+		}
+	
+	}
+
+}
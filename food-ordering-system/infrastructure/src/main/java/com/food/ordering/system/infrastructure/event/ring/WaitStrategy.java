@@ -0,0 +1,139 @@
+package com.food.ordering.system.infrastructure.event.ring;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * How a subscriber thread waits for the ring buffer cursor to reach the next
+ * sequence it needs. The strategies trade latency for CPU:
+ * <ul>
+ * <li>BLOCKING: parks on a condition signalled by every publish, lowest CPU;</li>
+ * <li>SLEEPING: spins, yields, then parks for a short while, no lock on publish;</li>
+ * <li>YIELDING: spins, then yields, for a thread per subscriber on spare cores;</li>
+ * <li>BUSY_SPIN: never gives up the core, lowest latency.</li>
+ * </ul>
+ */
+public abstract class WaitStrategy {
+	
+	public enum Type {
+		BLOCKING, SLEEPING, YIELDING, BUSY_SPIN
+	}
+	
+	public static WaitStrategy of(Type type) {
+		return switch (type) {
+			case BLOCKING -> new Blocking();
+			case SLEEPING -> new Sleeping();
+			case YIELDING -> new Yielding();
+			case BUSY_SPIN -> new BusySpin();
+		};
+	}
+	
+	/**
+	 * Returns the cursor once it reached the sequence, or earlier if running
+	 * turned false.
+	 */
+	abstract long waitFor(long sequence, AtomicLong cursor, BooleanSupplier running) throws InterruptedException;
+	
+	void signalAll() {
+	}
+	
+	private static final class Blocking extends WaitStrategy {
+		
+		private final ReentrantLock lock = new ReentrantLock();
+		
+		private final Condition published = lock.newCondition();
+		
+		@Override
+		long waitFor(long sequence, AtomicLong cursor, BooleanSupplier running) throws InterruptedException {
+			long available = cursor.get();
+			if (available >= sequence) {
+				return available;
+			}
+			
+			lock.lock();
+			try {
+				while ((available = cursor.get()) < sequence && running.getAsBoolean()) {
+					// Bounded, so a stop that races the check is seen on the next round.
+					published.await(10, TimeUnit.MILLISECONDS);
+				}
+			} finally {
+				lock.unlock();
+			}
+			return available;
+		}
+		
+		@Override
+		void signalAll() {
+			lock.lock();
+			try {
+				published.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+	
+	}
+	
+	private static final class Sleeping extends WaitStrategy {
+		
+		private static final int SPIN_TRIES = 100;
+		private static final int YIELD_TRIES = 200;
+		private static final long SLEEP_NANOS = 100_000;
+		
+		@Override
+		long waitFor(long sequence, AtomicLong cursor, BooleanSupplier running) {
+			long available;
+			int tries = 0;
+			while ((available = cursor.get()) < sequence && running.getAsBoolean()) {
+				if (tries < SPIN_TRIES) {
+					Thread.onSpinWait();
+				} else if (tries < YIELD_TRIES) {
+					Thread.yield();
+				} else {
+					LockSupport.parkNanos(SLEEP_NANOS);
+				}
+				tries++;
+			}
+			return available;
+		}
+	
+	}
+	
+	private static final class Yielding extends WaitStrategy {
+		
+		private static final int SPIN_TRIES = 100;
+		
+		@Override
+		long waitFor(long sequence, AtomicLong cursor, BooleanSupplier running) {
+			long available;
+			int tries = 0;
+			while ((available = cursor.get()) < sequence && running.getAsBoolean()) {
+				if (tries++ < SPIN_TRIES) {
+					Thread.onSpinWait();
+				} else {
+					Thread.yield();
+				}
+			}
+			return available;
+		}
+	
+	}
+	
+	private static final class BusySpin extends WaitStrategy {
+		
+		@Override
+		long waitFor(long sequence, AtomicLong cursor, BooleanSupplier running) {
+			long available;
+			while ((available = cursor.get()) < sequence && running.getAsBoolean()) {
+				Thread.onSpinWait();
+			}
+			return available;
+		}
+	
+	}
+
+}
@@ -0,0 +1,11 @@
+package com.food.ordering.system.infrastructure.exceptions;
+
+public class BulkOrderRequestException extends RuntimeException{
+
+	private static final long serialVersionUID = 1L;
+	
+	public BulkOrderRequestException(String message) {
+		super(message);
+	}
+	
+}
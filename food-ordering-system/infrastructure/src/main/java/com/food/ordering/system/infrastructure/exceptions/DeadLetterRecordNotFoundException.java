@@ -0,0 +1,11 @@
+package com.food.ordering.system.infrastructure.exceptions;
+
+public class DeadLetterRecordNotFoundException extends RuntimeException{
+
+	private static final long serialVersionUID = 1L;
+	
+	public DeadLetterRecordNotFoundException(String message) {
+		super(message);
+	}
+	
+}
@@ -8,5 +8,8 @@ public class KafkaProducerException extends RuntimeException{
 		super(message);
 	}
 
+	public KafkaProducerException(String message, Throwable cause) {
+		super(message, cause);
+	}
 	
 }
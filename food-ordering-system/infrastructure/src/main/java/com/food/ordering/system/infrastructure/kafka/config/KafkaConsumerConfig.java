@@ -6,24 +6,44 @@ import java.util.Map;
 
 import org.apache.avro.specific.SpecificRecordBase;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.MicrometerConsumerListener;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecordBase> {
 
 	private final KafkaConfigData kafkaConfigData;
 	private final KafkaConsumerConfigData kafkaConsumerConfigData;
+	private final MeterRegistry meterRegistry;
+	private final ObjectProvider<ConsumerAwareRebalanceListener> rebalanceListener;
+	private final DefaultErrorHandler retryTopicErrorHandler;
+	private final DefaultErrorHandler deadLetterErrorHandler;
 	
 	
-	public KafkaConsumerConfig(KafkaConfigData kafkaConfigData, KafkaConsumerConfigData kafkaConsumerConfigData) {
+	public KafkaConsumerConfig(KafkaConfigData kafkaConfigData, KafkaConsumerConfigData kafkaConsumerConfigData,
+			MeterRegistry meterRegistry, ObjectProvider<ConsumerAwareRebalanceListener> rebalanceListener,
+			@Qualifier(KafkaRetryConfig.RETRY_TOPIC_ERROR_HANDLER) DefaultErrorHandler retryTopicErrorHandler,
+			@Qualifier(KafkaRetryConfig.DEAD_LETTER_ERROR_HANDLER) DefaultErrorHandler deadLetterErrorHandler) {
 		this.kafkaConfigData = kafkaConfigData;
 		this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+		this.meterRegistry = meterRegistry;
+		this.rebalanceListener = rebalanceListener;
+		this.retryTopicErrorHandler = retryTopicErrorHandler;
+		this.deadLetterErrorHandler = deadLetterErrorHandler;
 	}
 	
 	@Bean
@@ -34,7 +54,10 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
 
 		props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, kafkaConsumerConfigData.getKeyDeserializer());
 
-		props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, kafkaConsumerConfigData.getValueDeserializer());
+		// A record that cannot be deserialized reaches the listener as null instead of failing the poll.
+		props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+		
+		props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, kafkaConsumerConfigData.getValueDeserializer());
 
 		props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, kafkaConsumerConfigData.getAutoOffsetReset());
 
@@ -56,11 +79,29 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
 
 	@Bean
 	public ConsumerFactory<K, V> consumerFactory(){
-		return new DefaultKafkaConsumerFactory<>(consumerConfig());
+		DefaultKafkaConsumerFactory<K, V> consumerFactory = new DefaultKafkaConsumerFactory<>(consumerConfig());
+		
+		// Exposes the client metrics, including records-lag-max per partition.
+		consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+		
+		return consumerFactory;
 	}
 
 	@Bean
 	public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<K, V>> kafkaListenerContainerFactory(){
+		return containerFactory(retryTopicErrorHandler);
+	}
+	
+	/**
+	 * Consumes the retry topics; records are retried in place with backoff and
+	 * sent to the dead-letter topic once the retries are exhausted.
+	 */
+	@Bean
+	public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<K, V>> retryKafkaListenerContainerFactory(){
+		return containerFactory(deadLetterErrorHandler);
+	}
+	
+	private ConcurrentKafkaListenerContainerFactory<K, V> containerFactory(DefaultErrorHandler errorHandler) {
 		ConcurrentKafkaListenerContainerFactory<K, V> factory = new ConcurrentKafkaListenerContainerFactory<>();
 
 		factory.setConsumerFactory(consumerFactory());
@@ -73,6 +114,12 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
 
 		factory.getContainerProperties().setPollTimeout(kafkaConsumerConfigData.getPollTimeoutMs());
 		
+		factory.getContainerProperties().setAckMode(AckMode.BATCH);
+		
+		factory.setCommonErrorHandler(errorHandler);
+		
+		rebalanceListener.ifAvailable(factory.getContainerProperties()::setConsumerRebalanceListener);
+		
 		return factory;
 	}
 
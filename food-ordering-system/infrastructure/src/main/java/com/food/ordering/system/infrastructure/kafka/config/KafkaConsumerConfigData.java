@@ -24,4 +24,6 @@ public class KafkaConsumerConfigData {
     private Integer maxPollRecords;
     private Integer maxPartitionFetchBytesDefault;
     private Integer maxPartitionFetchBytesBoostFactor;
+    private Integer batchWorkerThreads;
+    private Integer batchWorkerQueueCapacity;
 }
@@ -0,0 +1,43 @@
+package com.food.ordering.system.infrastructure.kafka.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class KafkaListenerExecutorConfig {
+	
+	public static final String BATCH_WORKER_EXECUTOR = "batchWorkerExecutor";
+	
+	private final KafkaConsumerConfigData kafkaConsumerConfigData;
+	
+	/**
+	 * Bounded pool shared by the batch listeners to process distinct orders of a
+	 * poll in parallel. When the queue is full the listener thread runs the work
+	 * itself, which slows down polling instead of growing the queue.
+	 */
+	@Bean(BATCH_WORKER_EXECUTOR)
+	public ThreadPoolTaskExecutor batchWorkerExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		
+		executor.setCorePoolSize(kafkaConsumerConfigData.getBatchWorkerThreads());
+		
+		executor.setMaxPoolSize(kafkaConsumerConfigData.getBatchWorkerThreads());
+		
+		executor.setQueueCapacity(kafkaConsumerConfigData.getBatchWorkerQueueCapacity());
+		
+		executor.setThreadNamePrefix("batch-worker-");
+		
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		
+		return executor;
+	}
+
+}
@@ -10,8 +10,10 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -22,6 +24,8 @@ public class KafkaProducerConfig<K extends Serializable, V extends SpecificRecor
 	
 	private final KafkaProducerConfigData kafkaProducerConfigData;
 	
+	private final MeterRegistry meterRegistry;
+	
 	
 	@Bean
 	public Map<String, Object> producerConfig(){
@@ -47,13 +51,21 @@ public class KafkaProducerConfig<K extends Serializable, V extends SpecificRecor
 		props.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, kafkaProducerConfigData.getRequestTimeoutMs());
 		
 		props.put(ProducerConfig.RETRIES_CONFIG, kafkaProducerConfigData.getRetryCount());
+		
+		if (kafkaProducerConfigData.getPartitionerClass() != null) {
+			props.put(ProducerConfig.PARTITIONER_CLASS_CONFIG, kafkaProducerConfigData.getPartitionerClass());
+		}
 
 		return props;
 	}
 
 	@Bean
 	public ProducerFactory<K, V> producerFactory(){
-		return new DefaultKafkaProducerFactory<>(producerConfig());
+		DefaultKafkaProducerFactory<K, V> producerFactory = new DefaultKafkaProducerFactory<>(producerConfig());
+		
+		producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry));
+		
+		return producerFactory;
 	}
 
 	@Bean
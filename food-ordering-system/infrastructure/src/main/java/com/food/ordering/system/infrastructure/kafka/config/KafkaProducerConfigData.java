@@ -15,6 +15,9 @@ public class KafkaProducerConfigData {
     private Integer batchSize;
     private Integer batchSizeBoostFactor;
     private Integer lingerMs;
+    private String partitionerClass;
     private Integer requestTimeoutMs;
     private Integer retryCount;
-}
\ No newline at end of file
+    private Integer maxInFlightSends;
+    private Long inFlightAcquireTimeoutMs;
+}
@@ -0,0 +1,94 @@
+package com.food.ordering.system.infrastructure.kafka.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.util.backoff.FixedBackOff;
+
+import com.food.ordering.system.infrastructure.kafka.retry.KafkaRetryTopics;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Error handling of the response consumers. A record that fails on a response
+ * topic is published to its retry topic right away, so the partition moves on
+ * and the rest of the saga traffic is not held up by it. The retry topic is
+ * consumed by a separate container that retries with exponential backoff,
+ * blocking only the retry partition, and publishes records that still fail to
+ * the dead-letter topic, where they wait for the admin replay endpoint.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class KafkaRetryConfig {
+	
+	public static final String RAW_KAFKA_TEMPLATE = "rawKafkaTemplate";
+	
+	public static final String RETRY_TOPIC_ERROR_HANDLER = "retryTopicErrorHandler";
+	
+	public static final String DEAD_LETTER_ERROR_HANDLER = "deadLetterErrorHandler";
+	
+	private final KafkaRetryConfigData kafkaRetryConfigData;
+	
+	private final KafkaRetryTopics kafkaRetryTopics;
+	
+	/**
+	 * Publishes records as the bytes they were read with: records that could not be
+	 * deserialized, and dead letters replayed to their topic.
+	 */
+	@Bean(name = RAW_KAFKA_TEMPLATE, defaultCandidate = false)
+	public KafkaTemplate<String, byte[]> rawKafkaTemplate(@Qualifier("producerConfig") Map<String, Object> producerConfig) {
+		Map<String, Object> props = new LinkedHashMap<>(producerConfig);
+		props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+		props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+		
+		return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+	}
+	
+	@Bean(RETRY_TOPIC_ERROR_HANDLER)
+	public DefaultErrorHandler retryTopicErrorHandler(KafkaTemplate<?, ?> kafkaTemplate,
+			@Qualifier(RAW_KAFKA_TEMPLATE) KafkaTemplate<String, byte[]> rawKafkaTemplate) {
+		DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(
+				templates(kafkaTemplate, rawKafkaTemplate),
+				(record, exception) -> new TopicPartition(kafkaRetryTopics.retryTopic(record.topic()), -1));
+		
+		return new DefaultErrorHandler(recoverer, new FixedBackOff(0L, 0L));
+	}
+	
+	@Bean(DEAD_LETTER_ERROR_HANDLER)
+	public DefaultErrorHandler deadLetterErrorHandler(KafkaTemplate<?, ?> kafkaTemplate,
+			@Qualifier(RAW_KAFKA_TEMPLATE) KafkaTemplate<String, byte[]> rawKafkaTemplate) {
+		DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(
+				templates(kafkaTemplate, rawKafkaTemplate),
+				(record, exception) -> new TopicPartition(kafkaRetryTopics.deadLetterTopic(record.topic()), -1));
+		
+		ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(kafkaRetryConfigData.getMaxRetries());
+		backOff.setInitialInterval(kafkaRetryConfigData.getInitialIntervalMs());
+		backOff.setMultiplier(kafkaRetryConfigData.getMultiplier());
+		backOff.setMaxInterval(kafkaRetryConfigData.getMaxIntervalMs());
+		
+		return new DefaultErrorHandler(recoverer, backOff);
+	}
+	
+	// Ordered: raw bytes left by a failed deserialization go through the byte array template.
+	private static Map<Class<?>, KafkaOperations<?, ?>> templates(KafkaTemplate<?, ?> kafkaTemplate,
+			KafkaTemplate<String, byte[]> rawKafkaTemplate) {
+		Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+		templates.put(byte[].class, rawKafkaTemplate);
+		templates.put(Object.class, kafkaTemplate);
+		return templates;
+	}
+
+}
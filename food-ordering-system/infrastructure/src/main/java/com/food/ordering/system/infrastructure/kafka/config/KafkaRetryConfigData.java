@@ -0,0 +1,19 @@
+package com.food.ordering.system.infrastructure.kafka.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "kafka-retry-config")
+public class KafkaRetryConfigData {
+    private String retryTopicSuffix;
+    private String deadLetterTopicSuffix;
+    private Long initialIntervalMs;
+    private Double multiplier;
+    private Long maxIntervalMs;
+    private Integer maxRetries;
+    private Long deadLetterPollTimeoutMs;
+    private Integer deadLetterMaxRecords;
+}
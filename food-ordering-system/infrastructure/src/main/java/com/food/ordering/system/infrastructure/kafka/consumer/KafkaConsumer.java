@@ -6,5 +6,5 @@ import org.apache.avro.specific.SpecificRecordBase;
 
 public interface KafkaConsumer<T extends SpecificRecordBase> {
 	
-	void receive(List<T> messages, List<Long> keys, List<Integer> partitions, List<Long> offsets);
+	void receive(List<T> messages, List<String> keys, List<Integer> partitions, List<Long> offsets, List<Long> timestamps);
 }
@@ -0,0 +1,86 @@
+package com.food.ordering.system.infrastructure.kafka.consumer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Batch size, end-to-end lag (record timestamp to poll) and processing time of
+ * the batch listeners, tagged by topic. Broker-side partition lag comes from the
+ * Kafka client metrics bound in {@code KafkaConsumerConfig}.
+ */
+@Component
+@RequiredArgsConstructor
+public class KafkaConsumerMetrics {
+	
+	private final MeterRegistry meterRegistry;
+	
+	private final Map<String, TopicMeters> topicMeters = new ConcurrentHashMap<>();
+	
+	/**
+	 * Records the batch size and the lag of each record; returns the start time to
+	 * hand back to {@link #batchCompleted} or {@link #batchFailed}.
+	 */
+	public long batchReceived(String topicName, List<Long> timestamps) {
+		TopicMeters meters = topicMeters.computeIfAbsent(topicName, TopicMeters::new);
+		
+		meters.batchSize.record(timestamps.size());
+		
+		long now = System.currentTimeMillis();
+		for (Long timestamp : timestamps) {
+			meters.lag.record(Math.max(0, now - timestamp), TimeUnit.MILLISECONDS);
+		}
+		
+		return System.nanoTime();
+	}
+	
+	public void batchCompleted(String topicName, long start) {
+		topicMeters.get(topicName).processedSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+	}
+	
+	public void batchFailed(String topicName, long start) {
+		topicMeters.get(topicName).processedFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+	}
+	
+	private final class TopicMeters {
+		
+		private final DistributionSummary batchSize;
+		private final Timer lag;
+		private final Timer processedSuccess;
+		private final Timer processedFailure;
+		
+		private TopicMeters(String topicName) {
+			this.batchSize = DistributionSummary.builder("order.kafka.consumer.batch.size")
+					.tag("topic", topicName)
+					.publishPercentileHistogram()
+					.register(meterRegistry);
+			this.lag = Timer.builder("order.kafka.consumer.lag")
+					.description("Time between the record timestamp and its delivery to the listener")
+					.tag("topic", topicName)
+					.publishPercentileHistogram()
+					.maximumExpectedValue(Duration.ofMinutes(10))
+					.register(meterRegistry);
+			this.processedSuccess = processingTimer(topicName, "success");
+			this.processedFailure = processingTimer(topicName, "failure");
+		}
+		
+		private Timer processingTimer(String topicName, String outcome) {
+			return Timer.builder("order.kafka.consumer.batch.processing")
+					.tag("topic", topicName)
+					.tag("outcome", outcome)
+					.publishPercentileHistogram()
+					.register(meterRegistry);
+		}
+		
+	}
+
+}
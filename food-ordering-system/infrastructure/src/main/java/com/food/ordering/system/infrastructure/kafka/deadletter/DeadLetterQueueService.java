@@ -0,0 +1,223 @@
+package com.food.ordering.system.infrastructure.kafka.deadletter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.infrastructure.config.OrderServiceConfigData;
+import com.food.ordering.system.infrastructure.exceptions.DeadLetterRecordNotFoundException;
+import com.food.ordering.system.infrastructure.exceptions.KafkaProducerException;
+import com.food.ordering.system.infrastructure.kafka.config.KafkaConfigData;
+import com.food.ordering.system.infrastructure.kafka.config.KafkaRetryConfig;
+import com.food.ordering.system.infrastructure.kafka.config.KafkaRetryConfigData;
+import com.food.ordering.system.infrastructure.kafka.retry.KafkaRetryTopics;
+
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads the dead-letter topics of the response topics with a short-lived,
+ * group-less consumer, and replays single records to the topic they failed on.
+ * Records are read and republished as raw bytes, so a record that could not be
+ * deserialized can be inspected and replayed as well; the Avro decoding is only
+ * used to show the value.
+ */
+@Slf4j
+@Component
+public class DeadLetterQueueService {
+
+	private static final String REPLAYED_FROM_HEADER = "dlt-replayed-from";
+
+	private final KafkaRetryConfigData kafkaRetryConfigData;
+
+	private final KafkaRetryTopics kafkaRetryTopics;
+
+	private final KafkaTemplate<String, byte[]> rawKafkaTemplate;
+
+	private final ConsumerFactory<String, byte[]> consumerFactory;
+
+	private final KafkaAvroDeserializer valueDecoder;
+
+	private final Set<String> responseTopics;
+
+	public DeadLetterQueueService(KafkaRetryConfigData kafkaRetryConfigData,
+			KafkaRetryTopics kafkaRetryTopics,
+			KafkaConfigData kafkaConfigData,
+			OrderServiceConfigData orderServiceConfigData,
+			@Qualifier("consumerConfig") Map<String, Object> consumerConfig,
+			@Qualifier(KafkaRetryConfig.RAW_KAFKA_TEMPLATE) KafkaTemplate<String, byte[]> rawKafkaTemplate) {
+		this.kafkaRetryConfigData = kafkaRetryConfigData;
+		this.kafkaRetryTopics = kafkaRetryTopics;
+		this.rawKafkaTemplate = rawKafkaTemplate;
+
+		Map<String, Object> props = new HashMap<>(consumerConfig);
+		props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+		this.consumerFactory = new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new ByteArrayDeserializer());
+
+		this.valueDecoder = new KafkaAvroDeserializer();
+		this.valueDecoder.configure(Map.of(kafkaConfigData.getSchemaRegistryUrlKey(), kafkaConfigData.getSchemaRegistryUrl()), false);
+
+		this.responseTopics = Set.of(orderServiceConfigData.getPaymentResponseTopicName(),
+				orderServiceConfigData.getRestaurantApprovalResponseTopicName());
+	}
+
+	/**
+	 * Returns up to limit dead letters of a response topic, from the given offset
+	 * (or the beginning) of one partition or of every partition.
+	 */
+	public List<DeadLetterRecord> read(String topic, Integer partition, Long fromOffset, Integer limit) {
+		String deadLetterTopic = deadLetterTopic(topic);
+		int maxRecords = limit == null
+				? kafkaRetryConfigData.getDeadLetterMaxRecords()
+				: Math.min(limit, kafkaRetryConfigData.getDeadLetterMaxRecords());
+
+		try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer()) {
+			List<TopicPartition> topicPartitions = partition != null
+					? List.of(new TopicPartition(deadLetterTopic, partition))
+					: consumer.partitionsFor(deadLetterTopic).stream()
+							.map(info -> new TopicPartition(deadLetterTopic, info.partition()))
+							.toList();
+
+			consumer.assign(topicPartitions);
+			if (fromOffset == null) {
+				consumer.seekToBeginning(topicPartitions);
+			} else {
+				topicPartitions.forEach(topicPartition -> consumer.seek(topicPartition, fromOffset));
+			}
+
+			Map<TopicPartition, Long> endOffsets = consumer.endOffsets(topicPartitions);
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(kafkaRetryConfigData.getDeadLetterPollTimeoutMs());
+
+			List<DeadLetterRecord> deadLetters = new ArrayList<>();
+			while (deadLetters.size() < maxRecords && System.nanoTime() - deadline < 0
+					&& !reachedEnd(consumer, endOffsets)) {
+				for (ConsumerRecord<String, byte[]> record : consumer.poll(Duration.ofMillis(200))) {
+					if (deadLetters.size() == maxRecords) {
+						break;
+					}
+					deadLetters.add(toDeadLetterRecord(record));
+				}
+			}
+			return deadLetters;
+		}
+	}
+
+	/**
+	 * Publishes the dead letter at the given position back to the response topic
+	 * it failed on, with its original key and value.
+	 */
+	public DeadLetterRecord replay(String topic, int partition, long offset) {
+		String deadLetterTopic = deadLetterTopic(topic);
+		ConsumerRecord<String, byte[]> record = find(new TopicPartition(deadLetterTopic, partition), offset);
+
+		ProducerRecord<String, byte[]> replay = new ProducerRecord<>(topic, record.key(), record.value());
+		replay.headers().add(REPLAYED_FROM_HEADER,
+				(deadLetterTopic + ":" + partition + ":" + offset).getBytes(StandardCharsets.UTF_8));
+
+		try {
+			rawKafkaTemplate.send(replay).get(kafkaRetryConfigData.getDeadLetterPollTimeoutMs(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new KafkaProducerException("Interrupted while replaying dead letter " + offset + " to topic: " + topic, e);
+		} catch (ExecutionException | TimeoutException e) {
+			throw new KafkaProducerException("Could not replay dead letter " + offset + " to topic: " + topic, e);
+		}
+
+		log.info("Replayed dead letter {}:{}:{} to topic: {}", deadLetterTopic, partition, offset, topic);
+
+		return toDeadLetterRecord(record);
+	}
+
+	private ConsumerRecord<String, byte[]> find(TopicPartition topicPartition, long offset) {
+		try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer()) {
+			consumer.assign(List.of(topicPartition));
+			consumer.seek(topicPartition, offset);
+
+			Map<TopicPartition, Long> endOffsets = consumer.endOffsets(List.of(topicPartition));
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(kafkaRetryConfigData.getDeadLetterPollTimeoutMs());
+
+			while (System.nanoTime() - deadline < 0 && !reachedEnd(consumer, endOffsets)) {
+				for (ConsumerRecord<String, byte[]> record : consumer.poll(Duration.ofMillis(200))) {
+					if (record.offset() == offset) {
+						return record;
+					}
+					if (record.offset() > offset) {
+						break;
+					}
+				}
+			}
+		}
+		throw new DeadLetterRecordNotFoundException("Could not find dead letter at offset " + offset
+				+ " of " + topicPartition);
+	}
+
+	private String deadLetterTopic(String topic) {
+		if (!responseTopics.contains(topic)) {
+			throw new IllegalArgumentException("Topic " + topic + " has no dead-letter topic");
+		}
+		return kafkaRetryTopics.deadLetterTopic(topic);
+	}
+
+	private static boolean reachedEnd(Consumer<String, byte[]> consumer, Map<TopicPartition, Long> endOffsets) {
+		for (Map.Entry<TopicPartition, Long> endOffset : endOffsets.entrySet()) {
+			if (consumer.position(endOffset.getKey()) < endOffset.getValue()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private DeadLetterRecord toDeadLetterRecord(ConsumerRecord<String, byte[]> record) {
+		return new DeadLetterRecord(
+				record.topic(),
+				record.partition(),
+				record.offset(),
+				record.key(),
+				Instant.ofEpochMilli(record.timestamp()),
+				header(record, KafkaHeaders.DLT_ORIGINAL_TOPIC),
+				header(record, KafkaHeaders.DLT_EXCEPTION_FQCN),
+				header(record, KafkaHeaders.DLT_EXCEPTION_MESSAGE),
+				decode(record));
+	}
+
+	private static String header(ConsumerRecord<String, byte[]> record, String name) {
+		Header header = record.headers().lastHeader(name);
+		return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+	}
+
+	private String decode(ConsumerRecord<String, byte[]> record) {
+		if (record.value() == null) {
+			return null;
+		}
+		try {
+			return String.valueOf(valueDecoder.deserialize(record.topic(), record.value()));
+		} catch (RuntimeException e) {
+			// Not Avro, typically the original bytes of a record that failed to deserialize.
+			return null;
+		}
+	}
+
+}
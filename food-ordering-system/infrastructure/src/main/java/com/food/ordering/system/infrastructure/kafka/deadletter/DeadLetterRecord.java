@@ -0,0 +1,27 @@
+package com.food.ordering.system.infrastructure.kafka.deadletter;
+
+import java.time.Instant;
+
+public record DeadLetterRecord(
+		
+		String topic,
+		
+		int partition,
+		
+		long offset,
+		
+		String key,
+		
+		Instant timestamp,
+		
+		String originalTopic,
+		
+		String exceptionClass,
+		
+		String exceptionMessage,
+		
+		String value
+		
+		) {
+
+}
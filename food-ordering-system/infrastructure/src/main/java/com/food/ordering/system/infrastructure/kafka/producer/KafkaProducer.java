@@ -1,10 +1,17 @@
 package com.food.ordering.system.infrastructure.kafka.producer;
 
 import java.io.Serializable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 
 import org.apache.avro.specific.SpecificRecordBase;
+import org.springframework.kafka.support.SendResult;
 
 public interface KafkaProducer<K extends Serializable, V extends SpecificRecordBase>{
 
 	void send(String topicName, K key, V message);
+	
+	void send(String topicName, K key, V message, BiConsumer<SendResult<K, V>, Throwable> callback);
+	
+	CompletableFuture<SendResult<K, V>> sendAsync(String topicName, K key, V message);
 }
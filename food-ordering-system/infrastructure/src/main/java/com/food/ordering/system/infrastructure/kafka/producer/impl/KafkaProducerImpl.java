@@ -1,15 +1,26 @@
 package com.food.ordering.system.infrastructure.kafka.producer.impl;
 
 import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 
 import org.apache.avro.specific.SpecificRecordBase;
-import org.apache.kafka.common.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
 import com.food.ordering.system.infrastructure.exceptions.KafkaProducerException;
+import com.food.ordering.system.infrastructure.kafka.config.KafkaProducerConfigData;
 import com.food.ordering.system.infrastructure.kafka.producer.KafkaProducer;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -19,23 +30,113 @@ implements KafkaProducer<K, V>{
 	
 	private final KafkaTemplate<K, V> kafkaTemplate;
 	
-	public KafkaProducerImpl(KafkaTemplate<K, V> kafkaTemplate) {
+	// Caps the sends waiting for a broker ack; callers block for at most
+	// inFlightAcquireTimeoutMs instead of letting the buffer grow unbounded.
+	private final Semaphore inFlightPermits;
+	
+	private final long inFlightAcquireTimeoutMs;
+	
+	private final MeterRegistry meterRegistry;
+	
+	// One set of meters per topic, built on the first send to it.
+	private final Map<String, SendMeters> sendMeters = new ConcurrentHashMap<>();
+	
+	public KafkaProducerImpl(KafkaTemplate<K, V> kafkaTemplate, KafkaProducerConfigData kafkaProducerConfigData,
+			MeterRegistry meterRegistry) {
 		this.kafkaTemplate = kafkaTemplate;
+		this.inFlightPermits = new Semaphore(kafkaProducerConfigData.getMaxInFlightSends());
+		this.inFlightAcquireTimeoutMs = kafkaProducerConfigData.getInFlightAcquireTimeoutMs();
+		this.meterRegistry = meterRegistry;
+		
+		int maxInFlightSends = kafkaProducerConfigData.getMaxInFlightSends();
+		Gauge.builder("order.kafka.producer.in.flight", inFlightPermits, 
+				permits -> maxInFlightSends - permits.availablePermits())
+				.description("Sends waiting for a broker ack")
+				.register(meterRegistry);
+		Gauge.builder("order.kafka.producer.in.flight.limit", () -> maxInFlightSends)
+				.register(meterRegistry);
 	}
 
 	@Override
 	public void send(String topicName, K key, V message) {
-		log.info("Sending message={} to topic={}", message, topicName);
+		sendAsync(topicName, key, message);
+	}
+
+	@Override
+	public void send(String topicName, K key, V message, BiConsumer<SendResult<K, V>, Throwable> callback) {
+		sendAsync(topicName, key, message).whenComplete(callback);
+	}
+
+	@Override
+	public CompletableFuture<SendResult<K, V>> sendAsync(String topicName, K key, V message) {
+		SendMeters meters = sendMeters.computeIfAbsent(topicName, SendMeters::new);
+		
+		acquirePermit(topicName, key, meters);
 		
+		long start = System.nanoTime();
+		CompletableFuture<SendResult<K, V>> future;
 		try {
-			kafkaTemplate.send(topicName, message);
-		} catch (KafkaException e) {
-			log.info("Error on kafka producer with key:{}, message:{} and exception: {}", key, message, e.getMessage());
-			throw new KafkaProducerException("Error on producer with key: "+key+" and message: "+message);
+			future = kafkaTemplate.send(topicName, key, message);
+		} catch (RuntimeException e) {
+			// Nothing is in flight without a future, so the permit goes back here.
+			inFlightPermits.release();
+			meters.failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			log.error("Error on kafka producer with key: {} for topic: {}", key, topicName, e);
+			throw new KafkaProducerException("Error on producer with key: " + key + " for topic: " + topicName, e);
 		}
 		
+		return future.whenComplete((result, ex) -> {
+			inFlightPermits.release();
+			if (ex != null) {
+				meters.failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+				log.error("Error on kafka producer with key: {} for topic: {}", key, topicName, ex);
+			} else {
+				meters.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+				if (log.isDebugEnabled()) {
+					log.debug("Message with key: {} sent to topic: {} partition: {} offset: {}", key, topicName,
+							result.getRecordMetadata().partition(), result.getRecordMetadata().offset());
+				}
+			}
+		});
 	}
 	
+	private void acquirePermit(String topicName, K key, SendMeters meters) {
+		try {
+			if (!inFlightPermits.tryAcquire(inFlightAcquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+				meters.rejected.increment();
+				throw new KafkaProducerException("Too many in-flight sends, rejected message with key: " + key 
+						+ " for topic: " + topicName);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new KafkaProducerException("Interrupted while waiting to send message with key: " + key, e);
+		}
+	}
+	
+	private final class SendMeters {
+		
+		private final Timer success;
+		private final Timer failure;
+		private final Counter rejected;
+		
+		private SendMeters(String topicName) {
+			this.success = sendTimer(topicName, "success");
+			this.failure = sendTimer(topicName, "failure");
+			this.rejected = Counter.builder("order.kafka.producer.rejected")
+					.description("Sends refused because the in-flight limit was reached")
+					.tag("topic", topicName)
+					.register(meterRegistry);
+		}
+		
+		private Timer sendTimer(String topicName, String outcome) {
+			return Timer.builder("order.kafka.producer.send")
+					.description("Time from send to broker ack")
+					.tag("topic", topicName)
+					.tag("outcome", outcome)
+					.publishPercentileHistogram()
+					.register(meterRegistry);
+		}
+		
+	}
 	
-
 }
@@ -0,0 +1,41 @@
+package com.food.ordering.system.infrastructure.kafka.retry;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.infrastructure.kafka.config.KafkaRetryConfigData;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Naming of the topics a consumed topic fails over to: a record that fails on
+ * {@code <topic>} goes to {@code <topic>-retry}, and one that still fails there
+ * goes to {@code <topic>-dlt}.
+ */
+@Component
+@RequiredArgsConstructor
+public class KafkaRetryTopics {
+	
+	private final KafkaRetryConfigData kafkaRetryConfigData;
+	
+	public String retryTopic(String topic) {
+		return baseTopic(topic) + kafkaRetryConfigData.getRetryTopicSuffix();
+	}
+	
+	public String deadLetterTopic(String topic) {
+		return baseTopic(topic) + kafkaRetryConfigData.getDeadLetterTopicSuffix();
+	}
+	
+	public String baseTopic(String topic) {
+		String retrySuffix = kafkaRetryConfigData.getRetryTopicSuffix();
+		String deadLetterSuffix = kafkaRetryConfigData.getDeadLetterTopicSuffix();
+		
+		if (topic.endsWith(retrySuffix)) {
+			return topic.substring(0, topic.length() - retrySuffix.length());
+		}
+		if (topic.endsWith(deadLetterSuffix)) {
+			return topic.substring(0, topic.length() - deadLetterSuffix.length());
+		}
+		return topic;
+	}
+
+}
@@ -0,0 +1,50 @@
+package com.food.ordering.system.infrastructure.messaging.inbox;
+
+import java.util.Collection;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.infrastructure.config.InboxFilterExecutorConfig;
+import com.food.ordering.system.infrastructure.persistence.inbox.adapter.ProcessedMessageRepositoryImpl;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records on newly assigned partitions may already have been processed by the
+ * node that owned them before, so the inbox filter is reloaded from the table.
+ * The reload runs on the inbox filter executor and the current filter answers
+ * until the new one is swapped in, so the rebalance callback returns at once.
+ * Ids the old filter misses in the meantime still hit the table's primary key.
+ */
+@Slf4j
+@Component
+public class InboxFilterRebalanceListener implements ConsumerAwareRebalanceListener {
+	
+	private final ProcessedMessageRepositoryImpl processedMessageRepository;
+	
+	private final ThreadPoolTaskExecutor inboxFilterExecutor;
+	
+	public InboxFilterRebalanceListener(ProcessedMessageRepositoryImpl processedMessageRepository,
+			@Qualifier(InboxFilterExecutorConfig.INBOX_FILTER_EXECUTOR) ThreadPoolTaskExecutor inboxFilterExecutor) {
+		this.processedMessageRepository = processedMessageRepository;
+		this.inboxFilterExecutor = inboxFilterExecutor;
+	}
+
+	@Override
+	public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+		if (partitions.isEmpty()) {
+			return;
+		}
+		
+		log.info("Partitions assigned: {}, reloading inbox filter", partitions);
+		
+		long requestedAt = System.nanoTime();
+		inboxFilterExecutor.execute(() -> processedMessageRepository.rebuildFilter(requestedAt));
+	}
+
+}
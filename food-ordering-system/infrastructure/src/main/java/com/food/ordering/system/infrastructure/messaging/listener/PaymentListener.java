@@ -1,5 +1,149 @@
 package com.food.ordering.system.infrastructure.messaging.listener;
 
-public class PaymentListener {
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.application.listener.PaymentResponseMessageLister;
+import com.food.ordering.system.infrastructure.kafka.config.KafkaListenerExecutorConfig;
+import com.food.ordering.system.infrastructure.config.OrderServiceConfigData;
+import com.food.ordering.system.infrastructure.kafka.consumer.KafkaConsumer;
+import com.food.ordering.system.infrastructure.kafka.consumer.KafkaConsumerMetrics;
+import com.food.ordering.system.infrastructure.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.infrastructure.messaging.mapper.UuidCodec;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.model.Uuid;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class PaymentListener implements KafkaConsumer<PaymentResponseAvroModel> {
+	
+	private final PaymentResponseMessageLister paymentResponseMessageLister;
+	private final OrderMessagingDataMapper orderMessagingDataMapper;
+	private final ThreadPoolTaskExecutor batchWorkerExecutor;
+	private final KafkaConsumerMetrics kafkaConsumerMetrics;
+	private final OrderServiceConfigData orderServiceConfigData;
+	
+	public PaymentListener(PaymentResponseMessageLister paymentResponseMessageLister,
+			OrderMessagingDataMapper orderMessagingDataMapper,
+			@Qualifier(KafkaListenerExecutorConfig.BATCH_WORKER_EXECUTOR) ThreadPoolTaskExecutor batchWorkerExecutor,
+			KafkaConsumerMetrics kafkaConsumerMetrics,
+			OrderServiceConfigData orderServiceConfigData) {
+		this.paymentResponseMessageLister = paymentResponseMessageLister;
+		this.orderMessagingDataMapper = orderMessagingDataMapper;
+		this.batchWorkerExecutor = batchWorkerExecutor;
+		this.kafkaConsumerMetrics = kafkaConsumerMetrics;
+		this.orderServiceConfigData = orderServiceConfigData;
+	}
+
+	/**
+	 * Responses of the same order are handled sequentially in poll order, distinct
+	 * orders in parallel. The batch returns only when every order is done, so the
+	 * container commits the offsets once for the whole poll.
+	 * 
+	 * When an order fails, the earliest failed record is reported to the error
+	 * handler, which commits the offsets before it and sends it to the retry topic.
+	 * The records after it are polled again; those already applied are dropped by
+	 * the inbox.
+	 */
+	@Override
+	@KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}", 
+			topics = "${order-service.payment-response-topic-name}")
+	public void receive(@Payload List<PaymentResponseAvroModel> messages, 
+			@Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
+			@Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions, 
+			@Header(KafkaHeaders.OFFSET) List<Long> offsets,
+			@Header(KafkaHeaders.RECEIVED_TIMESTAMP) List<Long> timestamps) {
+		
+		log.info("{} payment responses received, partitions: {}, offsets: {}", messages.size(), partitions, offsets);
+		
+		String topicName = orderServiceConfigData.getPaymentResponseTopicName();
+		long start = kafkaConsumerMetrics.batchReceived(topicName, timestamps);
+		
+		FailedRecord firstFailure = null;
+		Map<Uuid, List<Integer>> indexesByOrder = new LinkedHashMap<>();
+		for (int index = 0; index < messages.size(); index++) {
+			PaymentResponseAvroModel message = messages.get(index);
+			if (message == null) {
+				// Not deserializable; the error handler takes the original bytes from the record headers.
+				if (firstFailure == null) {
+					firstFailure = new FailedRecord(index, new IllegalStateException("Could not deserialize payment response"));
+				}
+				continue;
+			}
+			indexesByOrder.computeIfAbsent(message.getOrderId(), orderId -> new ArrayList<>()).add(index);
+		}
+		
+		List<CompletableFuture<FailedRecord>> orderTasks = new ArrayList<>(indexesByOrder.size());
+		for (List<Integer> orderIndexes : indexesByOrder.values()) {
+			orderTasks.add(CompletableFuture.supplyAsync(() -> process(messages, orderIndexes), batchWorkerExecutor));
+		}
+		
+		for (CompletableFuture<FailedRecord> orderTask : orderTasks) {
+			FailedRecord failure = orderTask.join();
+			if (failure != null && (firstFailure == null || failure.index() < firstFailure.index())) {
+				firstFailure = failure;
+			}
+		}
+		
+		if (firstFailure != null) {
+			kafkaConsumerMetrics.batchFailed(topicName, start);
+			throw new BatchListenerFailedException("Could not process payment response", 
+					firstFailure.cause(), firstFailure.index());
+		}
+		kafkaConsumerMetrics.batchCompleted(topicName, start);
+	}
+	
+	@KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}${kafka-retry-config.retry-topic-suffix}", 
+			topics = "${order-service.payment-response-topic-name}${kafka-retry-config.retry-topic-suffix}",
+			containerFactory = "retryKafkaListenerContainerFactory")
+	public void receiveRetry(@Payload List<PaymentResponseAvroModel> messages, 
+			@Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
+			@Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions, 
+			@Header(KafkaHeaders.OFFSET) List<Long> offsets,
+			@Header(KafkaHeaders.RECEIVED_TIMESTAMP) List<Long> timestamps) {
+		receive(messages, keys, partitions, offsets, timestamps);
+	}
+	
+	// Applies the responses of one order in order and stops at the first failure.
+	private FailedRecord process(List<PaymentResponseAvroModel> messages, List<Integer> orderIndexes) {
+		for (int index : orderIndexes) {
+			try {
+				process(messages.get(index));
+			} catch (RuntimeException e) {
+				log.warn("Payment response at batch index {} for order id: {} failed", 
+						index, UuidCodec.fromAvro(messages.get(index).getOrderId()), e);
+				return new FailedRecord(index, e);
+			}
+		}
+		return null;
+	}
+	
+	private void process(PaymentResponseAvroModel message) {
+		if (message.getPaymentStatus() == PaymentStatus.COMPLETED) {
+			paymentResponseMessageLister.paymentCompleted(
+					orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(message));
+		} else {
+			paymentResponseMessageLister.paymentCancelled(
+					orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(message));
+		}
+	}
+	
+	private record FailedRecord(int index, RuntimeException cause) {
+	}
 
 }
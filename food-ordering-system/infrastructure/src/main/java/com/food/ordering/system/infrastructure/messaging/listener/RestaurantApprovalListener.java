@@ -0,0 +1,101 @@
+package com.food.ordering.system.infrastructure.messaging.listener;
+
+import java.util.List;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.application.listener.RestaurantApprovalResponseMessageListener;
+import com.food.ordering.system.infrastructure.config.OrderServiceConfigData;
+import com.food.ordering.system.infrastructure.kafka.consumer.KafkaConsumer;
+import com.food.ordering.system.infrastructure.kafka.consumer.KafkaConsumerMetrics;
+import com.food.ordering.system.infrastructure.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantApprovalListener implements KafkaConsumer<RestaurantApprovalResponseAvroModel> {
+	
+	private final RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
+	
+	private final OrderMessagingDataMapper orderMessagingDataMapper;
+	
+	private final KafkaConsumerMetrics kafkaConsumerMetrics;
+	
+	private final OrderServiceConfigData orderServiceConfigData;
+
+	/**
+	 * The whole poll is applied in one transaction. If it fails, the responses are
+	 * applied one by one to find the failing record, which is reported to the error
+	 * handler: the offsets before it are committed and it is sent to the retry topic.
+	 */
+	@Override
+	@KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}", 
+			topics = "${order-service.restaurant-approval-response-topic-name}")
+	public void receive(@Payload List<RestaurantApprovalResponseAvroModel> messages, 
+			@Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
+			@Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions, 
+			@Header(KafkaHeaders.OFFSET) List<Long> offsets,
+			@Header(KafkaHeaders.RECEIVED_TIMESTAMP) List<Long> timestamps) {
+		
+		log.info("{} restaurant approval responses received, partitions: {}, offsets: {}", 
+				messages.size(), partitions, offsets);
+		
+		String topicName = orderServiceConfigData.getRestaurantApprovalResponseTopicName();
+		long start = kafkaConsumerMetrics.batchReceived(topicName, timestamps);
+		
+		try {
+			if (messages.contains(null)) {
+				throw new IllegalStateException("Batch contains a restaurant approval response that could not be deserialized");
+			}
+			restaurantApprovalResponseMessageListener.approvalResponsesReceived(
+					messages.stream()
+					.map(orderMessagingDataMapper::restaurantApprovalResponseAvroModelToRestaurantApproveResponse)
+					.toList());
+		} catch (RuntimeException e) {
+			log.warn("Restaurant approval batch failed, applying its {} responses one by one", messages.size(), e);
+			try {
+				receiveOneByOne(messages);
+			} catch (BatchListenerFailedException failed) {
+				kafkaConsumerMetrics.batchFailed(topicName, start);
+				throw failed;
+			}
+		}
+		kafkaConsumerMetrics.batchCompleted(topicName, start);
+	}
+	
+	@KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}${kafka-retry-config.retry-topic-suffix}", 
+			topics = "${order-service.restaurant-approval-response-topic-name}${kafka-retry-config.retry-topic-suffix}",
+			containerFactory = "retryKafkaListenerContainerFactory")
+	public void receiveRetry(@Payload List<RestaurantApprovalResponseAvroModel> messages, 
+			@Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
+			@Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions, 
+			@Header(KafkaHeaders.OFFSET) List<Long> offsets,
+			@Header(KafkaHeaders.RECEIVED_TIMESTAMP) List<Long> timestamps) {
+		receive(messages, keys, partitions, offsets, timestamps);
+	}
+	
+	private void receiveOneByOne(List<RestaurantApprovalResponseAvroModel> messages) {
+		for (int index = 0; index < messages.size(); index++) {
+			RestaurantApprovalResponseAvroModel message = messages.get(index);
+			if (message == null) {
+				throw new BatchListenerFailedException("Could not deserialize restaurant approval response", index);
+			}
+			try {
+				restaurantApprovalResponseMessageListener.approvalResponsesReceived(List.of(
+						orderMessagingDataMapper.restaurantApprovalResponseAvroModelToRestaurantApproveResponse(message)));
+			} catch (RuntimeException e) {
+				throw new BatchListenerFailedException("Could not process restaurant approval response", e, index);
+			}
+		}
+	}
+
+}
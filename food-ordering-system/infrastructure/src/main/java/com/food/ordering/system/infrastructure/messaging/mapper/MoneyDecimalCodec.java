@@ -0,0 +1,84 @@
+package com.food.ordering.system.infrastructure.messaging.mapper;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+import com.food.ordering.system.domain.valueobject.Money;
+
+/**
+ * Converts between {@link Money} and the bytes of the Avro decimal(10,2) price
+ * fields. An Avro decimal is its unscaled value as big-endian two's complement
+ * bytes, and with scale 2 the unscaled value is exactly the cents Money holds,
+ * so both directions are a few shifts on a long, with no BigDecimal or
+ * BigInteger in between.
+ */
+public final class MoneyDecimalCodec {
+	
+	public static final int MAX_LENGTH = Long.BYTES;
+	
+	private static final int SCALE = 2;
+	
+	// decimal(10,2): at most 10 digits, cents included.
+	private static final long MAX_UNSCALED = 9_999_999_999L;
+	
+	private MoneyDecimalCodec() {
+	}
+	
+	public static ByteBuffer toAvro(Money money) {
+		return toAvro(money, ByteBuffer.allocate(MAX_LENGTH));
+	}
+	
+	/**
+	 * Writes the minimal encoding into the end of the reused buffer, which must
+	 * be backed by an array of MAX_LENGTH bytes, and returns it positioned on it.
+	 */
+	public static ByteBuffer toAvro(Money money, ByteBuffer reuse) {
+		long cents = money.getCents();
+		if (cents > MAX_UNSCALED || cents < -MAX_UNSCALED) {
+			throw new IllegalArgumentException("Amount " + money + " does not fit a decimal(10,2)");
+		}
+		
+		int length = length(cents);
+		byte[] bytes = reuse.array();
+		int offset = reuse.arrayOffset() + MAX_LENGTH - length;
+		long value = cents;
+		for (int i = length - 1; i >= 0; i--) {
+			bytes[offset + i] = (byte) value;
+			value >>= 8;
+		}
+		
+		reuse.limit(MAX_LENGTH);
+		reuse.position(MAX_LENGTH - length);
+		return reuse;
+	}
+	
+	public static Money fromAvro(ByteBuffer buffer) {
+		int position = buffer.position();
+		int length = buffer.remaining();
+		
+		if (length == 0) {
+			throw new IllegalArgumentException("Empty decimal");
+		}
+		if (length > MAX_LENGTH) {
+			// Not written by this codec; let BigDecimal validate it.
+			byte[] bytes = new byte[length];
+			buffer.duplicate().get(bytes);
+			return new Money(new BigDecimal(new BigInteger(bytes), SCALE));
+		}
+		
+		// The first byte is sign-extended, the rest are appended unsigned.
+		long cents = buffer.get(position);
+		for (int i = 1; i < length; i++) {
+			cents = (cents << 8) | (buffer.get(position + i) & 0xff);
+		}
+		return Money.ofCents(cents);
+	}
+	
+	// Bytes of the shortest two's complement form, sign bit included, as BigInteger.toByteArray().
+	private static int length(long value) {
+		int bits = Long.SIZE + 1 - Long.numberOfLeadingZeros(value < 0 ? ~value : value);
+		return (bits + 7) >>> 3;
+	}
+
+}
@@ -0,0 +1,99 @@
+package com.food.ordering.system.infrastructure.messaging.mapper;
+
+import java.nio.ByteBuffer;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.application.dto.message.PaymentResponse;
+import com.food.ordering.system.application.dto.message.RestaurantApproveResponse;
+import com.food.ordering.system.application.outbox.model.OrderApprovalOutboxMessage;
+import com.food.ordering.system.application.outbox.model.OrderPaymentOutboxMessage;
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.Product;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.Uuid;
+
+@Component
+public class OrderMessagingDataMapper {
+	
+	// One payment request per thread, ids and price written in place into the arrays it was created with.
+	private final ThreadLocal<PaymentRequestAvroModel> paymentRequests = ThreadLocal.withInitial(() -> {
+		PaymentRequestAvroModel paymentRequest = new PaymentRequestAvroModel();
+		paymentRequest.setId(new Uuid(new byte[UuidCodec.SIZE]));
+		paymentRequest.setSagaId(new Uuid(new byte[UuidCodec.SIZE]));
+		paymentRequest.setCustomerId(new Uuid(new byte[UuidCodec.SIZE]));
+		paymentRequest.setOrderId(new Uuid(new byte[UuidCodec.SIZE]));
+		paymentRequest.setPrice(ByteBuffer.allocate(MoneyDecimalCodec.MAX_LENGTH));
+		return paymentRequest;
+	});
+	
+	/**
+	 * Returns this thread's payment request record, overwritten with the message.
+	 * The Avro serializer encodes the value inside the producer's send, on the
+	 * calling thread, so the record must be sent before the next message is
+	 * mapped on the same thread and must not be kept.
+	 */
+	public PaymentRequestAvroModel orderPaymentOutboxMessageToPaymentRequestAvroModel(OrderPaymentOutboxMessage message) {
+		PaymentRequestAvroModel paymentRequest = paymentRequests.get();
+		
+		UuidCodec.toAvro(message.id(), paymentRequest.getId());
+		UuidCodec.toAvro(message.sagaId(), paymentRequest.getSagaId());
+		UuidCodec.toAvro(message.customerId(), paymentRequest.getCustomerId());
+		UuidCodec.toAvro(message.orderId(), paymentRequest.getOrderId());
+		MoneyDecimalCodec.toAvro(message.price(), paymentRequest.getPrice());
+		paymentRequest.setCreatedAt(message.createdAt().toInstant());
+		paymentRequest.setPaymentOrderStatus(PaymentOrderStatus.valueOf(message.paymentOrderStatus().name()));
+		
+		return paymentRequest;
+	}
+	
+	public RestaurantApprovalRequestAvroModel orderApprovalOutboxMessageToRestaurantApprovalRequestAvroModel(
+			OrderApprovalOutboxMessage message) {
+		return RestaurantApprovalRequestAvroModel.newBuilder()
+				.setId(UuidCodec.toAvro(message.id()))
+				.setSagaId(UuidCodec.toAvro(message.sagaId()))
+				.setRestaurantId(UuidCodec.toAvro(message.restaurantId()))
+				.setOrderId(UuidCodec.toAvro(message.orderId()))
+				.setRestaurantOrderStatus(RestaurantOrderStatus.valueOf(message.restaurantOrderStatus().name()))
+				.setProducts(message.products().stream()
+						.map(product -> Product.newBuilder()
+								.setId(UuidCodec.toAvro(product.id()))
+								.setQuantity(product.quantity())
+								.build())
+						.toList())
+				.setPrice(MoneyDecimalCodec.toAvro(message.price()))
+				.setCreatedAt(message.createdAt().toInstant())
+				.build();
+	}
+	
+	public PaymentResponse paymentResponseAvroModelToPaymentResponse(PaymentResponseAvroModel model) {
+		return new PaymentResponse(
+				UuidCodec.fromAvro(model.getId()), 
+				UuidCodec.fromAvro(model.getSagaId()), 
+				UuidCodec.fromAvro(model.getOrderId()), 
+				UuidCodec.fromAvro(model.getPaymentId()), 
+				UuidCodec.fromAvro(model.getCustomerId()), 
+				MoneyDecimalCodec.fromAvro(model.getPrice()), 
+				model.getCreatedAt(), 
+				PaymentStatus.valueOf(model.getPaymentStatus().name()), 
+				model.getFailureMessages());
+	}
+	
+	public RestaurantApproveResponse restaurantApprovalResponseAvroModelToRestaurantApproveResponse(
+			RestaurantApprovalResponseAvroModel model) {
+		return new RestaurantApproveResponse(
+				UuidCodec.fromAvro(model.getId()), 
+				UuidCodec.fromAvro(model.getSagaId()), 
+				UuidCodec.fromAvro(model.getOrderId()), 
+				UuidCodec.fromAvro(model.getRestaurantId()), 
+				OrderApprovalStatus.valueOf(model.getOrderApprovalStatus().name()), 
+				model.getFailureMessages());
+	}
+
+}
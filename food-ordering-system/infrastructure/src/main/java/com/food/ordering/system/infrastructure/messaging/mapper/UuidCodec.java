@@ -0,0 +1,67 @@
+package com.food.ordering.system.infrastructure.messaging.mapper;
+
+import java.util.UUID;
+
+import com.food.ordering.system.kafka.order.avro.model.Uuid;
+
+/**
+ * Converts between UUIDs and the 16-byte Avro {@link Uuid} fixed type, most
+ * significant half first, big-endian, the same layout as a database uuid
+ * column. Ids go on the wire as 16 bytes instead of 36 characters plus a
+ * length, and are read back with shifts instead of parsing text.
+ */
+public final class UuidCodec {
+	
+	public static final int SIZE = 16;
+	
+	private UuidCodec() {
+	}
+	
+	public static Uuid toAvro(UUID uuid) {
+		return new Uuid(toBytes(uuid));
+	}
+	
+	/**
+	 * Writes the UUID into the bytes of an existing fixed value and returns it.
+	 */
+	public static Uuid toAvro(UUID uuid, Uuid reuse) {
+		byte[] bytes = reuse.bytes();
+		putLong(bytes, 0, uuid.getMostSignificantBits());
+		putLong(bytes, 8, uuid.getLeastSignificantBits());
+		return reuse;
+	}
+	
+	public static UUID fromAvro(Uuid uuid) {
+		return fromBytes(uuid.bytes());
+	}
+	
+	public static byte[] toBytes(UUID uuid) {
+		byte[] bytes = new byte[SIZE];
+		putLong(bytes, 0, uuid.getMostSignificantBits());
+		putLong(bytes, 8, uuid.getLeastSignificantBits());
+		return bytes;
+	}
+	
+	public static UUID fromBytes(byte[] bytes) {
+		if (bytes.length != SIZE) {
+			throw new IllegalArgumentException("A UUID is " + SIZE + " bytes, got " + bytes.length);
+		}
+		return new UUID(getLong(bytes, 0), getLong(bytes, 8));
+	}
+	
+	private static void putLong(byte[] bytes, int offset, long value) {
+		for (int i = 7; i >= 0; i--) {
+			bytes[offset + i] = (byte) value;
+			value >>>= 8;
+		}
+	}
+	
+	private static long getLong(byte[] bytes, int offset) {
+		long value = 0;
+		for (int i = 0; i < 8; i++) {
+			value = (value << 8) | (bytes[offset + i] & 0xff);
+		}
+		return value;
+	}
+
+}
@@ -0,0 +1,154 @@
+package com.food.ordering.system.infrastructure.messaging.outbox;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.apache.avro.specific.SpecificRecordBase;
+
+import com.food.ordering.system.application.outbox.model.OutboxMessage;
+import com.food.ordering.system.application.outbox.model.OutboxStatus;
+import com.food.ordering.system.application.ports.output.OutboxRepository;
+import com.food.ordering.system.domain.common.DomainClock;
+import com.food.ordering.system.infrastructure.config.OrderServiceConfigData;
+import com.food.ordering.system.infrastructure.exceptions.KafkaProducerException;
+import com.food.ordering.system.infrastructure.kafka.producer.KafkaProducer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains STARTED outbox rows in batches and hands them to the producer, keyed
+ * by saga id. The producer groups them using its batch-size/linger-ms
+ * settings, so one relay round maps to a few broker requests instead of one
+ * per message.
+ * 
+ * Each batch is claimed first (locked with SKIP LOCKED and stamped with a claim
+ * deadline), so several instances relay disjoint rows. A claim left by a crashed
+ * instance expires after outbox-relay-claim-timeout-ms and the rows are retried.
+ * Claims and lag are measured on the DomainClock the rows were stamped with.
+ */
+@Slf4j
+public abstract class OutboxRelay<M extends OutboxMessage, V extends SpecificRecordBase> {
+	
+	private final String outbox;
+	private final OutboxRepository<M> outboxRepository;
+	private final KafkaProducer<String, V> kafkaProducer;
+	private final String topicName;
+	private final Function<M, V> mapper;
+	private final OrderServiceConfigData orderServiceConfigData;
+	private final DomainClock domainClock;
+	
+	private final Counter sentCounter;
+	private final Counter failedCounter;
+	private final Timer relayLag;
+	private final DistributionSummary batchSize;
+	
+	protected OutboxRelay(String outbox,
+			OutboxRepository<M> outboxRepository,
+			KafkaProducer<String, V> kafkaProducer,
+			String topicName,
+			Function<M, V> mapper,
+			OrderServiceConfigData orderServiceConfigData,
+			DomainClock domainClock,
+			MeterRegistry meterRegistry) {
+		this.outbox = outbox;
+		this.outboxRepository = outboxRepository;
+		this.kafkaProducer = kafkaProducer;
+		this.topicName = topicName;
+		this.mapper = mapper;
+		this.orderServiceConfigData = orderServiceConfigData;
+		this.domainClock = domainClock;
+		
+		this.sentCounter = Counter.builder("order.outbox.relay.messages")
+				.tag("outbox", outbox).tag("outcome", "sent")
+				.register(meterRegistry);
+		this.failedCounter = Counter.builder("order.outbox.relay.messages")
+				.tag("outbox", outbox).tag("outcome", "failed")
+				.register(meterRegistry);
+		this.relayLag = Timer.builder("order.outbox.relay.lag")
+				.description("Time between the outbox row commit and the broker ack")
+				.tag("outbox", outbox)
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+		this.batchSize = DistributionSummary.builder("order.outbox.relay.batch.size")
+				.tag("outbox", outbox)
+				.register(meterRegistry);
+	}
+	
+	/**
+	 * One relay round; subclasses schedule it.
+	 */
+	public void relay() {
+		ZonedDateTime now = now();
+		List<M> messages = outboxRepository.claimByOutboxStatus(
+				OutboxStatus.STARTED, orderServiceConfigData.getOutboxRelayBatchSize(), 
+				now, now.plus(Duration.ofMillis(orderServiceConfigData.getOutboxRelayClaimTimeoutMs())));
+		
+		if (messages.isEmpty()) {
+			return;
+		}
+		
+		batchSize.record(messages.size());
+		
+		List<CompletableFuture<UUID>> sends = new ArrayList<>(messages.size());
+		
+		for (M message : messages) {
+			try {
+				sends.add(kafkaProducer.sendAsync(topicName, message.sagaId().toString(), mapper.apply(message))
+						.handle((result, ex) -> onSendCompleted(message, ex)));
+			} catch (KafkaProducerException e) {
+				// Producer is saturated; the rest of the batch is released for the next round.
+				log.warn("Stopped relaying {} outbox batch at message id: {}", outbox, message.id(), e);
+				break;
+			}
+		}
+		
+		CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+		
+		List<UUID> sentIds = new ArrayList<>(sends.size());
+		for (CompletableFuture<UUID> send : sends) {
+			UUID sentId = send.join();
+			if (sentId != null) {
+				sentIds.add(sentId);
+			}
+		}
+		
+		outboxRepository.updateOutboxStatus(sentIds, OutboxStatus.COMPLETED, now());
+		
+		if (sentIds.size() < messages.size()) {
+			Set<UUID> sent = new HashSet<>(sentIds);
+			outboxRepository.releaseClaims(messages.stream()
+					.map(OutboxMessage::id)
+					.filter(id -> !sent.contains(id))
+					.toList());
+		}
+		
+		log.info("Relayed {} of {} {} outbox messages", sentIds.size(), messages.size(), outbox);
+	}
+	
+	private UUID onSendCompleted(M message, Throwable ex) {
+		if (ex != null) {
+			// Left as STARTED and released after the batch, the row is picked up again on the next round.
+			failedCounter.increment();
+			return null;
+		}
+		sentCounter.increment();
+		relayLag.record(Duration.between(message.createdAt(), now()));
+		return message.id();
+	}
+	
+	private ZonedDateTime now() {
+		return domainClock.now().atZone(DomainClock.ZONE);
+	}
+
+}
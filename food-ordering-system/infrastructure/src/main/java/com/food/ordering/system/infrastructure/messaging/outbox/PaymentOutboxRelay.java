@@ -0,0 +1,40 @@
+package com.food.ordering.system.infrastructure.messaging.outbox;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.application.outbox.model.OrderPaymentOutboxMessage;
+import com.food.ordering.system.application.ports.output.PaymentOutboxRepository;
+import com.food.ordering.system.domain.common.DomainClock;
+import com.food.ordering.system.infrastructure.config.OrderServiceConfigData;
+import com.food.ordering.system.infrastructure.kafka.producer.KafkaProducer;
+import com.food.ordering.system.infrastructure.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Relays payment and payment cancel requests to the payment request topic.
+ */
+@Component
+public class PaymentOutboxRelay extends OutboxRelay<OrderPaymentOutboxMessage, PaymentRequestAvroModel> {
+	
+	public PaymentOutboxRelay(PaymentOutboxRepository paymentOutboxRepository,
+			KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer,
+			OrderMessagingDataMapper orderMessagingDataMapper,
+			OrderServiceConfigData orderServiceConfigData,
+			DomainClock domainClock,
+			MeterRegistry meterRegistry) {
+		super("payment", paymentOutboxRepository, kafkaProducer, orderServiceConfigData.getPaymentRequestTopicName(),
+				orderMessagingDataMapper::orderPaymentOutboxMessageToPaymentRequestAvroModel,
+				orderServiceConfigData, domainClock, meterRegistry);
+	}
+	
+	@Override
+	@Scheduled(fixedDelayString = "${order-service.outbox-relay-interval-ms}",
+			initialDelayString = "${order-service.outbox-relay-interval-ms}")
+	public void relay() {
+		super.relay();
+	}
+
+}
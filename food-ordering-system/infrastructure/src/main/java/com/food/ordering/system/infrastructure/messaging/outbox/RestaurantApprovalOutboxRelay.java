@@ -0,0 +1,42 @@
+package com.food.ordering.system.infrastructure.messaging.outbox;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.application.outbox.model.OrderApprovalOutboxMessage;
+import com.food.ordering.system.application.ports.output.ApprovalOutboxRepository;
+import com.food.ordering.system.domain.common.DomainClock;
+import com.food.ordering.system.infrastructure.config.OrderServiceConfigData;
+import com.food.ordering.system.infrastructure.kafka.producer.KafkaProducer;
+import com.food.ordering.system.infrastructure.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Relays the restaurant approval requests written when a payment completes.
+ */
+@Component
+public class RestaurantApprovalOutboxRelay 
+		extends OutboxRelay<OrderApprovalOutboxMessage, RestaurantApprovalRequestAvroModel> {
+	
+	public RestaurantApprovalOutboxRelay(ApprovalOutboxRepository approvalOutboxRepository,
+			KafkaProducer<String, RestaurantApprovalRequestAvroModel> kafkaProducer,
+			OrderMessagingDataMapper orderMessagingDataMapper,
+			OrderServiceConfigData orderServiceConfigData,
+			DomainClock domainClock,
+			MeterRegistry meterRegistry) {
+		super("approval", approvalOutboxRepository, kafkaProducer, 
+				orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
+				orderMessagingDataMapper::orderApprovalOutboxMessageToRestaurantApprovalRequestAvroModel,
+				orderServiceConfigData, domainClock, meterRegistry);
+	}
+	
+	@Override
+	@Scheduled(fixedDelayString = "${order-service.outbox-relay-interval-ms}",
+			initialDelayString = "${order-service.outbox-relay-interval-ms}")
+	public void relay() {
+		super.relay();
+	}
+
+}
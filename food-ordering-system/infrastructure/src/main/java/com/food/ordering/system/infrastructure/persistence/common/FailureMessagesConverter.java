@@ -0,0 +1,37 @@
+package com.food.ordering.system.infrastructure.persistence.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Stores failure messages as a JSON array of strings, so a message that contains
+ * a comma or any other separator reads back as the single message it was.
+ * Shared by every table that keeps failure messages.
+ */
+@Converter
+public class FailureMessagesConverter implements AttributeConverter<List<String>, String> {
+	
+	private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+	
+	private static final TypeReference<List<String>> FAILURE_MESSAGES = new TypeReference<>() {};
+
+	@Override
+	public String convertToDatabaseColumn(List<String> failureMessages) {
+		return failureMessages == null || failureMessages.isEmpty() 
+				? null 
+				: JSON_MAPPER.writeValueAsString(failureMessages);
+	}
+
+	@Override
+	public List<String> convertToEntityAttribute(String failureMessages) {
+		return failureMessages == null 
+				? new ArrayList<>() 
+				: new ArrayList<>(JSON_MAPPER.readValue(failureMessages, FAILURE_MESSAGES));
+	}
+
+}
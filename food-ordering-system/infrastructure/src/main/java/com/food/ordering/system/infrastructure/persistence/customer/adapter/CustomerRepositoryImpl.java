@@ -0,0 +1,47 @@
+package com.food.ordering.system.infrastructure.persistence.customer.adapter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.food.ordering.system.application.ports.output.CustomerRepository;
+import com.food.ordering.system.domain.entities.Customer;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.infrastructure.persistence.customer.entity.CustomerEntity;
+import com.food.ordering.system.infrastructure.persistence.customer.repository.CustomerJpaRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class CustomerRepositoryImpl implements CustomerRepository {
+	
+	private final CustomerJpaRepository customerJpaRepository;
+
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<Customer> findCustomer(UUID customerId) {
+		return customerJpaRepository.findById(customerId).map(this::customerEntityToCustomer);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Customer> findCustomers(Collection<UUID> customerIds) {
+		if (customerIds.isEmpty()) {
+			return List.of();
+		}
+		return customerJpaRepository.findAllById(customerIds)
+				.stream()
+				.map(this::customerEntityToCustomer)
+				.toList();
+	}
+	
+	private Customer customerEntityToCustomer(CustomerEntity customerEntity) {
+		return new Customer(new CustomerId(customerEntity.getId()));
+	}
+
+}
@@ -0,0 +1,32 @@
+package com.food.ordering.system.infrastructure.persistence.customer.entity;
+
+import java.util.UUID;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "customers")
+public class CustomerEntity {
+	
+	@Id
+	private UUID id;
+	
+	private String username;
+	
+	private String firstName;
+	
+	private String lastName;
+
+}
@@ -0,0 +1,13 @@
+package com.food.ordering.system.infrastructure.persistence.customer.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.food.ordering.system.infrastructure.persistence.customer.entity.CustomerEntity;
+
+@Repository
+public interface CustomerJpaRepository extends JpaRepository<CustomerEntity, UUID> {
+
+}
@@ -0,0 +1,131 @@
+package com.food.ordering.system.infrastructure.persistence.idempotency.adapter;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.food.ordering.system.application.exceptions.DuplicateIdempotencyKeyException;
+import com.food.ordering.system.application.idempotency.model.IdempotentRequest;
+import com.food.ordering.system.application.ports.output.IdempotentRequestRepository;
+import com.food.ordering.system.domain.common.DomainClock;
+import com.food.ordering.system.infrastructure.config.IdempotencyConfigData;
+import com.food.ordering.system.infrastructure.persistence.idempotency.mapper.IdempotentRequestDataAccessMapper;
+import com.food.ordering.system.infrastructure.persistence.idempotency.repository.IdempotentRequestJpaRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keys live in the idempotent_requests table for idempotency.ttl-seconds and in
+ * a size-bounded cache with the same expiry, so retries that land on the node
+ * that served the first request are answered from memory. Expired rows are
+ * deleted by a scheduled purge.
+ */
+@Slf4j
+@Component
+public class IdempotentRequestRepositoryImpl implements IdempotentRequestRepository {
+	
+	private static final String CACHE_NAME = "idempotent-requests";
+	
+	private final IdempotentRequestJpaRepository idempotentRequestJpaRepository;
+	
+	private final IdempotentRequestDataAccessMapper idempotentRequestDataAccessMapper;
+	
+	private final DomainClock domainClock;
+	
+	private final Duration ttl;
+	
+	private final Cache<String, IdempotentRequest> cache;
+	
+	public IdempotentRequestRepositoryImpl(IdempotentRequestJpaRepository idempotentRequestJpaRepository,
+			IdempotentRequestDataAccessMapper idempotentRequestDataAccessMapper,
+			IdempotencyConfigData idempotencyConfigData,
+			DomainClock domainClock,
+			MeterRegistry meterRegistry) {
+		this.idempotentRequestJpaRepository = idempotentRequestJpaRepository;
+		this.idempotentRequestDataAccessMapper = idempotentRequestDataAccessMapper;
+		this.domainClock = domainClock;
+		this.ttl = Duration.ofSeconds(idempotencyConfigData.getTtlSeconds());
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(idempotencyConfigData.getCacheMaximumSize())
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<IdempotentRequest> findByIdempotencyKey(String idempotencyKey) {
+		IdempotentRequest cached = cache.getIfPresent(idempotencyKey);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		
+		ZonedDateTime now = domainClock.now().atZone(DomainClock.ZONE);
+		
+		// The same bound as deleteExpired in save: a row is either live here or deletable there.
+		Optional<IdempotentRequest> stored = idempotentRequestJpaRepository.findById(idempotencyKey)
+				.filter(entity -> entity.getExpiresAt().isAfter(now))
+				.map(idempotentRequestDataAccessMapper::idempotentRequestEntityToIdempotentRequest);
+		
+		stored.ifPresent(idempotentRequest -> cache.put(idempotencyKey, idempotentRequest));
+		
+		return stored;
+	}
+
+	/**
+	 * Flushed right away so a key taken by a concurrent request fails here, before
+	 * the order rows of this transaction are written. An expired row for the key
+	 * that the purge has not deleted yet is removed first; findByIdempotencyKey
+	 * already ignores it, so the key is free again.
+	 */
+	@Override
+	@Transactional
+	public void save(IdempotentRequest idempotentRequest) {
+		idempotentRequestJpaRepository.deleteExpired(idempotentRequest.idempotencyKey(), idempotentRequest.createdAt());
+		
+		try {
+			idempotentRequestJpaRepository.saveAndFlush(idempotentRequestDataAccessMapper
+					.idempotentRequestToIdempotentRequestEntity(idempotentRequest, idempotentRequest.createdAt().plus(ttl)));
+		} catch (DataIntegrityViolationException e) {
+			throw new DuplicateIdempotencyKeyException(
+					"Idempotency key " + idempotentRequest.idempotencyKey() + " is already in use", e);
+		}
+		
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				
+				@Override
+				public void afterCommit() {
+					cache.put(idempotentRequest.idempotencyKey(), idempotentRequest);
+				}
+				
+			});
+		} else {
+			cache.put(idempotentRequest.idempotencyKey(), idempotentRequest);
+		}
+	}
+	
+	@Transactional
+	@Scheduled(fixedDelayString = "${idempotency.purge-interval-ms}",
+			initialDelayString = "${idempotency.purge-interval-ms}")
+	public void purgeExpired() {
+		int purged = idempotentRequestJpaRepository.deleteExpired(domainClock.now().atZone(DomainClock.ZONE));
+		
+		if (purged > 0) {
+			log.info("Purged {} expired idempotency keys", purged);
+		}
+	}
+
+}
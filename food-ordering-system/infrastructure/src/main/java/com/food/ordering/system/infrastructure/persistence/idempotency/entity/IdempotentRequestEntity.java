@@ -0,0 +1,59 @@
+package com.food.ordering.system.infrastructure.persistence.idempotency.entity;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import com.food.ordering.system.application.idempotency.RequestFingerprint;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "idempotent_requests", indexes = {
+		@Index(name = "idempotent_requests_expires_at_idx", columnList = "expires_at")
+})
+public class IdempotentRequestEntity {
+	
+	@Id
+	@Column(name = "idempotency_key", length = 255)
+	private String idempotencyKey;
+	
+	@Column(name = "request_fingerprint", nullable = false, length = RequestFingerprint.SIZE)
+	private byte[] requestFingerprint;
+	
+	@Column(name = "tracking_id", nullable = false)
+	private UUID trackingId;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(name = "order_status", nullable = false)
+	private OrderStatus orderStatus;
+	
+	private String message;
+	
+	@Column(name = "created_at", nullable = false)
+	private ZonedDateTime createdAt;
+	
+	@Column(name = "expires_at", nullable = false)
+	private ZonedDateTime expiresAt;
+	
+	@Version
+	private Integer version;
+
+}
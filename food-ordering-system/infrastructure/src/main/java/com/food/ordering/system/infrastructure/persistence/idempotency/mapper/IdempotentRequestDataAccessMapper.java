@@ -0,0 +1,38 @@
+package com.food.ordering.system.infrastructure.persistence.idempotency.mapper;
+
+import java.time.ZonedDateTime;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.application.dto.CreateOrderResponse;
+import com.food.ordering.system.application.idempotency.model.IdempotentRequest;
+import com.food.ordering.system.infrastructure.persistence.idempotency.entity.IdempotentRequestEntity;
+
+@Component
+public class IdempotentRequestDataAccessMapper {
+	
+	public IdempotentRequestEntity idempotentRequestToIdempotentRequestEntity(IdempotentRequest idempotentRequest, 
+			ZonedDateTime expiresAt) {
+		return IdempotentRequestEntity.builder()
+				.idempotencyKey(idempotentRequest.idempotencyKey())
+				.requestFingerprint(idempotentRequest.requestFingerprint())
+				.trackingId(idempotentRequest.response().orderTrackingId())
+				.orderStatus(idempotentRequest.response().orderStatus())
+				.message(idempotentRequest.response().message())
+				.createdAt(idempotentRequest.createdAt())
+				.expiresAt(expiresAt)
+				.build();
+	}
+	
+	public IdempotentRequest idempotentRequestEntityToIdempotentRequest(IdempotentRequestEntity idempotentRequestEntity) {
+		return new IdempotentRequest(
+				idempotentRequestEntity.getIdempotencyKey(),
+				idempotentRequestEntity.getRequestFingerprint(),
+				new CreateOrderResponse(
+						idempotentRequestEntity.getTrackingId(), 
+						idempotentRequestEntity.getOrderStatus(), 
+						idempotentRequestEntity.getMessage()),
+				idempotentRequestEntity.getCreatedAt());
+	}
+
+}
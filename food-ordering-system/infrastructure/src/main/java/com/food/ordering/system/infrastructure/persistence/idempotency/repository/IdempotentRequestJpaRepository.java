@@ -0,0 +1,24 @@
+package com.food.ordering.system.infrastructure.persistence.idempotency.repository;
+
+import java.time.ZonedDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.food.ordering.system.infrastructure.persistence.idempotency.entity.IdempotentRequestEntity;
+
+@Repository
+public interface IdempotentRequestJpaRepository extends JpaRepository<IdempotentRequestEntity, String> {
+	
+	@Modifying
+	@Query("delete from IdempotentRequestEntity r where r.expiresAt < :now")
+	int deleteExpired(@Param("now") ZonedDateTime now);
+	
+	@Modifying
+	@Query("delete from IdempotentRequestEntity r where r.idempotencyKey = :idempotencyKey and r.expiresAt <= :now")
+	int deleteExpired(@Param("idempotencyKey") String idempotencyKey, @Param("now") ZonedDateTime now);
+
+}
@@ -0,0 +1,203 @@
+package com.food.ordering.system.infrastructure.persistence.inbox.adapter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.food.ordering.system.application.inbox.model.ProcessedMessage;
+import com.food.ordering.system.application.ports.output.ProcessedMessageRepository;
+import com.food.ordering.system.domain.common.DomainClock;
+import com.food.ordering.system.infrastructure.config.InboxConfigData;
+import com.food.ordering.system.infrastructure.persistence.inbox.entity.ProcessedMessageEntity;
+import com.food.ordering.system.infrastructure.persistence.inbox.filter.MessageIdBloomFilter;
+import com.food.ordering.system.infrastructure.persistence.inbox.repository.ProcessedMessageJpaRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The processed_messages table is the source of truth: its primary key rejects
+ * a message id stored twice. A Bloom filter of the ids processed within the
+ * retention window sits in front of it, so a message the filter has never seen,
+ * which is the normal case, is accepted without a query; only filter hits are
+ * checked against the table.
+ * 
+ * The filter is rebuilt from the table whenever partitions are assigned to this
+ * node, because redeliveries after a rebalance were processed by another node,
+ * and periodically, so ids older than the window stop filling it up.
+ */
+@Slf4j
+@Component
+public class ProcessedMessageRepositoryImpl implements ProcessedMessageRepository {
+	
+	private final ProcessedMessageJpaRepository processedMessageJpaRepository;
+	
+	private final InboxConfigData inboxConfigData;
+	
+	private final DomainClock domainClock;
+	
+	private volatile MessageIdBloomFilter filter;
+	
+	// Set while a rebuild is loading, so ids stored meanwhile reach the new filter too.
+	private volatile MessageIdBloomFilter rebuilding;
+	
+	// Guarded by the rebuildFilter lock.
+	private Long lastRebuildStartedAt;
+	
+	private final Counter filteredCounter;
+	private final Counter checkedCounter;
+	private final Counter duplicateCounter;
+	
+	public ProcessedMessageRepositoryImpl(ProcessedMessageJpaRepository processedMessageJpaRepository,
+			InboxConfigData inboxConfigData,
+			DomainClock domainClock,
+			MeterRegistry meterRegistry) {
+		this.processedMessageJpaRepository = processedMessageJpaRepository;
+		this.inboxConfigData = inboxConfigData;
+		this.domainClock = domainClock;
+		this.filter = newFilter();
+		this.filteredCounter = lookupCounter(meterRegistry, "filtered");
+		this.checkedCounter = lookupCounter(meterRegistry, "checked");
+		this.duplicateCounter = lookupCounter(meterRegistry, "duplicate");
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Set<UUID> findProcessed(Collection<UUID> messageIds) {
+		MessageIdBloomFilter current = filter;
+		
+		List<UUID> candidates = new ArrayList<>();
+		for (UUID messageId : messageIds) {
+			if (current.mightContain(messageId)) {
+				candidates.add(messageId);
+			}
+		}
+		
+		filteredCounter.increment(messageIds.size() - candidates.size());
+		
+		if (candidates.isEmpty()) {
+			return Set.of();
+		}
+		
+		checkedCounter.increment(candidates.size());
+		
+		Set<UUID> processed = new HashSet<>(processedMessageJpaRepository.findMessageIds(candidates));
+		
+		duplicateCounter.increment(processed.size());
+		
+		return processed;
+	}
+
+	/**
+	 * Flushed right away so a duplicate key fails here. The ids go into the filter
+	 * even when the insert fails: a rolled back id only costs a query later, while
+	 * a missing one would let the same duplicate reach the key on every redelivery.
+	 */
+	@Override
+	@Transactional
+	public void saveAll(Collection<ProcessedMessage> processedMessages) {
+		if (processedMessages.isEmpty()) {
+			return;
+		}
+		
+		try {
+			processedMessageJpaRepository.saveAll(processedMessages.stream()
+					.map(processedMessage -> ProcessedMessageEntity.builder()
+							.messageId(processedMessage.messageId())
+							.sagaId(processedMessage.sagaId())
+							.processedAt(processedMessage.processedAt())
+							.build())
+					.toList());
+			processedMessageJpaRepository.flush();
+		} finally {
+			for (ProcessedMessage processedMessage : processedMessages) {
+				put(processedMessage.messageId());
+			}
+		}
+	}
+	
+	/**
+	 * Reloads the filter from the ids processed within the retention window. Calls
+	 * that were requested before a rebuild started are answered by that rebuild.
+	 */
+	@Transactional(readOnly = true)
+	public synchronized void rebuildFilter(long requestedAt) {
+		if (lastRebuildStartedAt != null && lastRebuildStartedAt - requestedAt >= 0) {
+			return;
+		}
+		lastRebuildStartedAt = System.nanoTime();
+		
+		MessageIdBloomFilter next = newFilter();
+		rebuilding = next;
+		
+		long loaded = 0;
+		try (Stream<UUID> messageIds = processedMessageJpaRepository.streamMessageIdsProcessedSince(
+				domainClock.now().atZone(DomainClock.ZONE).minusHours(inboxConfigData.getRetentionHours()))) {
+			for (UUID messageId : (Iterable<UUID>) messageIds::iterator) {
+				next.put(messageId);
+				loaded++;
+			}
+		} finally {
+			rebuilding = null;
+		}
+		
+		filter = next;
+		
+		if (loaded > inboxConfigData.getFilterExpectedInsertions()) {
+			log.warn("Inbox filter loaded {} ids, more than the {} it is sized for; false positives will rise", 
+					loaded, inboxConfigData.getFilterExpectedInsertions());
+		} else {
+			log.info("Inbox filter rebuilt with {} processed message ids", loaded);
+		}
+	}
+	
+	@Transactional(readOnly = true)
+	@Scheduled(fixedDelayString = "${inbox.filter-rebuild-interval-ms}",
+			initialDelayString = "${inbox.filter-rebuild-interval-ms}")
+	public void scheduledRebuild() {
+		rebuildFilter(System.nanoTime());
+	}
+	
+	@Transactional
+	@Scheduled(fixedDelayString = "${inbox.purge-interval-ms}",
+			initialDelayString = "${inbox.purge-interval-ms}")
+	public void purgeExpired() {
+		int purged = processedMessageJpaRepository.deleteProcessedBefore(
+				domainClock.now().atZone(DomainClock.ZONE).minusHours(inboxConfigData.getRetentionHours()));
+		
+		if (purged > 0) {
+			log.info("Purged {} processed message ids", purged);
+		}
+	}
+	
+	private void put(UUID messageId) {
+		filter.put(messageId);
+		
+		MessageIdBloomFilter next = rebuilding;
+		if (next != null) {
+			next.put(messageId);
+		}
+	}
+	
+	private MessageIdBloomFilter newFilter() {
+		return MessageIdBloomFilter.create(inboxConfigData.getFilterExpectedInsertions(), 
+				inboxConfigData.getFilterFalsePositiveRate());
+	}
+	
+	private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("order.inbox.lookups")
+				.description("Inbox duplicate checks by how they were answered")
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.food.ordering.system.infrastructure.persistence.inbox.entity;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "processed_messages", indexes = {
+		@Index(name = "processed_messages_processed_at_idx", columnList = "processed_at")
+})
+public class ProcessedMessageEntity {
+	
+	@Id
+	@Column(name = "message_id")
+	private UUID messageId;
+	
+	@Column(name = "saga_id", nullable = false)
+	private UUID sagaId;
+	
+	@Column(name = "processed_at", nullable = false)
+	private ZonedDateTime processedAt;
+	
+	@Version
+	private Integer version;
+
+}
@@ -0,0 +1,73 @@
+package com.food.ordering.system.infrastructure.persistence.inbox.filter;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over message ids, safe for concurrent puts and reads without
+ * locking. The two 64-bit halves of the UUID are mixed into two hashes and the
+ * probe positions are derived from them (Kirsch-Mitzenmacher), so a lookup does
+ * not allocate. Both hashes depend on both halves, so ids that share their high
+ * half still get distinct first probes.
+ */
+public final class MessageIdBloomFilter {
+	
+	private final AtomicLongArray words;
+	
+	private final long bitCount;
+	
+	private final int hashFunctions;
+	
+	private MessageIdBloomFilter(long bitCount, int hashFunctions) {
+		this.words = new AtomicLongArray(Math.toIntExact((bitCount + 63) >>> 6));
+		this.bitCount = (long) words.length() << 6;
+		this.hashFunctions = hashFunctions;
+	}
+	
+	public static MessageIdBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+		long n = Math.max(1, expectedInsertions);
+		long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		int hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+		return new MessageIdBloomFilter(Math.max(64, bits), hashes);
+	}
+	
+	public void put(UUID messageId) {
+		long hash1 = mix(messageId.getMostSignificantBits() ^ mix(messageId.getLeastSignificantBits()));
+		long hash2 = mix(messageId.getLeastSignificantBits() ^ hash1);
+		
+		for (int i = 0; i < hashFunctions; i++) {
+			long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+			int word = (int) (bit >>> 6);
+			long mask = 1L << bit;
+			
+			long current = words.get(word);
+			while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+				current = words.get(word);
+			}
+		}
+	}
+	
+	public boolean mightContain(UUID messageId) {
+		long hash1 = mix(messageId.getMostSignificantBits() ^ mix(messageId.getLeastSignificantBits()));
+		long hash2 = mix(messageId.getLeastSignificantBits() ^ hash1);
+		
+		for (int i = 0; i < hashFunctions; i++) {
+			long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+			if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	// MurmurHash3 fmix64 finalizer.
+	private static long mix(long value) {
+		value ^= value >>> 33;
+		value *= 0xff51afd7ed558ccdL;
+		value ^= value >>> 33;
+		value *= 0xc4ceb9fe1a85ec53L;
+		value ^= value >>> 33;
+		return value;
+	}
+
+}
@@ -0,0 +1,34 @@
+package com.food.ordering.system.infrastructure.persistence.inbox.repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.food.ordering.system.infrastructure.persistence.inbox.entity.ProcessedMessageEntity;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface ProcessedMessageJpaRepository extends JpaRepository<ProcessedMessageEntity, UUID> {
+	
+	@Query("select m.messageId from ProcessedMessageEntity m where m.messageId in :messageIds")
+	List<UUID> findMessageIds(@Param("messageIds") Collection<UUID> messageIds);
+	
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "5000"))
+	@Query("select m.messageId from ProcessedMessageEntity m where m.processedAt >= :since")
+	Stream<UUID> streamMessageIdsProcessedSince(@Param("since") ZonedDateTime since);
+	
+	@Modifying
+	@Query("delete from ProcessedMessageEntity m where m.processedAt < :before")
+	int deleteProcessedBefore(@Param("before") ZonedDateTime before);
+
+}
@@ -0,0 +1,114 @@
+package com.food.ordering.system.infrastructure.persistence.order.adapter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.food.ordering.system.application.ports.output.OrderRepository;
+import com.food.ordering.system.domain.entities.Order;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.TrackingId;
+import com.food.ordering.system.infrastructure.persistence.order.entity.OrderEntity;
+import com.food.ordering.system.infrastructure.persistence.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.infrastructure.persistence.order.repository.OrderJpaRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class OrderRepositoryImpl implements OrderRepository {
+	
+	private final OrderJpaRepository orderJpaRepository;
+	
+	private final OrderDataAccessMapper orderDataAccessMapper;
+
+	@Override
+	@Transactional
+	public Order insert(Order order) {
+		return insertAll(List.of(order)).get(0);
+	}
+
+	@Override
+	@Transactional
+	public List<Order> insertAll(Collection<Order> orders) {
+		orderJpaRepository.saveAll(orders.stream().map(orderDataAccessMapper::orderToOrderEntity).toList());
+		return List.copyOf(orders);
+	}
+
+	@Override
+	@Transactional
+	public Order save(Order order) {
+		return saveAll(List.of(order)).get(0);
+	}
+
+	/**
+	 * Orders that already exist are loaded with one IN query and only their mutable
+	 * state (status, failure messages) is copied onto the managed entities; new
+	 * orders are inserted, though created orders go through insertAll and skip the
+	 * lookup. Hibernate flushes both as JDBC batches
+	 * (hibernate.jdbc.batch_size) at commit.
+	 */
+	@Override
+	@Transactional
+	public List<Order> saveAll(Collection<Order> orders) {
+		if (orders.isEmpty()) {
+			return List.of();
+		}
+		
+		Map<UUID, OrderEntity> existing = orderJpaRepository.findAllById(
+				orders.stream().map(order -> order.getOrderId().getValue()).toList())
+				.stream()
+				.collect(Collectors.toMap(OrderEntity::getId, Function.identity()));
+		
+		List<OrderEntity> newEntities = new ArrayList<>();
+		
+		for (Order order : orders) {
+			OrderEntity orderEntity = existing.get(order.getOrderId().getValue());
+			if (orderEntity == null) {
+				newEntities.add(orderDataAccessMapper.orderToOrderEntity(order));
+			} else {
+				orderEntity.setOrderStatus(order.getStatus());
+				orderEntity.setFailureMessages(orderDataAccessMapper.copyFailureMessages(order.getFailureMessages()));
+			}
+		}
+		
+		orderJpaRepository.saveAll(newEntities);
+		
+		return List.copyOf(orders);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<Order> findById(OrderId orderId) {
+		return orderJpaRepository.findWithItemsById(orderId.getValue())
+				.map(orderDataAccessMapper::orderEntityToOrder);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Order> findAllByIds(Collection<OrderId> orderIds) {
+		if (orderIds.isEmpty()) {
+			return List.of();
+		}
+		return orderJpaRepository.findByIdIn(orderIds.stream().map(OrderId::getValue).toList())
+				.stream()
+				.map(orderDataAccessMapper::orderEntityToOrder)
+				.toList();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<Order> findByTrackingId(TrackingId trackingId) {
+		return orderJpaRepository.findByTrackingId(trackingId.getValue())
+				.map(orderDataAccessMapper::orderEntityToOrder);
+	}
+
+}
@@ -0,0 +1,40 @@
+package com.food.ordering.system.infrastructure.persistence.order.entity;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "order_address")
+public class OrderAddressEntity {
+	
+	@Id
+	private UUID id;
+	
+	@OneToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "order_id", nullable = false)
+	private OrderEntity order;
+	
+	@Column(nullable = false)
+	private String street;
+	
+	@Column(name = "postal_code", nullable = false)
+	private String postalCode;
+
+}
@@ -0,0 +1,71 @@
+package com.food.ordering.system.infrastructure.persistence.order.entity;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.infrastructure.persistence.common.FailureMessagesConverter;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "orders", indexes = {
+		@Index(name = "orders_tracking_id_idx", columnList = "tracking_id", unique = true)
+})
+public class OrderEntity {
+	
+	@Id
+	private UUID id;
+	
+	@Column(name = "customer_id", nullable = false)
+	private UUID customerId;
+	
+	@Column(name = "restaurant_id", nullable = false)
+	private UUID restaurantId;
+	
+	@Column(name = "tracking_id", nullable = false)
+	private UUID trackingId;
+	
+	@Column(nullable = false, precision = 10, scale = 2)
+	private BigDecimal price;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(name = "order_status", nullable = false)
+	private OrderStatus orderStatus;
+	
+	@Convert(converter = FailureMessagesConverter.class)
+	@Column(name = "failure_messages", columnDefinition = "text")
+	private List<String> failureMessages;
+	
+	@OneToOne(mappedBy = "order", cascade = CascadeType.ALL)
+	private OrderAddressEntity address;
+	
+	@OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
+	private List<OrderItemEntity> items;
+	
+	@Version
+	private Integer version;
+
+}
@@ -0,0 +1,47 @@
+package com.food.ordering.system.infrastructure.persistence.order.entity;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "order_items")
+public class OrderItemEntity {
+	
+	@Id
+	private UUID id;
+	
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "order_id", nullable = false)
+	private OrderEntity order;
+	
+	@Column(name = "product_id", nullable = false)
+	private UUID productId;
+	
+	@Column(nullable = false, precision = 10, scale = 2)
+	private BigDecimal price;
+	
+	@Column(nullable = false)
+	private Integer quantity;
+	
+	@Column(nullable = false, precision = 10, scale = 2)
+	private BigDecimal subtotal;
+
+}
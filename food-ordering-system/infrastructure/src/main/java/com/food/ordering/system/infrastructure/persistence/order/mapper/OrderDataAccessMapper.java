@@ -0,0 +1,104 @@
+package com.food.ordering.system.infrastructure.persistence.order.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.domain.entities.Order;
+import com.food.ordering.system.domain.entities.OrderItem;
+import com.food.ordering.system.domain.entities.Product;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderItemId;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.domain.valueobject.StreetAddress;
+import com.food.ordering.system.domain.valueobject.TrackingId;
+import com.food.ordering.system.infrastructure.persistence.order.entity.OrderAddressEntity;
+import com.food.ordering.system.infrastructure.persistence.order.entity.OrderEntity;
+import com.food.ordering.system.infrastructure.persistence.order.entity.OrderItemEntity;
+
+@Component
+public class OrderDataAccessMapper {
+	
+	public OrderEntity orderToOrderEntity(Order order) {
+		OrderEntity orderEntity = OrderEntity.builder()
+				.id(order.getOrderId().getValue())
+				.customerId(order.getCustomerId().getValue())
+				.restaurantId(order.getRestaurantId().getValue())
+				.trackingId(order.getTrackingId().getValue())
+				.price(order.getPrice().getAmount())
+				.orderStatus(order.getStatus())
+				.failureMessages(copyFailureMessages(order.getFailureMessages()))
+				.build();
+		
+		orderEntity.setAddress(streetAddressToOrderAddressEntity(order.getStreetAddress(), orderEntity));
+		orderEntity.setItems(orderItemsToOrderItemEntities(order.getItems(), orderEntity));
+		
+		return orderEntity;
+	}
+	
+	public Order orderEntityToOrder(OrderEntity orderEntity) {
+		Order order = Order.builder()
+				.orderId(new OrderId(orderEntity.getId()))
+				.customerId(new CustomerId(orderEntity.getCustomerId()))
+				.restaurantId(new RestaurantId(orderEntity.getRestaurantId()))
+				.trackingId(new TrackingId(orderEntity.getTrackingId()))
+				.price(new Money(orderEntity.getPrice()))
+				.status(orderEntity.getOrderStatus())
+				.failureMessages(copyFailureMessages(orderEntity.getFailureMessages()))
+				.streetAddress(orderAddressEntityToStreetAddress(orderEntity.getAddress()))
+				.items(orderItemEntitiesToOrderItems(orderEntity.getItems()))
+				.build();
+		
+		order.setId(order.getOrderId());
+		
+		return order;
+	}
+	
+	public List<String> copyFailureMessages(List<String> failureMessages) {
+		return failureMessages == null ? new ArrayList<>() : new ArrayList<>(failureMessages);
+	}
+	
+	private OrderAddressEntity streetAddressToOrderAddressEntity(StreetAddress streetAddress, OrderEntity orderEntity) {
+		return OrderAddressEntity.builder()
+				.id(streetAddress.getId())
+				.order(orderEntity)
+				.street(streetAddress.getStreet())
+				.postalCode(streetAddress.getPostalCode())
+				.build();
+	}
+	
+	private StreetAddress orderAddressEntityToStreetAddress(OrderAddressEntity address) {
+		return new StreetAddress(address.getId(), address.getPostalCode(), address.getStreet());
+	}
+	
+	private List<OrderItemEntity> orderItemsToOrderItemEntities(List<OrderItem> items, OrderEntity orderEntity) {
+		return items.stream()
+				.map(orderItem -> OrderItemEntity.builder()
+						.id(orderItem.getId().getValue())
+						.order(orderEntity)
+						.productId(orderItem.getProduct().getId().getValue())
+						.price(orderItem.getPrice().getAmount())
+						.quantity(orderItem.getQuantity())
+						.subtotal(orderItem.getSubtotal().getAmount())
+						.build())
+				.toList();
+	}
+	
+	private List<OrderItem> orderItemEntitiesToOrderItems(List<OrderItemEntity> items) {
+		return items.stream()
+				.map(orderItemEntity -> OrderItem.builder()
+						.id(new OrderItemId(orderItemEntity.getId()))
+						.orderId(new OrderId(orderItemEntity.getOrder().getId()))
+						.product(new Product(new ProductId(orderItemEntity.getProductId())))
+						.price(new Money(orderItemEntity.getPrice()))
+						.quantity(orderItemEntity.getQuantity())
+						.subtotal(new Money(orderItemEntity.getSubtotal()))
+						.build())
+				.toList();
+	}
+
+}
@@ -0,0 +1,26 @@
+package com.food.ordering.system.infrastructure.persistence.order.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.food.ordering.system.infrastructure.persistence.order.entity.OrderEntity;
+
+@Repository
+public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
+	
+	@EntityGraph(attributePaths = {"address", "items"})
+	Optional<OrderEntity> findByTrackingId(UUID trackingId);
+	
+	@EntityGraph(attributePaths = {"address", "items"})
+	Optional<OrderEntity> findWithItemsById(UUID id);
+	
+	@EntityGraph(attributePaths = {"address", "items"})
+	List<OrderEntity> findByIdIn(Collection<UUID> ids);
+
+}
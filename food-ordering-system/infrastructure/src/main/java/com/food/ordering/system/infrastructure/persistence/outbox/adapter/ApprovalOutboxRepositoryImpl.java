@@ -0,0 +1,73 @@
+package com.food.ordering.system.infrastructure.persistence.outbox.adapter;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.food.ordering.system.application.outbox.model.OrderApprovalOutboxMessage;
+import com.food.ordering.system.application.outbox.model.OutboxStatus;
+import com.food.ordering.system.application.ports.output.ApprovalOutboxRepository;
+import com.food.ordering.system.infrastructure.persistence.outbox.entity.ApprovalOutboxEntity;
+import com.food.ordering.system.infrastructure.persistence.outbox.mapper.ApprovalOutboxDataAccessMapper;
+import com.food.ordering.system.infrastructure.persistence.outbox.repository.ApprovalOutboxJpaRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ApprovalOutboxRepositoryImpl implements ApprovalOutboxRepository {
+	
+	private final ApprovalOutboxJpaRepository approvalOutboxJpaRepository;
+	
+	private final ApprovalOutboxDataAccessMapper approvalOutboxDataAccessMapper;
+
+	@Override
+	public OrderApprovalOutboxMessage save(OrderApprovalOutboxMessage orderApprovalOutboxMessage) {
+		return approvalOutboxDataAccessMapper.approvalOutboxEntityToOrderApprovalOutboxMessage(
+				approvalOutboxJpaRepository.save(
+						approvalOutboxDataAccessMapper.orderApprovalOutboxMessageToApprovalOutboxEntity(orderApprovalOutboxMessage)));
+	}
+
+	@Override
+	@Transactional
+	public List<OrderApprovalOutboxMessage> claimByOutboxStatus(OutboxStatus outboxStatus, int limit, 
+			ZonedDateTime now, ZonedDateTime claimedUntil) {
+		List<ApprovalOutboxEntity> claimable = approvalOutboxJpaRepository.findClaimable(
+				outboxStatus, now, PageRequest.of(0, limit));
+		if (claimable.isEmpty()) {
+			return List.of();
+		}
+		
+		// The row locks are held until this commits, so the claim is visible before anyone else can lock them.
+		approvalOutboxJpaRepository.updateClaimedUntil(
+				claimable.stream().map(ApprovalOutboxEntity::getId).toList(), claimedUntil);
+		
+		return claimable.stream()
+				.map(approvalOutboxDataAccessMapper::approvalOutboxEntityToOrderApprovalOutboxMessage)
+				.toList();
+	}
+	
+	@Override
+	@Transactional
+	public int releaseClaims(Collection<UUID> ids) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		return approvalOutboxJpaRepository.updateClaimedUntil(ids, null);
+	}
+
+	@Override
+	@Transactional
+	public int updateOutboxStatus(Collection<UUID> ids, OutboxStatus outboxStatus, ZonedDateTime processedAt) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		return approvalOutboxJpaRepository.updateOutboxStatus(ids, outboxStatus, processedAt);
+	}
+
+}
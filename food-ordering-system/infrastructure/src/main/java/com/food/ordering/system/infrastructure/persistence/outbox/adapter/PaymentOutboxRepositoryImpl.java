@@ -0,0 +1,84 @@
+package com.food.ordering.system.infrastructure.persistence.outbox.adapter;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.food.ordering.system.application.outbox.model.OrderPaymentOutboxMessage;
+import com.food.ordering.system.application.outbox.model.OutboxStatus;
+import com.food.ordering.system.application.ports.output.PaymentOutboxRepository;
+import com.food.ordering.system.infrastructure.persistence.outbox.entity.PaymentOutboxEntity;
+import com.food.ordering.system.infrastructure.persistence.outbox.mapper.PaymentOutboxDataAccessMapper;
+import com.food.ordering.system.infrastructure.persistence.outbox.repository.PaymentOutboxJpaRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class PaymentOutboxRepositoryImpl implements PaymentOutboxRepository {
+	
+	private final PaymentOutboxJpaRepository paymentOutboxJpaRepository;
+	
+	private final PaymentOutboxDataAccessMapper paymentOutboxDataAccessMapper;
+
+	@Override
+	public OrderPaymentOutboxMessage save(OrderPaymentOutboxMessage orderPaymentOutboxMessage) {
+		return paymentOutboxDataAccessMapper.paymentOutboxEntityToOrderPaymentOutboxMessage(
+				paymentOutboxJpaRepository.save(
+						paymentOutboxDataAccessMapper.orderPaymentOutboxMessageToPaymentOutboxEntity(orderPaymentOutboxMessage)));
+	}
+
+	@Override
+	public List<OrderPaymentOutboxMessage> saveAll(Collection<OrderPaymentOutboxMessage> orderPaymentOutboxMessages) {
+		return paymentOutboxJpaRepository.saveAll(
+				orderPaymentOutboxMessages.stream()
+				.map(paymentOutboxDataAccessMapper::orderPaymentOutboxMessageToPaymentOutboxEntity)
+				.toList())
+				.stream()
+				.map(paymentOutboxDataAccessMapper::paymentOutboxEntityToOrderPaymentOutboxMessage)
+				.toList();
+	}
+
+	@Override
+	@Transactional
+	public List<OrderPaymentOutboxMessage> claimByOutboxStatus(OutboxStatus outboxStatus, int limit, 
+			ZonedDateTime now, ZonedDateTime claimedUntil) {
+		List<PaymentOutboxEntity> claimable = paymentOutboxJpaRepository.findClaimable(
+				outboxStatus, now, PageRequest.of(0, limit));
+		if (claimable.isEmpty()) {
+			return List.of();
+		}
+		
+		// The row locks are held until this commits, so the claim is visible before anyone else can lock them.
+		paymentOutboxJpaRepository.updateClaimedUntil(
+				claimable.stream().map(PaymentOutboxEntity::getId).toList(), claimedUntil);
+		
+		return claimable.stream()
+				.map(paymentOutboxDataAccessMapper::paymentOutboxEntityToOrderPaymentOutboxMessage)
+				.toList();
+	}
+	
+	@Override
+	@Transactional
+	public int releaseClaims(Collection<UUID> ids) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		return paymentOutboxJpaRepository.updateClaimedUntil(ids, null);
+	}
+
+	@Override
+	@Transactional
+	public int updateOutboxStatus(Collection<UUID> ids, OutboxStatus outboxStatus, ZonedDateTime processedAt) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		return paymentOutboxJpaRepository.updateOutboxStatus(ids, outboxStatus, processedAt);
+	}
+
+}
@@ -0,0 +1,36 @@
+package com.food.ordering.system.infrastructure.persistence.outbox.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.food.ordering.system.application.outbox.model.ApprovalProduct;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Stores the products of an approval request as a JSON array of id/quantity
+ * pairs; the row is only read back by the relay, so it needs no table of its own.
+ */
+@Converter
+public class ApprovalProductsConverter implements AttributeConverter<List<ApprovalProduct>, String> {
+	
+	private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+	
+	private static final TypeReference<List<ApprovalProduct>> PRODUCTS = new TypeReference<>() {};
+
+	@Override
+	public String convertToDatabaseColumn(List<ApprovalProduct> products) {
+		return JSON_MAPPER.writeValueAsString(products == null ? List.of() : products);
+	}
+
+	@Override
+	public List<ApprovalProduct> convertToEntityAttribute(String products) {
+		return products == null 
+				? new ArrayList<>() 
+				: new ArrayList<>(JSON_MAPPER.readValue(products, PRODUCTS));
+	}
+
+}
@@ -0,0 +1,78 @@
+package com.food.ordering.system.infrastructure.persistence.outbox.entity;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import com.food.ordering.system.application.outbox.model.OutboxStatus;
+import com.food.ordering.system.application.outbox.model.PaymentOrderStatus;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "payment_outbox", indexes = {
+		@Index(name = "payment_outbox_status_created_at_idx", columnList = "outbox_status, created_at")
+})
+public class PaymentOutboxEntity {
+	
+	@Id
+	private UUID id;
+	
+	@Column(name = "saga_id", nullable = false)
+	private UUID sagaId;
+	
+	@Column(name = "order_id", nullable = false)
+	private UUID orderId;
+	
+	@Column(name = "customer_id", nullable = false)
+	private UUID customerId;
+	
+	@Column(nullable = false, precision = 10, scale = 2)
+	private BigDecimal price;
+	
+	@Column(name = "created_at", nullable = false)
+	private ZonedDateTime createdAt;
+	
+	@Column(name = "processed_at")
+	private ZonedDateTime processedAt;
+	
+	// Set while a relay instance is sending the row; an expired claim is taken over.
+	@Column(name = "claimed_until")
+	private ZonedDateTime claimedUntil;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(name = "payment_order_status", nullable = false)
+	private PaymentOrderStatus paymentOrderStatus;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(name = "order_status", nullable = false)
+	private OrderStatus orderStatus;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(name = "outbox_status", nullable = false)
+	private OutboxStatus outboxStatus;
+	
+	// A null version marks an entity as new, so saving a new row (here and in every
+	// other @Version entity) persists it without the merge select.
+	@Version
+	private Integer version;
+
+}
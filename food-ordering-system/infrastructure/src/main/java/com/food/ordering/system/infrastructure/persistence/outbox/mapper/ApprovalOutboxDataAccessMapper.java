@@ -0,0 +1,45 @@
+package com.food.ordering.system.infrastructure.persistence.outbox.mapper;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.application.outbox.model.OrderApprovalOutboxMessage;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.infrastructure.persistence.outbox.entity.ApprovalOutboxEntity;
+
+@Component
+public class ApprovalOutboxDataAccessMapper {
+	
+	public ApprovalOutboxEntity orderApprovalOutboxMessageToApprovalOutboxEntity(OrderApprovalOutboxMessage message) {
+		return ApprovalOutboxEntity.builder()
+				.id(message.id())
+				.sagaId(message.sagaId())
+				.orderId(message.orderId())
+				.restaurantId(message.restaurantId())
+				.price(message.price().getAmount())
+				.products(message.products())
+				.createdAt(message.createdAt())
+				.processedAt(message.processedAt())
+				.restaurantOrderStatus(message.restaurantOrderStatus())
+				.orderStatus(message.orderStatus())
+				.outboxStatus(message.outboxStatus())
+				.build();
+	}
+	
+	public OrderApprovalOutboxMessage approvalOutboxEntityToOrderApprovalOutboxMessage(ApprovalOutboxEntity entity) {
+		return new OrderApprovalOutboxMessage(
+				entity.getId(), 
+				entity.getSagaId(), 
+				entity.getOrderId(), 
+				entity.getRestaurantId(), 
+				new Money(entity.getPrice()), 
+				List.copyOf(entity.getProducts()), 
+				entity.getCreatedAt(), 
+				entity.getProcessedAt(), 
+				entity.getRestaurantOrderStatus(), 
+				entity.getOrderStatus(), 
+				entity.getOutboxStatus());
+	}
+
+}
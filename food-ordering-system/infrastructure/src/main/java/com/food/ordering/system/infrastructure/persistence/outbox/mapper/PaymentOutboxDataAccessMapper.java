@@ -0,0 +1,41 @@
+package com.food.ordering.system.infrastructure.persistence.outbox.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.application.outbox.model.OrderPaymentOutboxMessage;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.infrastructure.persistence.outbox.entity.PaymentOutboxEntity;
+
+@Component
+public class PaymentOutboxDataAccessMapper {
+	
+	public PaymentOutboxEntity orderPaymentOutboxMessageToPaymentOutboxEntity(OrderPaymentOutboxMessage message) {
+		return PaymentOutboxEntity.builder()
+				.id(message.id())
+				.sagaId(message.sagaId())
+				.orderId(message.orderId())
+				.customerId(message.customerId())
+				.price(message.price().getAmount())
+				.createdAt(message.createdAt())
+				.processedAt(message.processedAt())
+				.paymentOrderStatus(message.paymentOrderStatus())
+				.orderStatus(message.orderStatus())
+				.outboxStatus(message.outboxStatus())
+				.build();
+	}
+	
+	public OrderPaymentOutboxMessage paymentOutboxEntityToOrderPaymentOutboxMessage(PaymentOutboxEntity entity) {
+		return new OrderPaymentOutboxMessage(
+				entity.getId(), 
+				entity.getSagaId(), 
+				entity.getOrderId(), 
+				entity.getCustomerId(), 
+				new Money(entity.getPrice()), 
+				entity.getCreatedAt(), 
+				entity.getProcessedAt(), 
+				entity.getPaymentOrderStatus(), 
+				entity.getOrderStatus(), 
+				entity.getOutboxStatus());
+	}
+
+}
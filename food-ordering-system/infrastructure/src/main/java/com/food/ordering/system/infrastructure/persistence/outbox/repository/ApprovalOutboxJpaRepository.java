@@ -0,0 +1,45 @@
+package com.food.ordering.system.infrastructure.persistence.outbox.repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.food.ordering.system.application.outbox.model.OutboxStatus;
+import com.food.ordering.system.infrastructure.persistence.outbox.entity.ApprovalOutboxEntity;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface ApprovalOutboxJpaRepository extends JpaRepository<ApprovalOutboxEntity, UUID> {
+	
+	// lock.timeout -2 is SKIP LOCKED: rows another relay has locked are left to it.
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	@Query("select o from ApprovalOutboxEntity o where o.outboxStatus = :outboxStatus "
+			+ "and (o.claimedUntil is null or o.claimedUntil < :now) order by o.createdAt asc")
+	List<ApprovalOutboxEntity> findClaimable(@Param("outboxStatus") OutboxStatus outboxStatus, 
+			@Param("now") ZonedDateTime now, 
+			Pageable pageable);
+	
+	@Modifying
+	@Query("update ApprovalOutboxEntity o set o.claimedUntil = :claimedUntil where o.id in :ids")
+	int updateClaimedUntil(@Param("ids") Collection<UUID> ids, @Param("claimedUntil") ZonedDateTime claimedUntil);
+	
+	@Modifying
+	@Query("update ApprovalOutboxEntity o set o.outboxStatus = :outboxStatus, o.processedAt = :processedAt, o.claimedUntil = null where o.id in :ids")
+	int updateOutboxStatus(@Param("ids") Collection<UUID> ids, 
+			@Param("outboxStatus") OutboxStatus outboxStatus, 
+			@Param("processedAt") ZonedDateTime processedAt);
+
+}
@@ -0,0 +1,94 @@
+package com.food.ordering.system.infrastructure.persistence.restaurant.adapter;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.application.ports.output.RestaurantRepository;
+import com.food.ordering.system.domain.entities.Restaurant;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.infrastructure.config.RestaurantCacheConfigData;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read-through cache in front of {@link RestaurantRepositoryImpl}. Entries are
+ * bounded by size and expire a fixed time after loading. Concurrent misses for the
+ * same restaurant wait for a single load instead of all hitting the database.
+ * Unknown restaurants are not cached. RestaurantCacheController evicts entries
+ * when a restaurant changes before they expire.
+ */
+@Slf4j
+@Primary
+@Component
+public class CachingRestaurantRepository implements RestaurantRepository {
+	
+	private static final String CACHE_NAME = "restaurants";
+	
+	private final RestaurantRepositoryImpl restaurantRepository;
+	
+	private final LoadingCache<RestaurantId, Restaurant> cache;
+	
+	public CachingRestaurantRepository(RestaurantRepositoryImpl restaurantRepository,
+			RestaurantCacheConfigData restaurantCacheConfigData,
+			MeterRegistry meterRegistry) {
+		this.restaurantRepository = restaurantRepository;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(restaurantCacheConfigData.getMaximumSize())
+				.expireAfterWrite(Duration.ofSeconds(restaurantCacheConfigData.getExpireAfterWriteSeconds()))
+				.recordStats()
+				.build(new RestaurantCacheLoader());
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	@Override
+	public Optional<Restaurant> findRestaurantInformation(Restaurant restaurant) {
+		return Optional.ofNullable(cache.get(restaurant.getId()));
+	}
+
+	@Override
+	public List<Restaurant> findRestaurantsInformation(Collection<RestaurantId> restaurantIds) {
+		return List.copyOf(cache.getAll(restaurantIds).values());
+	}
+	
+	public void invalidate(RestaurantId restaurantId) {
+		log.info("Invalidating cached restaurant with id: {}", restaurantId.getValue());
+		cache.invalidate(restaurantId);
+	}
+	
+	public void invalidateAll() {
+		log.info("Invalidating all cached restaurants");
+		cache.invalidateAll();
+	}
+	
+	private class RestaurantCacheLoader implements CacheLoader<RestaurantId, Restaurant> {
+
+		@Override
+		public Restaurant load(RestaurantId restaurantId) {
+			return restaurantRepository.findRestaurantInformation(Restaurant.builder().restaurantId(restaurantId).build())
+					.orElse(null);
+		}
+
+		@Override
+		public Map<RestaurantId, Restaurant> loadAll(Set<? extends RestaurantId> restaurantIds) {
+			return restaurantRepository.findRestaurantsInformation(List.copyOf(restaurantIds))
+					.stream()
+					.collect(Collectors.toMap(Restaurant::getId, Function.identity()));
+		}
+		
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.food.ordering.system.infrastructure.persistence.restaurant.adapter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.food.ordering.system.application.ports.output.RestaurantRepository;
+import com.food.ordering.system.domain.entities.Restaurant;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.infrastructure.persistence.restaurant.mapper.RestaurantDataAccessMapper;
+import com.food.ordering.system.infrastructure.persistence.restaurant.repository.RestaurantJpaRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class RestaurantRepositoryImpl implements RestaurantRepository {
+	
+	private final RestaurantJpaRepository restaurantJpaRepository;
+	
+	private final RestaurantDataAccessMapper restaurantDataAccessMapper;
+
+	/**
+	 * Returns the restaurant with its whole menu, not only the products asked for,
+	 * so the result does not depend on the order that triggered the lookup.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<Restaurant> findRestaurantInformation(Restaurant restaurant) {
+		return restaurantDataAccessMapper.restaurantEntitiesToRestaurants(
+				restaurantJpaRepository.findByRestaurantId(restaurant.getId().getValue()))
+				.stream()
+				.findFirst();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Restaurant> findRestaurantsInformation(Collection<RestaurantId> restaurantIds) {
+		if (restaurantIds.isEmpty()) {
+			return List.of();
+		}
+		return restaurantDataAccessMapper.restaurantEntitiesToRestaurants(
+				restaurantJpaRepository.findByRestaurantIdIn(restaurantIds.stream().map(RestaurantId::getValue).toList()));
+	}
+
+}
@@ -0,0 +1,51 @@
+package com.food.ordering.system.infrastructure.persistence.restaurant.entity;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One row per restaurant product, denormalized so a restaurant and its whole menu
+ * are read with a single query.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@IdClass(RestaurantEntityId.class)
+@Table(name = "restaurant_products")
+public class RestaurantEntity {
+	
+	@Id
+	@Column(name = "restaurant_id")
+	private UUID restaurantId;
+	
+	@Id
+	@Column(name = "product_id")
+	private UUID productId;
+	
+	@Column(name = "restaurant_name")
+	private String restaurantName;
+	
+	@Column(name = "restaurant_active")
+	private Boolean restaurantActive;
+	
+	@Column(name = "product_name")
+	private String productName;
+	
+	@Column(name = "product_price", precision = 10, scale = 2)
+	private BigDecimal productPrice;
+
+}
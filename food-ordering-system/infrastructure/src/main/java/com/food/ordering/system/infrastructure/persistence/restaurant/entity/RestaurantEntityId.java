@@ -0,0 +1,25 @@
+package com.food.ordering.system.infrastructure.persistence.restaurant.entity;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class RestaurantEntityId implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+
+	private UUID restaurantId;
+	
+	private UUID productId;
+
+}
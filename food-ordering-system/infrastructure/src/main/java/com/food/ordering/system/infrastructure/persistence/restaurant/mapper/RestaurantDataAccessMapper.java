@@ -0,0 +1,46 @@
+package com.food.ordering.system.infrastructure.persistence.restaurant.mapper;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.domain.entities.Product;
+import com.food.ordering.system.domain.entities.Restaurant;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.infrastructure.persistence.restaurant.entity.RestaurantEntity;
+
+@Component
+public class RestaurantDataAccessMapper {
+	
+	public List<Restaurant> restaurantEntitiesToRestaurants(List<RestaurantEntity> restaurantEntities) {
+		Map<UUID, List<RestaurantEntity>> rowsByRestaurant = restaurantEntities.stream()
+				.collect(Collectors.groupingBy(RestaurantEntity::getRestaurantId, LinkedHashMap::new, Collectors.toList()));
+		
+		return rowsByRestaurant.values()
+				.stream()
+				.map(this::restaurantRowsToRestaurant)
+				.toList();
+	}
+	
+	private Restaurant restaurantRowsToRestaurant(List<RestaurantEntity> rows) {
+		RestaurantEntity first = rows.get(0);
+		
+		return Restaurant.builder()
+				.restaurantId(new RestaurantId(first.getRestaurantId()))
+				.active(Boolean.TRUE.equals(first.getRestaurantActive()))
+				.products(rows.stream()
+						.map(row -> new Product(
+								new ProductId(row.getProductId()), 
+								row.getProductName(), 
+								new Money(row.getProductPrice())))
+						.toList())
+				.build();
+	}
+
+}
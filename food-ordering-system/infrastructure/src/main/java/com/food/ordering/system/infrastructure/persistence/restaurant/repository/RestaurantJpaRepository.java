@@ -0,0 +1,20 @@
+package com.food.ordering.system.infrastructure.persistence.restaurant.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.food.ordering.system.infrastructure.persistence.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.infrastructure.persistence.restaurant.entity.RestaurantEntityId;
+
+@Repository
+public interface RestaurantJpaRepository extends JpaRepository<RestaurantEntity, RestaurantEntityId> {
+	
+	List<RestaurantEntity> findByRestaurantId(UUID restaurantId);
+	
+	List<RestaurantEntity> findByRestaurantIdIn(Collection<UUID> restaurantIds);
+
+}
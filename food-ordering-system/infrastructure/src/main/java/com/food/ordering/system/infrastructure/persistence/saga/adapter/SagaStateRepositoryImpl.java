@@ -0,0 +1,82 @@
+package com.food.ordering.system.infrastructure.persistence.saga.adapter;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.food.ordering.system.application.ports.output.SagaStateRepository;
+import com.food.ordering.system.application.saga.model.OrderSagaState;
+import com.food.ordering.system.infrastructure.persistence.saga.entity.SagaStateEntity;
+import com.food.ordering.system.infrastructure.persistence.saga.mapper.SagaStateDataAccessMapper;
+import com.food.ordering.system.infrastructure.persistence.saga.repository.SagaStateJpaRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class SagaStateRepositoryImpl implements SagaStateRepository {
+	
+	private final SagaStateJpaRepository sagaStateJpaRepository;
+	
+	private final SagaStateDataAccessMapper sagaStateDataAccessMapper;
+
+	@Override
+	@Transactional
+	public void createAll(Collection<OrderSagaState> sagaStates) {
+		sagaStateJpaRepository.saveAll(sagaStates.stream()
+				.map(sagaStateDataAccessMapper::orderSagaStateToSagaStateEntity)
+				.toList());
+	}
+
+	/**
+	 * Rows already loaded in this transaction are updated in place, so a step
+	 * change costs one versioned update; a saga changed concurrently by a timeout
+	 * and a response fails the later commit instead of overwriting the other.
+	 */
+	@Override
+	@Transactional
+	public void updateAll(Collection<OrderSagaState> sagaStates) {
+		if (sagaStates.isEmpty()) {
+			return;
+		}
+		
+		Map<UUID, SagaStateEntity> existing = sagaStateJpaRepository.findAllById(
+				sagaStates.stream().map(OrderSagaState::sagaId).toList())
+				.stream()
+				.collect(Collectors.toMap(SagaStateEntity::getSagaId, Function.identity()));
+		
+		for (OrderSagaState sagaState : sagaStates) {
+			SagaStateEntity sagaStateEntity = existing.get(sagaState.sagaId());
+			if (sagaStateEntity != null) {
+				sagaStateDataAccessMapper.updateSagaStateEntity(sagaStateEntity, sagaState);
+			}
+		}
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<OrderSagaState> findBySagaIds(Collection<UUID> sagaIds) {
+		if (sagaIds.isEmpty()) {
+			return List.of();
+		}
+		return sagaStateJpaRepository.findAllById(sagaIds)
+				.stream()
+				.map(sagaStateDataAccessMapper::sagaStateEntityToOrderSagaState)
+				.toList();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<UUID> findExpiredSagaIds(ZonedDateTime now, int limit) {
+		return sagaStateJpaRepository.findExpiredSagaIds(now, PageRequest.of(0, limit));
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.food.ordering.system.infrastructure.persistence.saga.entity;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import com.food.ordering.system.application.saga.model.SagaStatus;
+import com.food.ordering.system.application.saga.model.SagaStep;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "saga_state", indexes = {
+		@Index(name = "saga_state_deadline_idx", columnList = "deadline")
+})
+public class SagaStateEntity {
+	
+	@Id
+	@Column(name = "saga_id")
+	private UUID sagaId;
+	
+	@Column(name = "order_id", nullable = false)
+	private UUID orderId;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private SagaStep step;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private SagaStatus status;
+	
+	// Null once the saga has finished, so the deadline index only holds active sagas.
+	private ZonedDateTime deadline;
+	
+	@Column(name = "updated_at", nullable = false)
+	private ZonedDateTime updatedAt;
+	
+	@Column(nullable = false)
+	private int retries;
+	
+	@Version
+	private Integer version;
+
+}
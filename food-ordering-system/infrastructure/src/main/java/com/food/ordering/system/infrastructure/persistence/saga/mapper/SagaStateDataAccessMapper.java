@@ -0,0 +1,42 @@
+package com.food.ordering.system.infrastructure.persistence.saga.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.application.saga.model.OrderSagaState;
+import com.food.ordering.system.infrastructure.persistence.saga.entity.SagaStateEntity;
+
+@Component
+public class SagaStateDataAccessMapper {
+	
+	public SagaStateEntity orderSagaStateToSagaStateEntity(OrderSagaState orderSagaState) {
+		return SagaStateEntity.builder()
+				.sagaId(orderSagaState.sagaId())
+				.orderId(orderSagaState.orderId())
+				.step(orderSagaState.step())
+				.status(orderSagaState.status())
+				.deadline(orderSagaState.deadline())
+				.updatedAt(orderSagaState.updatedAt())
+				.retries(orderSagaState.retries())
+				.build();
+	}
+	
+	public void updateSagaStateEntity(SagaStateEntity sagaStateEntity, OrderSagaState orderSagaState) {
+		sagaStateEntity.setStep(orderSagaState.step());
+		sagaStateEntity.setStatus(orderSagaState.status());
+		sagaStateEntity.setDeadline(orderSagaState.deadline());
+		sagaStateEntity.setUpdatedAt(orderSagaState.updatedAt());
+		sagaStateEntity.setRetries(orderSagaState.retries());
+	}
+	
+	public OrderSagaState sagaStateEntityToOrderSagaState(SagaStateEntity sagaStateEntity) {
+		return new OrderSagaState(
+				sagaStateEntity.getSagaId(),
+				sagaStateEntity.getOrderId(),
+				sagaStateEntity.getStep(),
+				sagaStateEntity.getStatus(),
+				sagaStateEntity.getDeadline(),
+				sagaStateEntity.getUpdatedAt(),
+				sagaStateEntity.getRetries());
+	}
+
+}
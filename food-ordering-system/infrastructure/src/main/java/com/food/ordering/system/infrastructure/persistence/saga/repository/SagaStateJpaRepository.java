@@ -0,0 +1,21 @@
+package com.food.ordering.system.infrastructure.persistence.saga.repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.food.ordering.system.infrastructure.persistence.saga.entity.SagaStateEntity;
+
+@Repository
+public interface SagaStateJpaRepository extends JpaRepository<SagaStateEntity, UUID> {
+	
+	@Query("select s.sagaId from SagaStateEntity s where s.deadline <= :now order by s.deadline")
+	List<UUID> findExpiredSagaIds(@Param("now") ZonedDateTime now, Pageable pageable);
+
+}
@@ -0,0 +1,144 @@
+package com.food.ordering.system.infrastructure.persistence.tracking.adapter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.food.ordering.system.application.ports.output.OrderTrackingRepository;
+import com.food.ordering.system.application.projection.model.OrderTrackingView;
+import com.food.ordering.system.infrastructure.config.OrderTrackingCacheConfigData;
+import com.food.ordering.system.infrastructure.persistence.tracking.entity.OrderTrackingEntity;
+import com.food.ordering.system.infrastructure.persistence.tracking.mapper.OrderTrackingDataAccessMapper;
+import com.food.ordering.system.infrastructure.persistence.tracking.repository.OrderTrackingJpaRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * The order_tracking table is the durable copy of the projection; a size-bounded
+ * Caffeine cache in front of it answers repeated polls for the same tracking id.
+ * Cache entries are only written after the surrounding transaction commits, and a
+ * view never replaces a newer one. Updates applied by another instance become
+ * visible here when the local entry expires (order-tracking-cache.expire-after-write-seconds).
+ */
+@Component
+public class OrderTrackingRepositoryImpl implements OrderTrackingRepository {
+	
+	private static final String CACHE_NAME = "order-tracking";
+	
+	private final OrderTrackingJpaRepository orderTrackingJpaRepository;
+	
+	private final OrderTrackingDataAccessMapper orderTrackingDataAccessMapper;
+	
+	private final Cache<UUID, OrderTrackingView> cache;
+	
+	public OrderTrackingRepositoryImpl(OrderTrackingJpaRepository orderTrackingJpaRepository,
+			OrderTrackingDataAccessMapper orderTrackingDataAccessMapper,
+			OrderTrackingCacheConfigData orderTrackingCacheConfigData,
+			MeterRegistry meterRegistry) {
+		this.orderTrackingJpaRepository = orderTrackingJpaRepository;
+		this.orderTrackingDataAccessMapper = orderTrackingDataAccessMapper;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(orderTrackingCacheConfigData.getMaximumSize())
+				.expireAfterWrite(Duration.ofSeconds(orderTrackingCacheConfigData.getExpireAfterWriteSeconds()))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	@Override
+	@Transactional
+	public void create(OrderTrackingView orderTrackingView) {
+		createAll(List.of(orderTrackingView));
+	}
+
+	@Override
+	@Transactional
+	public void createAll(Collection<OrderTrackingView> orderTrackingViews) {
+		orderTrackingJpaRepository.saveAll(orderTrackingViews.stream()
+				.map(orderTrackingDataAccessMapper::orderTrackingViewToOrderTrackingEntity)
+				.toList());
+		
+		putAfterCommit(orderTrackingViews);
+	}
+
+	/**
+	 * Existing rows are loaded with one IN query and updated in place; rows missing
+	 * for orders created before the projection existed are inserted.
+	 */
+	@Override
+	@Transactional
+	public void updateAll(Collection<OrderTrackingView> orderTrackingViews) {
+		if (orderTrackingViews.isEmpty()) {
+			return;
+		}
+		
+		Map<UUID, OrderTrackingEntity> existing = orderTrackingJpaRepository.findAllById(
+				orderTrackingViews.stream().map(OrderTrackingView::trackingId).toList())
+				.stream()
+				.collect(Collectors.toMap(OrderTrackingEntity::getTrackingId, Function.identity()));
+		
+		List<OrderTrackingEntity> newEntities = new ArrayList<>();
+		
+		for (OrderTrackingView orderTrackingView : orderTrackingViews) {
+			OrderTrackingEntity orderTrackingEntity = existing.get(orderTrackingView.trackingId());
+			if (orderTrackingEntity == null) {
+				orderTrackingEntity = orderTrackingDataAccessMapper.orderTrackingViewToOrderTrackingEntity(orderTrackingView);
+				existing.put(orderTrackingView.trackingId(), orderTrackingEntity);
+				newEntities.add(orderTrackingEntity);
+			} else {
+				orderTrackingDataAccessMapper.updateOrderTrackingEntity(orderTrackingEntity, orderTrackingView);
+			}
+		}
+		
+		orderTrackingJpaRepository.saveAll(newEntities);
+		
+		putAfterCommit(orderTrackingViews);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<OrderTrackingView> findByTrackingId(UUID trackingId) {
+		return Optional.ofNullable(cache.get(trackingId, id -> orderTrackingJpaRepository.findById(id)
+				.map(orderTrackingDataAccessMapper::orderTrackingEntityToOrderTrackingView)
+				.orElse(null)));
+	}
+	
+	private void putAfterCommit(Collection<OrderTrackingView> orderTrackingViews) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			putAll(orderTrackingViews);
+			return;
+		}
+		
+		List<OrderTrackingView> views = List.copyOf(orderTrackingViews);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			
+			@Override
+			public void afterCommit() {
+				putAll(views);
+			}
+			
+		});
+	}
+	
+	private void putAll(Collection<OrderTrackingView> orderTrackingViews) {
+		for (OrderTrackingView orderTrackingView : orderTrackingViews) {
+			cache.asMap().merge(orderTrackingView.trackingId(), orderTrackingView, 
+					(current, updated) -> updated.updatedAt().isBefore(current.updatedAt()) ? current : updated);
+		}
+	}
+
+}
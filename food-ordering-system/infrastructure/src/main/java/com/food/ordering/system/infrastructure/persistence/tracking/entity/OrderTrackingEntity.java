@@ -0,0 +1,54 @@
+package com.food.ordering.system.infrastructure.persistence.tracking.entity;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.infrastructure.persistence.common.FailureMessagesConverter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "order_tracking")
+public class OrderTrackingEntity {
+	
+	@Id
+	@Column(name = "tracking_id")
+	private UUID trackingId;
+	
+	@Column(name = "order_id", nullable = false)
+	private UUID orderId;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(name = "order_status", nullable = false)
+	private OrderStatus orderStatus;
+	
+	@Convert(converter = FailureMessagesConverter.class)
+	@Column(name = "failure_messages", columnDefinition = "text")
+	private List<String> failureMessages;
+	
+	@Column(name = "updated_at", nullable = false)
+	private ZonedDateTime updatedAt;
+	
+	@Version
+	private Integer version;
+
+}
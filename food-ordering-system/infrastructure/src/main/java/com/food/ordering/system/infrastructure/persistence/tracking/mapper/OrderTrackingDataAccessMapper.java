@@ -0,0 +1,43 @@
+package com.food.ordering.system.infrastructure.persistence.tracking.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.application.projection.model.OrderTrackingView;
+import com.food.ordering.system.infrastructure.persistence.tracking.entity.OrderTrackingEntity;
+
+@Component
+public class OrderTrackingDataAccessMapper {
+	
+	public OrderTrackingEntity orderTrackingViewToOrderTrackingEntity(OrderTrackingView orderTrackingView) {
+		return OrderTrackingEntity.builder()
+				.trackingId(orderTrackingView.trackingId())
+				.orderId(orderTrackingView.orderId())
+				.orderStatus(orderTrackingView.orderStatus())
+				.failureMessages(copyFailureMessages(orderTrackingView.failureMessages()))
+				.updatedAt(orderTrackingView.updatedAt())
+				.build();
+	}
+	
+	public void updateOrderTrackingEntity(OrderTrackingEntity orderTrackingEntity, OrderTrackingView orderTrackingView) {
+		orderTrackingEntity.setOrderStatus(orderTrackingView.orderStatus());
+		orderTrackingEntity.setFailureMessages(copyFailureMessages(orderTrackingView.failureMessages()));
+		orderTrackingEntity.setUpdatedAt(orderTrackingView.updatedAt());
+	}
+	
+	public OrderTrackingView orderTrackingEntityToOrderTrackingView(OrderTrackingEntity orderTrackingEntity) {
+		return new OrderTrackingView(
+				orderTrackingEntity.getTrackingId(),
+				orderTrackingEntity.getOrderId(),
+				orderTrackingEntity.getOrderStatus(),
+				List.copyOf(orderTrackingEntity.getFailureMessages()),
+				orderTrackingEntity.getUpdatedAt());
+	}
+	
+	private List<String> copyFailureMessages(List<String> failureMessages) {
+		return failureMessages == null ? new ArrayList<>() : new ArrayList<>(failureMessages);
+	}
+
+}
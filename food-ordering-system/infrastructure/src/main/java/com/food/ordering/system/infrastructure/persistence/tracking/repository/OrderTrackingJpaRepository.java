@@ -0,0 +1,13 @@
+package com.food.ordering.system.infrastructure.persistence.tracking.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.food.ordering.system.infrastructure.persistence.tracking.entity.OrderTrackingEntity;
+
+@Repository
+public interface OrderTrackingJpaRepository extends JpaRepository<OrderTrackingEntity, UUID> {
+
+}
@@ -0,0 +1,180 @@
+package com.food.ordering.system.infrastructure.saga;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.food.ordering.system.application.ports.output.SagaStateRepository;
+import com.food.ordering.system.application.ports.output.SagaTimeoutScheduler;
+import com.food.ordering.system.application.saga.OrderSagaOrchestrator;
+import com.food.ordering.system.application.saga.model.SagaStep;
+import com.food.ordering.system.domain.common.DomainClock;
+import com.food.ordering.system.infrastructure.config.SagaConfigData;
+import com.food.ordering.system.infrastructure.config.SagaTimeoutExecutorConfig;
+import com.food.ordering.system.infrastructure.saga.timer.HashedTimerWheel;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the step deadlines of the sagas started or advanced on this node in a
+ * hashed timer wheel. Timers are set and cleared after the saga state commits,
+ * and expired saga ids are handed to the orchestrator in batches on the saga
+ * timeout executor, never on the wheel thread.
+ *
+ * The wheel is memory only. Sagas whose timer was lost (a restart, a full
+ * timeout queue, a step applied on another node) are found by a periodic sweep
+ * of the deadline index in saga_state, at most saga.recovery-interval-ms late.
+ */
+@Slf4j
+@Component
+public class SagaTimeoutSchedulerImpl implements SagaTimeoutScheduler, DisposableBean {
+	
+	private final SagaConfigData sagaConfigData;
+	
+	private final SagaStateRepository sagaStateRepository;
+	
+	// Resolved lazily: the orchestrator itself depends on this scheduler.
+	private final ObjectProvider<OrderSagaOrchestrator> orderSagaOrchestrator;
+	
+	private final ThreadPoolTaskExecutor sagaTimeoutExecutor;
+	
+	private final DomainClock domainClock;
+	
+	private final HashedTimerWheel<UUID> timerWheel;
+	
+	private final Counter droppedCounter;
+	
+	public SagaTimeoutSchedulerImpl(SagaConfigData sagaConfigData,
+			SagaStateRepository sagaStateRepository,
+			ObjectProvider<OrderSagaOrchestrator> orderSagaOrchestrator,
+			@Qualifier(SagaTimeoutExecutorConfig.SAGA_TIMEOUT_EXECUTOR) ThreadPoolTaskExecutor sagaTimeoutExecutor,
+			DomainClock domainClock,
+			MeterRegistry meterRegistry) {
+		this.sagaConfigData = sagaConfigData;
+		this.sagaStateRepository = sagaStateRepository;
+		this.orderSagaOrchestrator = orderSagaOrchestrator;
+		this.sagaTimeoutExecutor = sagaTimeoutExecutor;
+		this.domainClock = domainClock;
+		this.timerWheel = new HashedTimerWheel<>("saga-timer-wheel",
+				sagaConfigData.getTimerTickMs(), TimeUnit.MILLISECONDS,
+				sagaConfigData.getTimerWheelSize(),
+				this::onExpired);
+		
+		Gauge.builder("order.saga.timeouts.pending", timerWheel, HashedTimerWheel::pending)
+				.description("Saga step timeouts held by this node's timer wheel")
+				.register(meterRegistry);
+		this.droppedCounter = Counter.builder("order.saga.timeouts.dropped")
+				.description("Expired saga batches left to the recovery sweep because the timeout queue was full")
+				.register(meterRegistry);
+	}
+	
+	@Override
+	public Duration timeout(SagaStep step) {
+		return Duration.ofMillis(switch (step) {
+			case PAYMENT -> sagaConfigData.getPaymentTimeoutMs();
+			case APPROVAL -> sagaConfigData.getApprovalTimeoutMs();
+			case COMPENSATION -> sagaConfigData.getCompensationTimeoutMs();
+		});
+	}
+	
+	@Override
+	public int maxCompensationRetries() {
+		return sagaConfigData.getCompensationMaxRetries();
+	}
+	
+	@Override
+	public void schedule(UUID sagaId, ZonedDateTime deadline) {
+		afterCommit(() -> timerWheel.schedule(sagaId,
+				Duration.between(domainClock.now(), deadline.toInstant()).toMillis(), TimeUnit.MILLISECONDS));
+	}
+	
+	@Override
+	public void cancel(UUID sagaId) {
+		afterCommit(() -> timerWheel.cancel(sagaId));
+	}
+	
+	@Scheduled(fixedDelayString = "${saga.recovery-interval-ms}",
+			initialDelayString = "${saga.recovery-interval-ms}")
+	public void recoverExpired() {
+		int batchSize = sagaConfigData.getTimeoutBatchSize();
+		List<UUID> sagaIds;
+		int recovered = 0;
+		
+		do {
+			sagaIds = sagaStateRepository.findExpiredSagaIds(domainClock.now().atZone(DomainClock.ZONE), batchSize);
+			if (sagaIds.isEmpty()) {
+				break;
+			}
+			if (!timedOut(sagaIds)) {
+				break;
+			}
+			recovered += sagaIds.size();
+		} while (sagaIds.size() == batchSize);
+		
+		if (recovered > 0) {
+			log.info("Recovered {} expired sagas without a local timer", recovered);
+		}
+	}
+	
+	@Override
+	public void destroy() {
+		timerWheel.stop();
+	}
+	
+	private void onExpired(List<UUID> sagaIds) {
+		int batchSize = sagaConfigData.getTimeoutBatchSize();
+		
+		for (int from = 0; from < sagaIds.size(); from += batchSize) {
+			List<UUID> batch = List.copyOf(sagaIds.subList(from, Math.min(from + batchSize, sagaIds.size())));
+			try {
+				sagaTimeoutExecutor.execute(() -> timedOut(batch));
+			} catch (RejectedExecutionException e) {
+				droppedCounter.increment();
+				log.warn("Saga timeout queue is full, {} expired sagas are left to the recovery sweep", batch.size());
+			}
+		}
+	}
+	
+	private boolean timedOut(List<UUID> sagaIds) {
+		try {
+			orderSagaOrchestrator.getObject().sagasTimedOut(sagaIds);
+			return true;
+		} catch (RuntimeException e) {
+			// Typically another node applied the same sagas first; whatever is still expired is retried by the sweep.
+			log.warn("Could not time out {} sagas: {}", sagaIds.size(), e.getMessage());
+			return false;
+		}
+	}
+	
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		
+		});
+	}
+
+}
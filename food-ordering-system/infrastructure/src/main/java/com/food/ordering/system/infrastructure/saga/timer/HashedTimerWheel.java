@@ -0,0 +1,261 @@
+package com.food.ordering.system.infrastructure.saga.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hashed timing wheel (Varghese and Lauck): one thread advances a ring of
+ * buckets every tick and expires the timeouts in the current bucket; a timeout
+ * further away than one turn waits in its bucket for the remaining rounds.
+ * Scheduling and cancelling are O(1) and only enqueue work for the wheel thread,
+ * so millions of pending timeouts cost one small node each and no thread.
+ *
+ * There is at most one timeout per key: scheduling a key again replaces it.
+ * Keys that expire in the same tick are handed to the expiry handler together,
+ * on the wheel thread, so the handler must not block.
+ */
+@Slf4j
+public class HashedTimerWheel<K> {
+	
+	private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+	
+	private final long tickNanos;
+	
+	private final Bucket<K>[] wheel;
+	
+	private final int mask;
+	
+	private final Consumer<List<K>> expiryHandler;
+	
+	private final ConcurrentHashMap<K, Timeout<K>> timeouts = new ConcurrentHashMap<>();
+	
+	private final Queue<Timeout<K>> scheduled = new ConcurrentLinkedQueue<>();
+	
+	private final Queue<Timeout<K>> cancelled = new ConcurrentLinkedQueue<>();
+	
+	private final Thread worker;
+	
+	private final long startTime;
+	
+	private volatile boolean running = true;
+	
+	private long tick;
+	
+	@SuppressWarnings("unchecked")
+	public HashedTimerWheel(String name, long tickDuration, TimeUnit unit, int wheelSize, Consumer<List<K>> expiryHandler) {
+		if (tickDuration <= 0 || wheelSize <= 0) {
+			throw new IllegalArgumentException("Tick duration and wheel size must be greater than 0.");
+		}
+		
+		int size = Integer.highestOneBit(wheelSize - 1) << 1;
+		size = size == 0 ? 1 : size;
+		
+		this.tickNanos = unit.toNanos(tickDuration);
+		this.wheel = new Bucket[size];
+		for (int i = 0; i < size; i++) {
+			wheel[i] = new Bucket<>();
+		}
+		this.mask = size - 1;
+		this.expiryHandler = expiryHandler;
+		this.startTime = System.nanoTime();
+		this.worker = new Thread(this::run, name);
+		this.worker.setDaemon(true);
+		this.worker.start();
+	}
+	
+	public void schedule(K key, long delay, TimeUnit unit) {
+		if (!running) {
+			throw new IllegalStateException("Timer wheel is stopped.");
+		}
+		
+		Timeout<K> timeout = new Timeout<>(key, System.nanoTime() - startTime + Math.max(0, unit.toNanos(delay)));
+		
+		Timeout<K> replaced = timeouts.put(key, timeout);
+		if (replaced != null && replaced.cancel()) {
+			cancelled.add(replaced);
+		}
+		
+		scheduled.add(timeout);
+	}
+	
+	public void cancel(K key) {
+		Timeout<K> timeout = timeouts.remove(key);
+		if (timeout != null && timeout.cancel()) {
+			cancelled.add(timeout);
+		}
+	}
+	
+	public int pending() {
+		return timeouts.size();
+	}
+	
+	public void stop() {
+		running = false;
+		worker.interrupt();
+	}
+	
+	private void run() {
+		while (running) {
+			long deadline = tickNanos * (tick + 1);
+			long sleepNanos;
+			while ((sleepNanos = deadline - (System.nanoTime() - startTime)) > 0) {
+				LockSupport.parkNanos(this, sleepNanos);
+				if (!running) {
+					return;
+				}
+			}
+			
+			try {
+				removeCancelled();
+				transferScheduled();
+				expire(wheel[(int) (tick & mask)]);
+			} catch (RuntimeException e) {
+				log.error("Timer wheel tick {} failed", tick, e);
+			}
+			tick++;
+		}
+	}
+	
+	private void removeCancelled() {
+		Timeout<K> timeout;
+		while ((timeout = cancelled.poll()) != null) {
+			if (timeout.bucket != null) {
+				timeout.bucket.remove(timeout);
+			}
+		}
+	}
+	
+	private void transferScheduled() {
+		for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+			Timeout<K> timeout = scheduled.poll();
+			if (timeout == null) {
+				return;
+			}
+			if (timeout.state != Timeout.PENDING) {
+				continue;
+			}
+			
+			long expiresAtTick = timeout.deadline / tickNanos;
+			timeout.remainingRounds = (expiresAtTick - tick) / wheel.length;
+			
+			// Deadlines already in the past go into the current bucket.
+			wheel[(int) (Math.max(expiresAtTick, tick) & mask)].add(timeout);
+		}
+	}
+	
+	private void expire(Bucket<K> bucket) {
+		List<K> expired = null;
+		
+		Timeout<K> timeout = bucket.head;
+		while (timeout != null) {
+			Timeout<K> next = timeout.next;
+			if (timeout.state == Timeout.CANCELLED) {
+				bucket.remove(timeout);
+			} else if (timeout.remainingRounds <= 0) {
+				bucket.remove(timeout);
+				if (timeout.expire() && timeouts.remove(timeout.key, timeout)) {
+					if (expired == null) {
+						expired = new ArrayList<>();
+					}
+					expired.add(timeout.key);
+				}
+			} else {
+				timeout.remainingRounds--;
+			}
+			timeout = next;
+		}
+		
+		if (expired != null) {
+			expiryHandler.accept(expired);
+		}
+	}
+	
+	private static final class Timeout<K> {
+		
+		private static final int PENDING = 0;
+		private static final int CANCELLED = 1;
+		private static final int EXPIRED = 2;
+		
+		@SuppressWarnings("rawtypes")
+		private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+				AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+		
+		private final K key;
+		
+		// Nanoseconds since the wheel started.
+		private final long deadline;
+		
+		private volatile int state = PENDING;
+		
+		// The fields below are only touched by the wheel thread.
+		private long remainingRounds;
+		
+		private Bucket<K> bucket;
+		
+		private Timeout<K> prev;
+		
+		private Timeout<K> next;
+		
+		private Timeout(K key, long deadline) {
+			this.key = key;
+			this.deadline = deadline;
+		}
+		
+		private boolean cancel() {
+			return STATE.compareAndSet(this, PENDING, CANCELLED);
+		}
+		
+		private boolean expire() {
+			return STATE.compareAndSet(this, PENDING, EXPIRED);
+		}
+	
+	}
+	
+	private static final class Bucket<K> {
+		
+		private Timeout<K> head;
+		
+		private Timeout<K> tail;
+		
+		private void add(Timeout<K> timeout) {
+			timeout.bucket = this;
+			if (head == null) {
+				head = tail = timeout;
+			} else {
+				tail.next = timeout;
+				timeout.prev = tail;
+				tail = timeout;
+			}
+		}
+		
+		private void remove(Timeout<K> timeout) {
+			if (timeout.bucket != this) {
+				return;
+			}
+			if (timeout.prev == null) {
+				head = timeout.next;
+			} else {
+				timeout.prev.next = timeout.next;
+			}
+			if (timeout.next == null) {
+				tail = timeout.prev;
+			} else {
+				timeout.next.prev = timeout.prev;
+			}
+			timeout.prev = null;
+			timeout.next = null;
+			timeout.bucket = null;
+		}
+	
+	}
+
+}
@@ -0,0 +1,202 @@
+package com.food.ordering.system.infrastructure.event.ring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RingBufferTest {
+	
+	private static final long TIMEOUT_SECONDS = 5;
+	
+	private RingBuffer<Integer> ringBuffer;
+	
+	@AfterEach
+	void stop() {
+		if (ringBuffer != null) {
+			ringBuffer.stop();
+		}
+	}
+	
+	@Test
+	void rejectsSizesThatAreNotAPowerOfTwo() {
+		WaitStrategy waitStrategy = WaitStrategy.of(WaitStrategy.Type.BLOCKING);
+		
+		assertThrows(IllegalArgumentException.class, () -> new RingBuffer<Integer>(6, 4, waitStrategy));
+		assertThrows(IllegalArgumentException.class, () -> new RingBuffer<Integer>(0, 4, waitStrategy));
+		assertThrows(IllegalArgumentException.class, () -> new RingBuffer<Integer>(8, 0, waitStrategy));
+	}
+	
+	@Test
+	void producerWaitsWhileTheSlowestSubscriberIsAWholeRingBehind() throws Exception {
+		ringBuffer = new RingBuffer<>(4, 4, WaitStrategy.of(WaitStrategy.Type.BLOCKING));
+		CountDownLatch firstBatch = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Collector fast = new Collector();
+		Collector slow = new Collector() {
+			@Override
+			public void accept(List<Integer> batch) {
+				firstBatch.countDown();
+				await(release);
+				super.accept(batch);
+			}
+		};
+		ringBuffer.subscribe("fast", fast);
+		ringBuffer.subscribe("slow", slow);
+		
+		ringBuffer.publish(0);
+		assertTrue(firstBatch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		for (int i = 1; i < 4; i++) {
+			ringBuffer.publish(i);
+		}
+		
+		// The slow subscriber still holds sequence 0, so the ring is full.
+		CompletableFuture<Void> wrapping = CompletableFuture.runAsync(() -> {
+			ringBuffer.publish(4);
+			ringBuffer.publish(5);
+		});
+		assertThrows(TimeoutException.class, () -> wrapping.get(200, TimeUnit.MILLISECONDS));
+		assertEquals(4, fast.awaitCount(4).size());
+		assertEquals(4, ringBuffer.backlog());
+		
+		release.countDown();
+		wrapping.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		
+		assertEquals(List.of(0, 1, 2, 3, 4, 5), slow.awaitCount(6));
+		assertEquals(List.of(0, 1, 2, 3, 4, 5), fast.awaitCount(6));
+	}
+	
+	@Test
+	void everySubscriberSeesEveryProducerInPublishOrder() throws Exception {
+		int producers = 4;
+		int perProducer = 5_000;
+		ringBuffer = new RingBuffer<>(64, 16, WaitStrategy.of(WaitStrategy.Type.YIELDING));
+		Collector first = new Collector();
+		Collector second = new Collector();
+		ringBuffer.subscribe("first", first);
+		ringBuffer.subscribe("second", second);
+		
+		CountDownLatch start = new CountDownLatch(1);
+		List<CompletableFuture<Void>> publishing = IntStream.range(0, producers)
+				.mapToObj(producer -> CompletableFuture.runAsync(() -> {
+					await(start);
+					for (int i = 0; i < perProducer; i++) {
+						ringBuffer.publish(producer * perProducer + i);
+					}
+				}))
+				.toList();
+		start.countDown();
+		CompletableFuture.allOf(publishing.toArray(CompletableFuture[]::new)).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		
+		List<Integer> seenByFirst = first.awaitCount(producers * perProducer);
+		assertEquals(seenByFirst, second.awaitCount(producers * perProducer));
+		
+		// Producers interleave, but each one's events keep the order they were published in.
+		int[] lastSeen = new int[producers];
+		Arrays.fill(lastSeen, -1);
+		for (int event : seenByFirst) {
+			int producer = event / perProducer;
+			assertTrue(event % perProducer > lastSeen[producer], "out of order: " + event);
+			lastSeen[producer] = event % perProducer;
+		}
+		for (int producer = 0; producer < producers; producer++) {
+			assertEquals(perProducer - 1, lastSeen[producer]);
+		}
+	}
+	
+	@Test
+	void batchesAreCappedAndPublishAllLargerThanTheRingStaysInOrder() throws Exception {
+		ringBuffer = new RingBuffer<>(8, 3, WaitStrategy.of(WaitStrategy.Type.SLEEPING));
+		List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+		Collector collector = new Collector() {
+			@Override
+			public void accept(List<Integer> batch) {
+				batchSizes.add(batch.size());
+				super.accept(batch);
+			}
+		};
+		ringBuffer.subscribe("batches", collector);
+		
+		List<Integer> events = IntStream.range(0, 20).boxed().toList();
+		ringBuffer.publishAll(events);
+		
+		assertEquals(events, collector.awaitCount(20));
+		assertTrue(batchSizes.stream().allMatch(size -> size >= 1 && size <= 3), "batch sizes: " + batchSizes);
+		assertEquals(20, batchSizes.stream().mapToInt(Integer::intValue).sum());
+	}
+	
+	@Test
+	void failingBatchDoesNotStopTheSubscriber() throws Exception {
+		ringBuffer = new RingBuffer<>(8, 1, WaitStrategy.of(WaitStrategy.Type.BUSY_SPIN));
+		Collector collector = new Collector() {
+			@Override
+			public void accept(List<Integer> batch) {
+				if (batch.contains(0)) {
+					throw new IllegalStateException("handler failed");
+				}
+				super.accept(batch);
+			}
+		};
+		ringBuffer.subscribe("failing", collector);
+		
+		ringBuffer.publishAll(List.of(0, 1, 2));
+		
+		assertEquals(List.of(1, 2), collector.awaitCount(2));
+	}
+	
+	@Test
+	void publishAfterStopIsRejected() {
+		ringBuffer = new RingBuffer<>(8, 4, WaitStrategy.of(WaitStrategy.Type.BLOCKING));
+		ringBuffer.subscribe("stopped", new Collector());
+		
+		ringBuffer.stop();
+		
+		assertThrows(IllegalStateException.class, () -> ringBuffer.publish(1));
+		assertThrows(IllegalStateException.class, () -> ringBuffer.publishAll(List.of(1, 2)));
+	}
+	
+	private static void await(CountDownLatch latch) {
+		try {
+			if (!latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("Latch was not released.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static class Collector implements Consumer<List<Integer>> {
+		
+		private final List<Integer> events = new CopyOnWriteArrayList<>();
+		
+		@Override
+		public void accept(List<Integer> batch) {
+			events.addAll(batch);
+		}
+		
+		private List<Integer> awaitCount(int count) throws InterruptedException {
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+			while (events.size() < count && System.nanoTime() < deadline) {
+				Thread.sleep(5);
+			}
+			assertTrue(events.size() >= count, "received " + events.size() + " of " + count);
+			return new ArrayList<>(events);
+		}
+	
+	}
+
+}
@@ -0,0 +1,97 @@
+package com.food.ordering.system.infrastructure.messaging.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.food.ordering.system.domain.valueobject.Money;
+
+class MoneyDecimalCodecTest {
+	
+	@ParameterizedTest(name = "{0} cents")
+	@ValueSource(longs = {
+		0, 1, -1,
+		// Each pair sits on either side of a byte-length boundary.
+		127, 128, -128, -129,
+		255, 256,
+		32_767, 32_768, -32_768, -32_769,
+		8_388_607, 8_388_608, -8_388_608, -8_388_609,
+		2_147_483_647, 2_147_483_648L, -2_147_483_648L, -2_147_483_649L,
+		// decimal(10,2) limits.
+		9_999_999_999L, -9_999_999_999L
+	})
+	void roundTripsWithTheMinimalTwosComplementEncoding(long cents) {
+		Money money = Money.ofCents(cents);
+		
+		ByteBuffer encoded = MoneyDecimalCodec.toAvro(money);
+		
+		// Same bytes as Avro's own decimal conversion, which uses BigInteger.toByteArray().
+		assertArrayEquals(BigInteger.valueOf(cents).toByteArray(), remaining(encoded));
+		assertEquals(money, MoneyDecimalCodec.fromAvro(encoded));
+	}
+	
+	@Test
+	void decodingLeavesTheBufferPosition() {
+		ByteBuffer encoded = MoneyDecimalCodec.toAvro(Money.ofCents(-32_769));
+		int position = encoded.position();
+		
+		MoneyDecimalCodec.fromAvro(encoded);
+		
+		assertEquals(position, encoded.position());
+	}
+	
+	@Test
+	void reusedBufferOnlyExposesTheLastValue() {
+		byte[] backing = new byte[4 + MoneyDecimalCodec.MAX_LENGTH];
+		ByteBuffer reuse = ByteBuffer.wrap(backing, 4, MoneyDecimalCodec.MAX_LENGTH).slice();
+		
+		MoneyDecimalCodec.toAvro(Money.ofCents(9_999_999_999L), reuse);
+		ByteBuffer encoded = MoneyDecimalCodec.toAvro(Money.ofCents(-1), reuse);
+		
+		assertArrayEquals(new byte[] { (byte) 0xff }, remaining(encoded));
+		assertEquals(Money.ofCents(-1), MoneyDecimalCodec.fromAvro(encoded));
+	}
+	
+	@Test
+	void amountsOutsideDecimalTenTwoAreRejected() {
+		assertThrows(IllegalArgumentException.class, () -> MoneyDecimalCodec.toAvro(Money.ofCents(10_000_000_000L)));
+		assertThrows(IllegalArgumentException.class, () -> MoneyDecimalCodec.toAvro(Money.ofCents(-10_000_000_000L)));
+	}
+	
+	@Test
+	void emptyDecimalIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> MoneyDecimalCodec.fromAvro(ByteBuffer.allocate(0)));
+	}
+	
+	@Test
+	void encodingsLongerThanEightBytesFallBackToBigDecimal() {
+		// Sign-extended by another writer, but still 12.34 and -12.34.
+		byte[] positive = { 0, 0, 0, 0, 0, 0, 0, 0, 0x04, (byte) 0xd2 };
+		byte[] negative = { (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff,
+				(byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xfb, 0x2e };
+		
+		assertEquals(Money.ofCents(1234), MoneyDecimalCodec.fromAvro(ByteBuffer.wrap(positive)));
+		assertEquals(Money.ofCents(-1234), MoneyDecimalCodec.fromAvro(ByteBuffer.wrap(negative)));
+	}
+	
+	@Test
+	void encodingsBeyondTheLongRangeAreRejected() {
+		ByteBuffer tooLarge = ByteBuffer.wrap(BigInteger.ONE.shiftLeft(64).toByteArray());
+		
+		assertThrows(ArithmeticException.class, () -> MoneyDecimalCodec.fromAvro(tooLarge));
+	}
+	
+	private static byte[] remaining(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.duplicate().get(bytes);
+		return bytes;
+	}
+
+}
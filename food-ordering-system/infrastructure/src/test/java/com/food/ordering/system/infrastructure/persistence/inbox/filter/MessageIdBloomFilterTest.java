@@ -0,0 +1,99 @@
+package com.food.ordering.system.infrastructure.persistence.inbox.filter;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class MessageIdBloomFilterTest {
+	
+	// Fixed seed, so the false positive count is the same on every run.
+	private final Random random = new Random(42);
+	
+	@Test
+	void emptyFilterContainsNothing() {
+		MessageIdBloomFilter filter = MessageIdBloomFilter.create(1_000, 0.01);
+		
+		for (UUID messageId : messageIds(1_000)) {
+			assertFalse(filter.mightContain(messageId));
+		}
+	}
+	
+	@Test
+	void everyPutIdIsFound() {
+		MessageIdBloomFilter filter = MessageIdBloomFilter.create(10_000, 0.01);
+		List<UUID> messageIds = messageIds(10_000);
+		
+		messageIds.forEach(filter::put);
+		
+		for (UUID messageId : messageIds) {
+			assertTrue(filter.mightContain(messageId), "false negative for " + messageId);
+		}
+	}
+	
+	@Test
+	void falsePositiveRateStaysNearTheConfiguredRate() {
+		MessageIdBloomFilter filter = MessageIdBloomFilter.create(10_000, 0.01);
+		messageIds(10_000).forEach(filter::put);
+		
+		long falsePositives = messageIds(100_000).stream().filter(filter::mightContain).count();
+		
+		assertTrue(falsePositives < 2_000, "false positives: " + falsePositives + " of 100000");
+	}
+	
+	@Test
+	void sequentialUuidsSpreadOverTheFilter() {
+		// Ids that differ only in their low bits must not share probe positions.
+		MessageIdBloomFilter filter = MessageIdBloomFilter.create(1_000, 0.01);
+		for (long i = 0; i < 1_000; i++) {
+			filter.put(new UUID(0, i));
+		}
+		
+		long falsePositives = IntStream.range(1_000, 11_000)
+				.filter(i -> filter.mightContain(new UUID(0, i)))
+				.count();
+		
+		assertTrue(falsePositives < 200, "false positives: " + falsePositives + " of 10000");
+	}
+	
+	@Test
+	void concurrentPutsAreNotLost() throws Exception {
+		MessageIdBloomFilter filter = MessageIdBloomFilter.create(40_000, 0.01);
+		List<List<UUID>> perThread = IntStream.range(0, 4).mapToObj(i -> messageIds(10_000)).toList();
+		
+		CompletableFuture.allOf(perThread.stream()
+				.map(messageIds -> CompletableFuture.runAsync(() -> messageIds.forEach(filter::put)))
+				.toArray(CompletableFuture[]::new))
+				.get(10, TimeUnit.SECONDS);
+		
+		for (List<UUID> messageIds : perThread) {
+			for (UUID messageId : messageIds) {
+				assertTrue(filter.mightContain(messageId), "lost put for " + messageId);
+			}
+		}
+	}
+	
+	@Test
+	void zeroExpectedInsertionsStillHoldsIds() {
+		MessageIdBloomFilter filter = MessageIdBloomFilter.create(0, 0.01);
+		UUID messageId = UUID.randomUUID();
+		
+		filter.put(messageId);
+		
+		assertTrue(filter.mightContain(messageId));
+	}
+	
+	private List<UUID> messageIds(int count) {
+		return IntStream.range(0, count)
+				.mapToObj(i -> new UUID(random.nextLong(), random.nextLong()))
+				.toList();
+	}
+
+}